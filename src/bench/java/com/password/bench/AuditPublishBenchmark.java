@@ -0,0 +1,64 @@
+package com.password.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.password.core.audit.AuditConfiguration;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.domain.expression.PasswordRules;
+import com.password.model.PasswordResponseStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of recording an audit event on the request thread, with four
+ * producers racing for the ring while the writer drains it to disk.
+ * Events dropped because the writer fell behind show in the
+ * password.audit.dropped gauge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class AuditPublishBenchmark {
+
+    private AuditLog auditLog;
+
+    @Setup
+    public void setUp() throws IOException {
+        var configuration = new AuditConfiguration();
+        configuration.setPath(Files.createTempDirectory("audit-bench").toString());
+        configuration.setMaxFiles(2);
+        auditLog = new AuditLog(configuration, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        auditLog.close();
+    }
+
+    @Benchmark
+    public boolean publish() {
+        return auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, PasswordResponseStatus.VALID,
+                PasswordRules.PASSWORD_IS_VALID, 200, 42_000);
+    }
+}
@@ -0,0 +1,142 @@
+package com.password.bench;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.password.grpc.PasswordReply;
+import com.password.grpc.PasswordServiceGrpc;
+import com.password.grpc.ValidatePasswordRequest;
+import com.password.model.PasswordResponse;
+import com.password.model.ValidateRequest;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.io.socket.SocketUtils;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.BlockingHttpClient;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.runtime.server.EmbeddedServer;
+
+/**
+ * Regex validation over REST (JSON on HTTP/1.1) against gRPC, unary and
+ * bidirectional streaming, from a local client on the same machine. Throughput
+ * mode gives calls per microsecond, sample mode the p99 latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class GrpcValidateBenchmark {
+
+    static final int STREAM_BATCH = 100;
+    private static final String PASSWORD = "SecurePass123!";
+
+    private EmbeddedServer server;
+    private HttpClient httpClient;
+    private BlockingHttpClient rest;
+    private ManagedChannel channel;
+    private PasswordServiceGrpc.PasswordServiceBlockingStub grpc;
+    private PasswordServiceGrpc.PasswordServiceStub grpcAsync;
+
+    @Setup
+    public void setUp() {
+        // Every request logs, keep console output out of the measurement
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.ERROR);
+
+        var grpcPort = SocketUtils.findAvailableTcpPort();
+        server = ApplicationContext.run(EmbeddedServer.class, Map.of(
+                "grpc.server.port", grpcPort,
+                "langchain4j.open-ai.api-key", "benchmark",
+                "password.ai.backends.primary.api-key", "benchmark",
+                "password.warmup.enabled", false,
+                "password.audit.enabled", false,
+                "password.ai.verdict-cache.store.enabled", false));
+
+        httpClient = HttpClient.create(server.getURL());
+        rest = httpClient.toBlocking();
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcPort).usePlaintext().build();
+        grpc = PasswordServiceGrpc.newBlockingStub(channel);
+        grpcAsync = PasswordServiceGrpc.newStub(channel);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+        httpClient.close();
+        server.getApplicationContext().close();
+    }
+
+    @Benchmark
+    public PasswordResponse rest() {
+        var request = new ValidateRequest();
+        request.setPassword(PASSWORD);
+        return rest.retrieve(HttpRequest.POST("/validate", request), PasswordResponse.class);
+    }
+
+    @Benchmark
+    public PasswordReply grpcUnary() {
+        return grpc.validate(ValidatePasswordRequest.newBuilder().setPassword(PASSWORD).build());
+    }
+
+    /**
+     * One stream per invocation, {@value #STREAM_BATCH} validations on it
+     */
+    @Benchmark
+    @OperationsPerInvocation(STREAM_BATCH)
+    public void grpcStream() throws InterruptedException {
+        var replies = new CountDownLatch(STREAM_BATCH);
+        var failure = new AtomicReference<Throwable>();
+        var requests = grpcAsync.validateStream(new StreamObserver<>() {
+            @Override
+            public void onNext(PasswordReply reply) {
+                replies.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                failure.set(throwable);
+                while (replies.getCount() > 0) {
+                    replies.countDown();
+                }
+            }
+
+            @Override
+            public void onCompleted() {
+                // Every reply was counted
+            }
+        });
+        for (int i = 0; i < STREAM_BATCH; i++) {
+            requests.onNext(ValidatePasswordRequest.newBuilder().setId(i).setPassword(PASSWORD).build());
+        }
+        requests.onCompleted();
+        replies.await();
+        if (failure.get() != null) {
+            throw new IllegalStateException(failure.get());
+        }
+    }
+}
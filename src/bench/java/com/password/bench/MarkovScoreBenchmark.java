@@ -0,0 +1,72 @@
+package com.password.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.password.domain.markov.MarkovModel;
+import com.password.domain.markov.MarkovTrainer;
+
+/**
+ * Cost of scoring one password with the memory-mapped Markov model. Uses
+ * {@code -Dmarkov.model=<file>} when given, otherwise trains an order 3 model
+ * on a synthetic wordlist of printable ASCII.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkovScoreBenchmark {
+
+    @Param({ "SecurePass123!", "password1", "Xq7$Lm@9vR!zXq7$Lm@9vR!zXq7$Lm@9vR!z" })
+    public String password;
+
+    private MarkovModel model;
+
+    @Setup
+    public void setUp() throws IOException {
+        var configured = System.getProperty("markov.model");
+        if (configured != null) {
+            model = MarkovModel.open(Path.of(configured));
+            return;
+        }
+
+        var directory = Files.createTempDirectory("markov-bench");
+        var random = new SplittableRandom(42);
+        var words = new ArrayList<String>();
+        for (int i = 0; i < 200_000; i++) {
+            var word = new StringBuilder();
+            var length = 6 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                word.append((char) (' ' + 1 + random.nextInt(94)));
+            }
+            words.add(word.toString());
+        }
+        var wordlist = Files.write(directory.resolve("wordlist.txt"), words);
+        var file = directory.resolve("markov.bin");
+        new MarkovTrainer(3, 0.01).train(wordlist, file);
+        model = MarkovModel.open(file);
+    }
+
+    @Benchmark
+    public double score() {
+        return model.guessesLog10(password);
+    }
+}
@@ -0,0 +1,54 @@
+package com.password.bench;
+
+import java.text.Normalizer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.password.domain.expression.PasswordNormalizer;
+
+/**
+ * Cost of the normalization stage ahead of the rules: the table-driven
+ * {@link PasswordNormalizer} against calling {@link Normalizer} on every
+ * password. The ASCII case is the one that matters, it should cost no more
+ * than a pass over the chars.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NormalizationBenchmark {
+
+    // ASCII, Cyrillic look-alikes, fullwidth, combining accent
+    @Param({ "SecurePass123!", "SеcurеPass123!", "ＳecurePass１２３!", "Se\u0301curePass123!" })
+    public String password;
+
+    private PasswordNormalizer normalizer;
+
+    @Setup
+    public void setUp() {
+        normalizer = PasswordNormalizer.DEFAULT;
+    }
+
+    @Benchmark
+    public String tables() {
+        return normalizer.normalize(password);
+    }
+
+    @Benchmark
+    public String normalizerOnly() {
+        return Normalizer.normalize(password, Normalizer.Form.NFKC);
+    }
+}
@@ -0,0 +1,85 @@
+package com.password.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.password.domain.expression.AlphabetConfiguration;
+import com.password.domain.expression.PasswordAlphabet;
+import com.password.domain.passphrase.PassphraseConfiguration;
+import com.password.domain.passphrase.PassphraseGenerator;
+import com.password.domain.passphrase.WordlistCompiler;
+
+/**
+ * Cost of generating one passphrase from the memory-mapped wordlist, on 4
+ * threads to show that the per-thread DRBGs do not contend. Uses
+ * {@code -Dpassphrase.wordlist=<text file>} when given, otherwise a synthetic
+ * list of 7776 words.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class PassphraseBenchmark {
+
+    @Param({ "4", "6", "10" })
+    public int words;
+
+    @Param({ "true", "false" })
+    public boolean decorate;
+
+    private PassphraseGenerator generator;
+    private PassphraseGenerator.Options options;
+
+    @Setup
+    public void setUp() throws IOException {
+        var directory = Files.createTempDirectory("passphrase-bench");
+        var configured = System.getProperty("passphrase.wordlist");
+        Path text;
+        if (configured != null) {
+            text = Path.of(configured);
+        } else {
+            var lines = new ArrayList<String>();
+            for (int i = 0; i < 7776; i++) {
+                var word = new StringBuilder("w");
+                for (int n = i; word.length() < 4; n /= 26) {
+                    word.append((char) ('a' + n % 26));
+                }
+                lines.add(word.toString());
+            }
+            text = Files.write(directory.resolve("wordlist.txt"), lines);
+        }
+        var file = directory.resolve("words.bin");
+        WordlistCompiler.compile(text, file);
+
+        var configuration = new PassphraseConfiguration();
+        configuration.setWordlistPath(file.toString());
+        var alphabetConfiguration = new AlphabetConfiguration();
+        generator = new PassphraseGenerator(configuration, alphabetConfiguration,
+                new PasswordAlphabet(alphabetConfiguration));
+        options = generator.options(words, null, decorate);
+    }
+
+    @Benchmark
+    public String generate() {
+        return generator.generate(options);
+    }
+}
@@ -0,0 +1,95 @@
+package com.password.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.password.core.PasswordJsonDecoder;
+import com.password.domain.expression.PasswordRules;
+import com.password.domain.expression.PasswordValidator;
+import com.password.model.ValidateRequest;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micronaut.buffer.netty.NettyByteBufferFactory;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Cost of getting from the /validate request body to a rule outcome: Serde
+ * binding to ValidateRequest and checking the String, against decoding the
+ * password in place into a reused char[] as /validate/fast does. Both read
+ * the same pooled direct buffer, like Netty hands it over.
+ * Run with -prof gc to compare allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidateBindingBenchmark {
+
+    @Param({ "SecurePass123!", "short", "nv77678Klsd!nv77678Klsd!nv77678Klsd!nv77678Klsd!" })
+    public String password;
+
+    private PasswordValidator passwordValidator;
+    private JsonMapper jsonMapper;
+    private ByteBuf body;
+    private ByteBuffer<ByteBuf> wrapped;
+    private char[] buffer;
+
+    @Setup
+    public void setUp() {
+        // Both paths log the same lines; keep console output out of the measurement
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.ERROR);
+
+        passwordValidator = new PasswordValidator();
+        jsonMapper = JsonMapper.createDefault();
+        body = PooledByteBufAllocator.DEFAULT.directBuffer();
+        body.writeCharSequence("{\"password\": \"" + password + "\"}", StandardCharsets.UTF_8);
+        wrapped = NettyByteBufferFactory.DEFAULT.wrap(body);
+        buffer = new char[128];
+    }
+
+    @TearDown
+    public void tearDown() {
+        body.release();
+    }
+
+    @Benchmark
+    public PasswordRules binding() throws IOException {
+        var request = jsonMapper.readValue(wrapped, Argument.of(ValidateRequest.class));
+        return passwordValidator.check(request.getPassword());
+    }
+
+    @Benchmark
+    public PasswordRules zeroCopy() {
+        try {
+            var length = PasswordJsonDecoder.decode(body, buffer);
+            return length == PasswordJsonDecoder.MISSING ? passwordValidator.check(null, 0)
+                    : passwordValidator.check(buffer, length);
+        } finally {
+            Arrays.fill(buffer, '\0');
+        }
+    }
+}
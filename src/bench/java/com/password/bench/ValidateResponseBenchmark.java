@@ -0,0 +1,69 @@
+package com.password.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.password.domain.expression.PasswordResponseTemplates;
+import com.password.domain.expression.PasswordValidator;
+import com.password.model.PasswordResponse;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+
+/**
+ * Cost of producing the /validate response body: echo mode (new response,
+ * serialized by Serde) against compact mode (pre-encoded template).
+ * Run with -prof gc to compare allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidateResponseBenchmark {
+
+    @Param({ "SecurePass123!", "short", "securepass123!" })
+    public String password;
+
+    private PasswordValidator passwordValidator;
+    private PasswordResponseTemplates passwordResponseTemplates;
+    private JsonMapper jsonMapper;
+
+    @Setup
+    public void setUp() {
+        // Both modes log the same lines; keep console output out of the measurement
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.ERROR);
+
+        jsonMapper = JsonMapper.createDefault();
+        passwordValidator = new PasswordValidator();
+        passwordResponseTemplates = new PasswordResponseTemplates(jsonMapper);
+    }
+
+    @Benchmark
+    public byte[] echo() throws IOException {
+        var response = passwordValidator.validate(password);
+        return jsonMapper.writeValueAsBytes(Argument.of(PasswordResponse.class), response);
+    }
+
+    @Benchmark
+    public byte[] compact() {
+        return passwordResponseTemplates.of(passwordValidator.check(password)).getJson();
+    }
+}
@@ -1,12 +1,27 @@
 package com.password.controller;
 
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.annotation.Controller;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 
 import com.password.api.AiPasswordApi;
 import com.password.core.HttpResponseUtils;
+import com.password.core.RequestDeadlines;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.core.stats.LatencyStats;
 import com.password.domain.ai.creator.AIPasswordCreatorDecorator;
+import com.password.domain.ai.deadline.DeadlineConfiguration;
+import com.password.domain.ai.deadline.DeadlineExceededException;
+import com.password.domain.ai.limit.AdaptiveConcurrencyLimiter;
+import com.password.domain.ai.limit.AiConcurrencyLimiters;
+import com.password.domain.ai.quota.QuotaExceededException;
 import com.password.domain.ai.validator.AIPasswordValidatorDecorator;
+import com.password.domain.expression.PasswordValidator;
 import com.password.model.PasswordResponse;
 import com.password.model.PasswordResponseStatus;
 import com.password.model.ValidateRequest;
@@ -18,45 +33,185 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Controller
 @RequiredArgsConstructor
+@ExecuteOn(TaskExecutors.BLOCKING)
 public class AiPasswordApiImpl implements AiPasswordApi {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String UNCHECKED_HISTORY =
+            "previousPasswordHashes is not checked by /ai/validate, send it to /validate";
+
     private final AIPasswordValidatorDecorator aiPasswordValidatorAdapter;
     private final AIPasswordCreatorDecorator aiPasswordCreatorAdapter;
+    private final PasswordValidator passwordValidator;
+    private final AiConcurrencyLimiters limiters;
+    private final RequestDeadlines requestDeadlines;
+    private final AuditLog auditLog;
+    private final LatencyStats latencyStats;
 
     @Override
     public HttpResponse<PasswordResponse> generate() {
-        try {
-            log.info("Generating AI password");
-            return HttpResponse.ok(aiPasswordCreatorAdapter.generateAndValidatePassword());
+        var start = System.nanoTime();
+        var permit = limiters.getGenerate().tryAcquire();
+        if (permit.isEmpty()) {
+            log.warn("AI generate concurrency limit reached ({}), shedding request",
+                    limiters.getGenerate().getLimit());
+            limiters.generateShed();
+
+            return audit(AuditOperation.GENERATE, AuditPath.AI, start,
+                    busy("invalid - Sorry, the AI creator is busy right now, try again in a moment!", null));
+        }
+
+        try (var deadline = requestDeadlines.begin(DeadlineConfiguration::getGenerate)) {
+            log.info("Generating AI password ({})", deadline);
+            var passwordResponse = aiPasswordCreatorAdapter.generateAndValidatePassword(deadline);
+            permit.get().success();
+
+            return audit(AuditOperation.GENERATE, AuditPath.AI, start, HttpResponse.ok(passwordResponse));
+        } catch (DeadlineExceededException exception) {
+            releaseExpired(permit.get(), exception);
+
+            return audit(AuditOperation.GENERATE, AuditPath.AI, start,
+                    deadlineExceeded("invalid - Sorry, the AI creator took too long!", null));
+        } catch (QuotaExceededException exception) {
+            permit.get().ignore();
+            log.warn("AI password creation refused: {}", exception.getMessage());
+
+            return audit(AuditOperation.GENERATE, AuditPath.AI, start,
+                    busy("invalid - Sorry, the AI creator is busy right now, try again in a moment!", null));
         } catch (Exception exception) {
+            permit.get().dropped();
             log.error("Error during password creation", exception);
 
             var errorResponse = HttpResponseUtils.createPasswordResponse(
                     "invalid - Sorry, the AI creator is having issues right now!",
                     null, PasswordResponseStatus.ERROR);
 
-            return HttpResponse.serverError(errorResponse);
+            return audit(AuditOperation.GENERATE, AuditPath.AI, start, HttpResponse.serverError(errorResponse));
         }
     }
 
     @Override
     public HttpResponse<PasswordResponse> validate(@Valid ValidateRequest validateRequest) {
         log.info("Validating password with AI");
+        var start = System.nanoTime();
         var password = validateRequest.getPassword();
 
-        try {
-            var passwordResponse = aiPasswordValidatorAdapter.validatePassword(password);
+        // A history this endpoint ignores would let a reused password through
+        if (hasHistory(validateRequest)) {
+            log.warn("Rejected password history sent to the AI validator");
+            var errorResponse = HttpResponseUtils.createPasswordResponse(UNCHECKED_HISTORY, null,
+                    PasswordResponseStatus.ERROR);
+
+            return audit(AuditOperation.VALIDATE, AuditPath.AI, start, HttpResponse.badRequest(errorResponse));
+        }
+
+        // Cached verdicts never reach the AI, so they are not limited
+        var key = aiPasswordValidatorAdapter.keyOf(password);
+        var cached = aiPasswordValidatorAdapter.cachedVerdict(key, password);
+        if (cached.isPresent()) {
+            return audit(AuditOperation.VALIDATE, AuditPath.AI_CACHE, start, HttpResponse.ok(cached.get()));
+        }
+
+        var permit = limiters.getValidate().tryAcquire();
+        if (permit.isEmpty()) {
+            return shedValidate(password, start);
+        }
+
+        try (var deadline = requestDeadlines.begin(DeadlineConfiguration::getValidate)) {
+            var passwordResponse = aiPasswordValidatorAdapter.validatePassword(password, key, deadline);
+            permit.get().success();
             log.info("AI Password validation result: {}", passwordResponse);
 
-            return HttpResponse.ok(passwordResponse);
+            return audit(AuditOperation.VALIDATE, AuditPath.AI, start, HttpResponse.ok(passwordResponse));
+        } catch (DeadlineExceededException exception) {
+            releaseExpired(permit.get(), exception);
+
+            return audit(AuditOperation.VALIDATE, AuditPath.AI, start,
+                    deadlineExceeded("invalid - Sorry, the AI validator took too long!", password));
+        } catch (QuotaExceededException exception) {
+            permit.get().ignore();
+            log.warn("AI password validation refused: {}", exception.getMessage());
+
+            return localOrBusy(password, start);
         } catch (Exception exception) {
+            permit.get().dropped();
             log.error("Error during password validation", exception);
 
             var errorResponse = HttpResponseUtils.createPasswordResponse(
                     "invalid - Sorry, the AI validator is having issues right now!",
                     password, PasswordResponseStatus.ERROR);
 
-            return HttpResponse.serverError(errorResponse);
+            return audit(AuditOperation.VALIDATE, AuditPath.AI, start, HttpResponse.serverError(errorResponse));
+        }
+    }
+
+    /**
+     * Answers a validation the AI has no room for, with the local rules when
+     * allowed, otherwise with a fast 503
+     */
+    private HttpResponse<PasswordResponse> shedValidate(String password, long start) {
+        var fallback = limiters.getConfiguration().isFallbackToLocalValidator();
+        log.warn("AI validate concurrency limit reached ({}), {}", limiters.getValidate().getLimit(),
+                fallback ? "falling back to the local validator" : "shedding request");
+        limiters.validateShed(fallback);
+
+        return localOrBusy(password, start);
+    }
+
+    private HttpResponse<PasswordResponse> localOrBusy(String password, long start) {
+        if (limiters.getConfiguration().isFallbackToLocalValidator()) {
+            var rule = passwordValidator.check(password);
+            var passwordResponse = passwordValidator.responseFor(rule, password);
+            var latencyNanos = System.nanoTime() - start;
+            auditLog.publish(AuditOperation.VALIDATE, AuditPath.LOCAL_FALLBACK, passwordResponse.getStatus(), rule,
+                    HttpStatus.OK.getCode(), latencyNanos);
+            latencyStats.recordRule(rule, latencyNanos);
+
+            return HttpResponse.ok(passwordResponse);
+        }
+
+        return audit(AuditOperation.VALIDATE, AuditPath.AI, start,
+                busy("invalid - Sorry, the AI validator is busy right now, try again in a moment!", password));
+    }
+
+    private HttpResponse<PasswordResponse> audit(AuditOperation operation, AuditPath path, long start,
+            HttpResponse<PasswordResponse> response) {
+        var status = response.getBody().map(PasswordResponse::getStatus).orElse(null);
+        auditLog.publish(operation, path, status, null, response.code(), System.nanoTime() - start);
+
+        return response;
+    }
+
+    private static boolean hasHistory(ValidateRequest validateRequest) {
+        var previousPasswordHashes = validateRequest.getPreviousPasswordHashes();
+        return previousPasswordHashes != null && !previousPasswordHashes.isEmpty();
+    }
+
+    private static HttpResponse<PasswordResponse> busy(String message, String password) {
+        var errorResponse = HttpResponseUtils.createPasswordResponse(message, password, PasswordResponseStatus.ERROR);
+
+        return HttpResponse.<PasswordResponse>status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(errorResponse);
+    }
+
+    /**
+     * A passed deadline says the model was too slow, a client that went away
+     * says nothing about it
+     */
+    private static void releaseExpired(AdaptiveConcurrencyLimiter.Permit permit,
+            DeadlineExceededException exception) {
+        log.warn("AI call abandoned: {}", exception.getMessage());
+        if (exception.isCancelled()) {
+            permit.ignore();
+        } else {
+            permit.dropped();
         }
     }
+
+    private static HttpResponse<PasswordResponse> deadlineExceeded(String message, String password) {
+        var errorResponse = HttpResponseUtils.createPasswordResponse(message, password, PasswordResponseStatus.ERROR);
+
+        return HttpResponse.<PasswordResponse>status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse);
+    }
 }
@@ -0,0 +1,107 @@
+package com.password.controller;
+
+import java.util.Arrays;
+
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Post;
+import io.netty.buffer.ByteBuf;
+
+import com.password.core.HttpResponseUtils;
+import com.password.core.PasswordJsonDecoder;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.core.stats.LatencyStats;
+import com.password.domain.expression.PasswordResponseTemplates;
+import com.password.domain.expression.PasswordValidator;
+import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Regex validation that never turns the password into a String. The raw
+ * request body is decoded in place into a per-thread {@code char[]}, checked,
+ * and both are zeroed before the response goes out, so no plaintext copy is
+ * left for the GC to collect whenever it gets to it.
+ * <p>
+ * Answers like {@code /validate} in compact mode, since echoing the password
+ * would defeat the point.
+ */
+@Slf4j
+@Controller("/validate/fast")
+@RequiredArgsConstructor
+public class FastValidateController {
+
+    /**
+     * Longer passwords break AT_MOST_128_CHARACTERS, only their length counts
+     */
+    static final int BUFFER_CHARS = 128;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_CHARS]);
+
+    private final PasswordValidator passwordValidator;
+    private final PasswordResponseTemplates passwordResponseTemplates;
+    private final AuditLog auditLog;
+    private final LatencyStats latencyStats;
+
+    @Post(consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    public HttpResponse<PasswordResponse> validate(@Body ByteBuffer<?> body) {
+        log.info("Validating password with regular expression, zero-copy");
+        var start = System.nanoTime();
+        var buffer = BUFFER.get();
+        var request = (ByteBuf) body.asNativeBuffer();
+
+        try {
+            var length = PasswordJsonDecoder.decode(request, buffer);
+            var rule = length == PasswordJsonDecoder.MISSING ? passwordValidator.check(null, 0)
+                    : passwordValidator.check(buffer, length);
+            var passwordResponse = passwordResponseTemplates.of(rule);
+
+            var latencyNanos = System.nanoTime() - start;
+            auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, passwordResponse.getStatus(), rule,
+                    HttpStatus.OK.getCode(), latencyNanos);
+            latencyStats.recordRule(rule, latencyNanos);
+            return HttpResponse.ok(passwordResponse);
+        } catch (IllegalArgumentException exception) {
+            log.warn("Rejected password validation request: {}", exception.getMessage());
+
+            return error(HttpStatus.BAD_REQUEST, exception.getMessage(), start);
+        } catch (Exception exception) {
+            log.error("Error during password validation", exception);
+
+            return error(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "invalid - Sorry, the regular expression validator is having issues right now!", start);
+        } finally {
+            Arrays.fill(buffer, '\0');
+            if (!request.isReadOnly()) {
+                request.setZero(request.readerIndex(), request.readableBytes());
+            }
+        }
+    }
+
+    private HttpResponse<PasswordResponse> error(HttpStatus status, String message, long start) {
+        auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, PasswordResponseStatus.ERROR, null,
+                status.getCode(), System.nanoTime() - start);
+        return HttpResponse.<PasswordResponse>status(status)
+                .body(HttpResponseUtils.createPasswordResponse(message, null, PasswordResponseStatus.ERROR));
+    }
+
+    /**
+     * @return Whether the calling thread's buffer holds nothing but zeros
+     */
+    static boolean isBufferCleared() {
+        for (var c : BUFFER.get()) {
+            if (c != '\0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
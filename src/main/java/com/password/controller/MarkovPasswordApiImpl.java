@@ -0,0 +1,69 @@
+package com.password.controller;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.Controller;
+
+import com.password.api.MarkovPasswordApi;
+import com.password.core.HttpResponseUtils;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.domain.markov.MarkovStrengthValidator;
+import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
+import com.password.model.ValidateRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+@Requires(beans = MarkovStrengthValidator.class)
+public class MarkovPasswordApiImpl implements MarkovPasswordApi {
+
+    private static final String UNCHECKED_HISTORY =
+            "previousPasswordHashes is not checked by /markov/validate, send it to /validate";
+
+    private final MarkovStrengthValidator markovStrengthValidator;
+    private final AuditLog auditLog;
+
+    @Override
+    public HttpResponse<PasswordResponse> validate(@Valid ValidateRequest validateRequest) {
+        log.info("Validating password with the Markov model");
+        var start = System.nanoTime();
+        var password = validateRequest.getPassword();
+
+        // A history this endpoint ignores would let a reused password through
+        var previousPasswordHashes = validateRequest.getPreviousPasswordHashes();
+        if (previousPasswordHashes != null && !previousPasswordHashes.isEmpty()) {
+            log.warn("Rejected password history sent to the Markov validator");
+
+            auditLog.publish(AuditOperation.VALIDATE, AuditPath.MARKOV, PasswordResponseStatus.ERROR, null,
+                    HttpStatus.BAD_REQUEST.getCode(), System.nanoTime() - start);
+            return HttpResponse.badRequest(HttpResponseUtils.createPasswordResponse(UNCHECKED_HISTORY, null,
+                    PasswordResponseStatus.ERROR));
+        }
+
+        try {
+            var result = markovStrengthValidator.validate(password);
+            var response = HttpResponse.ok(result.response());
+
+            auditLog.publish(AuditOperation.VALIDATE, AuditPath.MARKOV, result.response().getStatus(), result.rule(),
+                    response.code(), System.nanoTime() - start);
+            return response;
+        } catch (Exception exception) {
+            log.error("Error during password validation", exception);
+
+            var errorResponse = HttpResponseUtils.createPasswordResponse(
+                    "invalid - Sorry, the Markov validator is having issues right now!",
+                    password, PasswordResponseStatus.ERROR);
+
+            auditLog.publish(AuditOperation.VALIDATE, AuditPath.MARKOV, PasswordResponseStatus.ERROR, null,
+                    HttpStatus.INTERNAL_SERVER_ERROR.getCode(), System.nanoTime() - start);
+            return HttpResponse.serverError(errorResponse);
+        }
+    }
+}
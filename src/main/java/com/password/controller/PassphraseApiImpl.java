@@ -0,0 +1,65 @@
+package com.password.controller;
+
+import java.util.Locale;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.Controller;
+
+import com.password.api.PassphraseApi;
+import com.password.core.HttpResponseUtils;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.domain.passphrase.PassphraseGenerator;
+import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+@Requires(beans = PassphraseGenerator.class)
+public class PassphraseApiImpl implements PassphraseApi {
+
+    private final PassphraseGenerator passphraseGenerator;
+    private final AuditLog auditLog;
+
+    @Override
+    public HttpResponse<PasswordResponse> generatePassphrase(Integer words, String separators, Boolean decorate) {
+        log.info("Generating passphrase");
+        var start = System.nanoTime();
+
+        try {
+            var options = passphraseGenerator.options(words, separators, decorate);
+            var passwordResponse = HttpResponseUtils.createPasswordResponse(String.format(Locale.ROOT,
+                    "Passphrase of %d words with about %.0f bits of entropy", options.words(),
+                    passphraseGenerator.entropyBits(options)), passphraseGenerator.generate(options),
+                    PasswordResponseStatus.VALID);
+            var response = HttpResponse.ok(passwordResponse);
+
+            auditLog.publish(AuditOperation.GENERATE, AuditPath.PASSPHRASE, PasswordResponseStatus.VALID, null,
+                    response.code(), System.nanoTime() - start);
+            return response;
+        } catch (IllegalArgumentException exception) {
+            log.warn("Rejected passphrase request: {}", exception.getMessage());
+
+            auditLog.publish(AuditOperation.GENERATE, AuditPath.PASSPHRASE, PasswordResponseStatus.ERROR, null,
+                    HttpStatus.BAD_REQUEST.getCode(), System.nanoTime() - start);
+            return HttpResponse.badRequest(HttpResponseUtils.createPasswordResponse(exception.getMessage(), null,
+                    PasswordResponseStatus.ERROR));
+        } catch (Exception exception) {
+            log.error("Error during passphrase generation", exception);
+
+            var errorResponse = HttpResponseUtils.createPasswordResponse(
+                    "invalid - Sorry, the passphrase generator is having issues right now!", null,
+                    PasswordResponseStatus.ERROR);
+
+            auditLog.publish(AuditOperation.GENERATE, AuditPath.PASSPHRASE, PasswordResponseStatus.ERROR, null,
+                    HttpStatus.INTERNAL_SERVER_ERROR.getCode(), System.nanoTime() - start);
+            return HttpResponse.serverError(errorResponse);
+        }
+    }
+}
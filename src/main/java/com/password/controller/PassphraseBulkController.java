@@ -0,0 +1,79 @@
+package com.password.controller;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.QueryValue;
+import reactor.core.publisher.Flux;
+
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.domain.passphrase.PassphraseConfiguration;
+import com.password.domain.passphrase.PassphraseGenerator;
+import com.password.model.PasswordResponseStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams passphrases as plain text, one per line, for provisioning jobs that
+ * need thousands at once. Passphrases are generated chunk by chunk as the
+ * client reads, so the response never sits in memory as a whole.
+ */
+@Slf4j
+@Controller("/passphrase/bulk")
+@RequiredArgsConstructor
+@Requires(beans = PassphraseGenerator.class)
+public class PassphraseBulkController {
+
+    /**
+     * Passphrases per written chunk, enough to amortize the write and flush
+     */
+    static final int CHUNK = 256;
+
+    private final PassphraseGenerator passphraseGenerator;
+    private final PassphraseConfiguration configuration;
+    private final AuditLog auditLog;
+
+    @Get(produces = MediaType.TEXT_PLAIN)
+    public HttpResponse<Flux<String>> generate(@QueryValue int count, @Nullable @QueryValue Integer words,
+            @Nullable @QueryValue String separators, @Nullable @QueryValue Boolean decorate) {
+        log.info("Generating {} passphrases", count);
+        var start = System.nanoTime();
+
+        PassphraseGenerator.Options options;
+        try {
+            if (count < 1 || count > configuration.getMaxBulkCount()) {
+                throw new IllegalArgumentException(
+                        "Bulk requests ask for between 1 and " + configuration.getMaxBulkCount() + " passphrases");
+            }
+            options = passphraseGenerator.options(words, separators, decorate);
+        } catch (IllegalArgumentException exception) {
+            log.warn("Rejected passphrase request: {}", exception.getMessage());
+
+            auditLog.publish(AuditOperation.GENERATE, AuditPath.PASSPHRASE, PasswordResponseStatus.ERROR, null,
+                    HttpStatus.BAD_REQUEST.getCode(), System.nanoTime() - start);
+            return HttpResponse.badRequest(Flux.just(exception.getMessage() + "\n"));
+        }
+
+        var chunks = (count + CHUNK - 1) / CHUNK;
+        var body = Flux.range(0, chunks)
+                .map(chunk -> {
+                    var lines = Math.min(CHUNK, count - chunk * CHUNK);
+                    var text = new StringBuilder(lines * 64);
+                    for (int i = 0; i < lines; i++) {
+                        passphraseGenerator.append(options, text);
+                        text.append('\n');
+                    }
+                    return text.toString();
+                })
+                .doOnComplete(() -> auditLog.publish(AuditOperation.GENERATE, AuditPath.PASSPHRASE,
+                        PasswordResponseStatus.VALID, null, HttpStatus.OK.getCode(), System.nanoTime() - start));
+        return HttpResponse.ok(body);
+    }
+}
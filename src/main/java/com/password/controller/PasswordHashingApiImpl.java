@@ -0,0 +1,85 @@
+package com.password.controller;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+
+import com.password.api.PasswordHashingApi;
+import com.password.domain.hashing.HashingUnavailableException;
+import com.password.domain.hashing.PasswordHasher;
+import com.password.model.HashRequest;
+import com.password.model.HashResponse;
+import com.password.model.VerifyHashRequest;
+import com.password.model.VerifyHashResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+@ExecuteOn(TaskExecutors.BLOCKING)
+public class PasswordHashingApiImpl implements PasswordHashingApi {
+
+    private final PasswordHasher passwordHasher;
+
+    @Override
+    public HttpResponse<HashResponse> hash(@Valid HashRequest hashRequest) {
+        log.info("Hashing password");
+        var response = new HashResponse();
+
+        if (hashRequest.getPassword() == null || hashRequest.getPassword().isEmpty()) {
+            response.setMessage("Password is required");
+            return HttpResponse.badRequest(response);
+        }
+
+        try {
+            var algorithm = hashRequest.getAlgorithm() != null ? hashRequest.getAlgorithm()
+                    : passwordHasher.getDefaultAlgorithm();
+            response.setHash(passwordHasher.hash(hashRequest.getPassword().toCharArray(), algorithm));
+            response.setAlgorithm(algorithm);
+
+            return HttpResponse.ok(response);
+        } catch (HashingUnavailableException exception) {
+            response.setMessage("Sorry, the password hasher is busy right now, retry later!");
+            return HttpResponse.<HashResponse>status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (IllegalArgumentException exception) {
+            response.setMessage(exception.getMessage());
+            return HttpResponse.badRequest(response);
+        } catch (Exception exception) {
+            log.error("Error during password hashing", exception);
+            response.setMessage("Sorry, the password hasher is having issues right now!");
+            return HttpResponse.serverError(response);
+        }
+    }
+
+    @Override
+    public HttpResponse<VerifyHashResponse> verifyHash(@Valid VerifyHashRequest verifyHashRequest) {
+        log.info("Verifying password hash");
+        var response = new VerifyHashResponse();
+
+        if (verifyHashRequest.getPassword() == null || verifyHashRequest.getHash() == null) {
+            response.setMessage("Password and hash are required");
+            return HttpResponse.badRequest(response);
+        }
+
+        try {
+            response.setMatches(passwordHasher.verify(verifyHashRequest.getPassword().toCharArray(),
+                    verifyHashRequest.getHash()));
+
+            return HttpResponse.ok(response);
+        } catch (HashingUnavailableException exception) {
+            response.setMessage("Sorry, the password hasher is busy right now, retry later!");
+            return HttpResponse.<VerifyHashResponse>status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (IllegalArgumentException exception) {
+            response.setMessage(exception.getMessage());
+            return HttpResponse.badRequest(response);
+        } catch (Exception exception) {
+            log.error("Error during password hash verification", exception);
+            response.setMessage("Sorry, the password hasher is having issues right now!");
+            return HttpResponse.serverError(response);
+        }
+    }
+}
@@ -1,10 +1,24 @@
 package com.password.controller;
 
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Controller;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 
 import com.password.api.RegularExpressionPasswordApi;
+import com.password.controller.ValidateResponseConfiguration.ResponseMode;
 import com.password.core.HttpResponseUtils;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.core.stats.LatencyStats;
+import com.password.domain.hashing.HashingUnavailableException;
+import com.password.domain.history.PasswordHistoryChecker;
+import com.password.domain.expression.PasswordResponseTemplates;
+import com.password.domain.expression.PasswordRules;
 import com.password.domain.expression.PasswordValidator;
 import com.password.model.PasswordResponse;
 import com.password.model.PasswordResponseStatus;
@@ -16,27 +30,72 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Controller
 @RequiredArgsConstructor
+// The history check waits on hash verifications, keep it off the event loop
+@ExecuteOn(TaskExecutors.BLOCKING)
 public class RegularExpressionPasswordApiImpl implements RegularExpressionPasswordApi {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final PasswordValidator passwordValidator;
+    private final PasswordResponseTemplates passwordResponseTemplates;
+    private final ValidateResponseConfiguration responseConfiguration;
+    private final AuditLog auditLog;
+    private final LatencyStats latencyStats;
+    private final PasswordHistoryChecker passwordHistoryChecker;
 
     @Override
     public HttpResponse<PasswordResponse> validate(@Valid ValidateRequest validateRequest) {
         log.info("Validating password with regular expression");
+        var start = System.nanoTime();
         var password = validateRequest.getPassword();
+        var compact = responseConfiguration.getResponseMode() == ResponseMode.COMPACT;
 
         try {
-            var passwordResponse = passwordValidator.validate(password);
+            var rule = passwordValidator.check(password);
+            // Only a password that passes the rules is worth the hash checks
+            if (rule == PasswordRules.PASSWORD_IS_VALID
+                    && passwordHistoryChecker.isReused(password, validateRequest.getPreviousPasswordHashes())) {
+                log.warn("Password validation failed: password matches a previous one");
+                rule = PasswordRules.PASSWORD_REUSED;
+            }
+            var passwordResponse = compact ? passwordResponseTemplates.of(rule)
+                    : passwordValidator.responseFor(rule, password);
+            var response = HttpResponse.ok(passwordResponse);
+
+            var latencyNanos = System.nanoTime() - start;
+            auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, passwordResponse.getStatus(), rule,
+                    response.code(), latencyNanos);
+            latencyStats.recordRule(rule, latencyNanos);
+            return response;
+        } catch (IllegalArgumentException exception) {
+            log.warn("Rejected password history: {}", exception.getMessage());
+
+            return refuse(HttpResponse.badRequest(), exception.getMessage(), compact ? null : password, start);
+        } catch (HashingUnavailableException exception) {
+            log.warn("Password history check unavailable: {}", exception.getMessage());
 
-            return HttpResponse.ok(passwordResponse);
+            return refuse(HttpResponse.<PasswordResponse>status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS),
+                    "invalid - Sorry, the password history could not be checked right now, try again in a moment!",
+                    compact ? null : password, start);
         } catch (Exception exception) {
             log.error("Error during password validation", exception);
 
             var errorResponse = HttpResponseUtils.createPasswordResponse(
                     "invalid - Sorry, the regular expression validator is having issues right now!",
-                    password, PasswordResponseStatus.ERROR);
+                    compact ? null : password, PasswordResponseStatus.ERROR);
 
+            auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, PasswordResponseStatus.ERROR, null,
+                    HttpStatus.INTERNAL_SERVER_ERROR.getCode(), System.nanoTime() - start);
             return HttpResponse.serverError(errorResponse);
         }
     }
+
+    private HttpResponse<PasswordResponse> refuse(MutableHttpResponse<PasswordResponse> response, String message,
+            String password, long start) {
+        auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, PasswordResponseStatus.ERROR, null,
+                response.code(), System.nanoTime() - start);
+        return response.body(HttpResponseUtils.createPasswordResponse(message, password,
+                PasswordResponseStatus.ERROR));
+    }
 }
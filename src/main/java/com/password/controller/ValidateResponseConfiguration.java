@@ -0,0 +1,20 @@
+package com.password.controller;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties("password.validate")
+public class ValidateResponseConfiguration {
+
+    /**
+     * ECHO returns the password back in every response. COMPACT omits it and
+     * writes one of the pre-encoded rule responses instead.
+     */
+    private ResponseMode responseMode = ResponseMode.ECHO;
+
+    public enum ResponseMode {
+        ECHO,
+        COMPACT
+    }
+}
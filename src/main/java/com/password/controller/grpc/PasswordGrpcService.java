@@ -0,0 +1,273 @@
+package com.password.controller.grpc;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.micronaut.grpc.annotation.GrpcService;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.scheduling.TaskExecutors;
+
+import com.password.controller.AiPasswordApiImpl;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.core.stats.LatencyStats;
+import com.password.domain.expression.PasswordResponseTemplates;
+import com.password.domain.expression.PasswordValidator;
+import com.password.grpc.GeneratePasswordRequest;
+import com.password.grpc.PasswordReply;
+import com.password.grpc.PasswordServiceGrpc;
+import com.password.grpc.ReplyStatus;
+import com.password.grpc.ValidatePasswordRequest;
+import com.password.grpc.Validator;
+import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
+import com.password.model.ValidateRequest;
+
+import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC counterpart of {@code /validate}, {@code /ai/validate} and
+ * {@code /ai/generate} for internal callers, served by the same Micronaut
+ * application on {@code grpc.server.port}.
+ * <p>
+ * Regex validations run inline on the gRPC thread. AI calls go through
+ * {@link AiPasswordApiImpl}, so they share its concurrency limit, quota,
+ * verdict cache, local fallback and audit trail, and honour the gRPC
+ * deadline and cancellation of the call. In streams they run on the blocking
+ * executor and reply as they finish.
+ */
+@Slf4j
+@GrpcService
+public class PasswordGrpcService extends PasswordServiceGrpc.PasswordServiceImplBase {
+
+    private static final String VALIDATE = "grpc:Validate";
+    private static final String GENERATE = "grpc:Generate";
+
+    private final PasswordValidator passwordValidator;
+    private final AiPasswordApiImpl aiPasswordApi;
+    private final AuditLog auditLog;
+    private final LatencyStats latencyStats;
+    private final ExecutorService executor;
+
+    public PasswordGrpcService(PasswordValidator passwordValidator, AiPasswordApiImpl aiPasswordApi,
+            AuditLog auditLog, LatencyStats latencyStats, @Named(TaskExecutors.BLOCKING) ExecutorService executor) {
+        this.passwordValidator = passwordValidator;
+        this.aiPasswordApi = aiPasswordApi;
+        this.auditLog = auditLog;
+        this.latencyStats = latencyStats;
+        this.executor = executor;
+    }
+
+    @Override
+    public void validate(ValidatePasswordRequest request, StreamObserver<PasswordReply> responseObserver) {
+        reply(validate(request), responseObserver);
+    }
+
+    @Override
+    public StreamObserver<ValidatePasswordRequest> validateStream(StreamObserver<PasswordReply> responseObserver) {
+        return new ReplyStream<>(responseObserver, request -> request.getValidator() == Validator.AI,
+                this::validate);
+    }
+
+    @Override
+    public void generate(GeneratePasswordRequest request, StreamObserver<PasswordReply> responseObserver) {
+        reply(generate(request), responseObserver);
+    }
+
+    @Override
+    public StreamObserver<GeneratePasswordRequest> generateStream(StreamObserver<PasswordReply> responseObserver) {
+        return new ReplyStream<>(responseObserver, request -> true, this::generate);
+    }
+
+    PasswordReply validate(ValidatePasswordRequest request) {
+        var start = System.nanoTime();
+        try {
+            if (request.getValidator() == Validator.AI) {
+                var validateRequest = new ValidateRequest();
+                validateRequest.setPassword(request.getPassword());
+
+                return replyOf(request.getId(), aiPasswordApi.validate(validateRequest), request.getEcho());
+            }
+            return validateWithRules(request, start);
+        } catch (Exception exception) {
+            log.error("Error during gRPC password validation", exception);
+
+            return error(request.getId(), "invalid - Sorry, the validator is having issues right now!",
+                    Status.Code.INTERNAL);
+        } finally {
+            latencyStats.recordEndpoint(VALIDATE, System.nanoTime() - start);
+        }
+    }
+
+    PasswordReply generate(GeneratePasswordRequest request) {
+        var start = System.nanoTime();
+        try {
+            return replyOf(request.getId(), aiPasswordApi.generate(), true);
+        } catch (Exception exception) {
+            log.error("Error during gRPC password creation", exception);
+
+            return error(request.getId(), "invalid - Sorry, the AI creator is having issues right now!",
+                    Status.Code.INTERNAL);
+        } finally {
+            latencyStats.recordEndpoint(GENERATE, System.nanoTime() - start);
+        }
+    }
+
+    private PasswordReply validateWithRules(ValidatePasswordRequest request, long start) {
+        var rule = passwordValidator.check(request.getPassword());
+        var status = PasswordResponseTemplates.statusOf(rule);
+
+        var latencyNanos = System.nanoTime() - start;
+        auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, status, rule, HttpStatus.OK.getCode(),
+                latencyNanos);
+        latencyStats.recordRule(rule, latencyNanos);
+
+        return PasswordReply.newBuilder()
+                .setId(request.getId())
+                .setStatus(replyStatusOf(status))
+                .setMessage(rule.getDescription())
+                .setRule(rule.name())
+                .setPassword(request.getEcho() ? request.getPassword() : "")
+                .build();
+    }
+
+    private static PasswordReply replyOf(long id, HttpResponse<PasswordResponse> response, boolean echo) {
+        var reply = PasswordReply.newBuilder()
+                .setId(id)
+                .setCode(codeOf(response.code()).value());
+        response.getBody().ifPresent(body -> {
+            reply.setStatus(replyStatusOf(body.getStatus()));
+            reply.setMessage(body.getMessage() != null ? body.getMessage() : "");
+            if (echo && body.getPassword() != null) {
+                reply.setPassword(body.getPassword());
+            }
+        });
+        return reply.build();
+    }
+
+    private static PasswordReply error(long id, String message, Status.Code code) {
+        return PasswordReply.newBuilder()
+                .setId(id)
+                .setStatus(ReplyStatus.ERROR)
+                .setMessage(message)
+                .setCode(code.value())
+                .build();
+    }
+
+    /**
+     * Same meaning as the REST status codes: 503 asks to retry later, 504
+     * means the deadline passed
+     */
+    private static Status.Code codeOf(int httpStatus) {
+        return switch (httpStatus) {
+            case 200 -> Status.Code.OK;
+            case 503 -> Status.Code.UNAVAILABLE;
+            case 504 -> Status.Code.DEADLINE_EXCEEDED;
+            default -> Status.Code.INTERNAL;
+        };
+    }
+
+    private static ReplyStatus replyStatusOf(PasswordResponseStatus status) {
+        if (status == null) {
+            return ReplyStatus.REPLY_STATUS_UNSPECIFIED;
+        }
+        return switch (status) {
+            case VALID -> ReplyStatus.VALID;
+            case INVALID -> ReplyStatus.INVALID;
+            default -> ReplyStatus.ERROR;
+        };
+    }
+
+    private static void reply(PasswordReply reply, StreamObserver<PasswordReply> responseObserver) {
+        if (reply.getCode() != Status.Code.OK.value()) {
+            responseObserver.onError(Status.fromCodeValue(reply.getCode())
+                    .withDescription(reply.getMessage())
+                    .asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(reply);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Answers each request of a stream, inline or on the blocking executor,
+     * and completes once the client is done sending and every reply is out
+     */
+    private final class ReplyStream<T> implements StreamObserver<T> {
+
+        private final StreamObserver<PasswordReply> responseObserver;
+        private final Predicate<T> blocking;
+        private final Function<T, PasswordReply> handler;
+        // The client's half of the stream counts as one
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        private volatile boolean cancelled;
+
+        ReplyStream(StreamObserver<PasswordReply> responseObserver, Predicate<T> blocking,
+                Function<T, PasswordReply> handler) {
+            this.responseObserver = responseObserver;
+            this.blocking = blocking;
+            this.handler = handler;
+        }
+
+        @Override
+        public void onNext(T request) {
+            if (!blocking.test(request)) {
+                send(handler.apply(request));
+                return;
+            }
+
+            pending.incrementAndGet();
+            // Carries the call's deadline and cancellation over to the AI call
+            executor.execute(Context.current().wrap(() -> {
+                try {
+                    send(handler.apply(request));
+                } finally {
+                    done();
+                }
+            }));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            log.debug("gRPC stream closed by the client: {}", throwable.getMessage());
+            cancelled = true;
+        }
+
+        @Override
+        public void onCompleted() {
+            done();
+        }
+
+        private synchronized void send(PasswordReply reply) {
+            if (cancelled) {
+                return;
+            }
+            try {
+                responseObserver.onNext(reply);
+            } catch (StatusRuntimeException exception) {
+                log.debug("gRPC stream gone, dropping reply {}: {}", reply.getId(), exception.getMessage());
+                cancelled = true;
+            }
+        }
+
+        private void done() {
+            if (pending.decrementAndGet() == 0) {
+                synchronized (this) {
+                    if (!cancelled) {
+                        responseObserver.onCompleted();
+                    }
+                }
+            }
+        }
+    }
+}
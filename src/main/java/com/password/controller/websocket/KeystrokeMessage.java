@@ -0,0 +1,21 @@
+package com.password.controller.websocket;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Edit sent by the signup page while the user types
+ *
+ * @param operation What happened to the password field
+ * @param text      Characters appended (APPEND) or the whole field (SET)
+ * @param count     Characters removed from the end (DELETE)
+ */
+@Serdeable
+public record KeystrokeMessage(Operation operation, String text, Integer count) {
+
+    public enum Operation {
+        APPEND,
+        DELETE,
+        SET,
+        RESET
+    }
+}
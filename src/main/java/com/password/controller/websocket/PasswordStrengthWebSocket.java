@@ -0,0 +1,87 @@
+package com.password.controller.websocket;
+
+import com.password.domain.expression.IncrementalPasswordCheck;
+import com.password.domain.expression.PasswordAlphabet;
+import com.password.domain.expression.PasswordNormalizer;
+import com.password.model.ErrorResponse;
+
+import io.micronaut.websocket.WebSocketSession;
+import io.micronaut.websocket.annotation.OnClose;
+import io.micronaut.websocket.annotation.OnMessage;
+import io.micronaut.websocket.annotation.OnOpen;
+import io.micronaut.websocket.annotation.ServerWebSocket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Real-time strength feedback for the signup page. Each connection keeps an
+ * {@link IncrementalPasswordCheck} that is updated with every keystroke and
+ * only the rules whose state changed are sent back.
+ */
+@Slf4j
+@ServerWebSocket("/ws/validate")
+@RequiredArgsConstructor
+public class PasswordStrengthWebSocket {
+
+    private static final String STATE_ATTRIBUTE = "password-check";
+
+    private final PasswordAlphabet alphabet;
+    private final PasswordNormalizer normalizer;
+
+    @OnOpen
+    public void onOpen(WebSocketSession session) {
+        log.debug("Password strength session {} opened", session.getId());
+        var check = new IncrementalPasswordCheck(alphabet, normalizer);
+        session.put(STATE_ATTRIBUTE, check);
+
+        send(session, check);
+    }
+
+    @OnMessage
+    public void onMessage(KeystrokeMessage message, WebSocketSession session) {
+        var check = session.get(STATE_ATTRIBUTE, IncrementalPasswordCheck.class).orElseThrow();
+
+        try {
+            if (message.operation() == null) {
+                throw new IllegalArgumentException("Operation is required");
+            }
+            switch (message.operation()) {
+                case APPEND -> check.append(message.text() != null ? message.text() : "");
+                case DELETE -> check.delete(message.count() != null ? message.count() : 1);
+                case SET -> {
+                    check.reset();
+                    check.append(message.text() != null ? message.text() : "");
+                }
+                case RESET -> check.reset();
+            }
+        } catch (IllegalArgumentException exception) {
+            log.warn("Password strength session {} rejected an edit: {}", session.getId(), exception.getMessage());
+            check.reset();
+            var error = new ErrorResponse();
+            error.setMessage(exception.getMessage());
+            session.sendAsync(error);
+        }
+
+        send(session, check);
+    }
+
+    @OnClose
+    public void onClose(WebSocketSession session) {
+        log.debug("Password strength session {} closed", session.getId());
+        session.get(STATE_ATTRIBUTE, IncrementalPasswordCheck.class).ifPresent(IncrementalPasswordCheck::reset);
+        session.remove(STATE_ATTRIBUTE);
+    }
+
+    private void send(WebSocketSession session, IncrementalPasswordCheck check) {
+        var changed = check.changedRules();
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        var verdict = check.firstBrokenRule();
+        var changes = changed.stream()
+                .map(rule -> new RuleStateMessage.RuleState(rule, check.isSatisfied(rule)))
+                .toList();
+        session.sendAsync(new RuleStateMessage(changes, verdict, verdict.getDescription()));
+    }
+}
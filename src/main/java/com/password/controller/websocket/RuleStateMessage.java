@@ -0,0 +1,23 @@
+package com.password.controller.websocket;
+
+import java.util.List;
+
+import com.password.domain.expression.PasswordRules;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Rules whose state changed after an edit, and the verdict /validate would
+ * give for the current password
+ *
+ * @param changes The rules that flipped
+ * @param verdict The first broken rule, or PASSWORD_IS_VALID
+ * @param message The description of the verdict
+ */
+@Serdeable
+public record RuleStateMessage(List<RuleState> changes, PasswordRules verdict, String message) {
+
+    @Serdeable
+    public record RuleState(PasswordRules rule, boolean satisfied) {
+    }
+}
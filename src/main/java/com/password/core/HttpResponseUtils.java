@@ -9,6 +9,13 @@ import com.password.model.PasswordResponseStatus;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HttpResponseUtils {
 
+    /**
+     * How an AI answer in the "status;message" format was understood
+     */
+    public enum ParseStatus {
+        VALID, INVALID, UNKNOWN_STATUS, MISSING_MESSAGE, EMPTY
+    }
+
     /**
      * Creates a PasswordResponse from a string that contains status and message
      * separated by ";"
@@ -45,6 +52,30 @@ public final class HttpResponseUtils {
         return response;
     }
 
+    /**
+     * Classifies an AI answer the same way
+     * {@link #createPasswordResponse(String, String)} parses it
+     * 
+     * @param messageResponse The string to parse
+     * @return The outcome of parsing it
+     */
+    public static ParseStatus parseStatusOf(String messageResponse) {
+        if (messageResponse == null || messageResponse.trim().isEmpty()) {
+            return ParseStatus.EMPTY;
+        }
+
+        var parts = messageResponse.split(";");
+        if (parts.length < 2) {
+            return ParseStatus.MISSING_MESSAGE;
+        }
+
+        var status = parseStatus(parts[0].trim().toLowerCase());
+        if (status == PasswordResponseStatus.VALID) {
+            return ParseStatus.VALID;
+        }
+        return status == PasswordResponseStatus.INVALID ? ParseStatus.INVALID : ParseStatus.UNKNOWN_STATUS;
+    }
+
     /**
      * Creates a PasswordResponse from a message string and status
      * 
@@ -0,0 +1,310 @@
+package com.password.core;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Pulls the {@code password} field out of a {@code {"password": "..."}} JSON
+ * body straight from the request buffer into a caller-owned {@code char[]},
+ * without building a String or any other object for the body.
+ * <p>
+ * Decodes UTF-8 and JSON escapes into UTF-16 chars, like a String would hold
+ * them, skips every other field and rejects anything that is not a JSON
+ * object. A password longer than the buffer is counted but not stored.
+ * <p>
+ * A non-empty {@code previousPasswordHashes} is rejected rather than skipped:
+ * the history check needs the password as a String, so only
+ * {@code /validate} runs it, and silently ignoring it would report a reused
+ * password as valid.
+ */
+public final class PasswordJsonDecoder {
+
+    /**
+     * Length returned when the body has no password or it is null
+     */
+    public static final int MISSING = -1;
+
+    private static final String FIELD = "password";
+    private static final String HISTORY_FIELD = "previousPasswordHashes";
+    private static final int[] MIN_CODE_POINT = { 0, 0x80, 0x800, 0x10000 };
+
+    private final ByteBuf body;
+    private final int end;
+    private int position;
+    private char pendingLowSurrogate;
+
+    private PasswordJsonDecoder(ByteBuf body) {
+        this.body = body;
+        this.position = body.readerIndex();
+        this.end = body.writerIndex();
+    }
+
+    /**
+     * @param body     The request body, its reader index is left untouched
+     * @param password Receives the password's chars
+     * @return The password's length in chars, or {@link #MISSING}
+     * @throws IllegalArgumentException when the body is not a JSON object or
+     *                                  the password is not a string or null
+     */
+    public static int decode(ByteBuf body, char[] password) {
+        return new PasswordJsonDecoder(body).decodeObject(password);
+    }
+
+    private int decodeObject(char[] password) {
+        var length = MISSING;
+
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+        } else {
+            while (true) {
+                skipWhitespace();
+                expect('"');
+                var field = readKey();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                if (FIELD.equals(field)) {
+                    length = readPassword(password);
+                } else if (HISTORY_FIELD.equals(field)) {
+                    skipEmptyHistory();
+                } else {
+                    skipValue();
+                }
+                skipWhitespace();
+                var next = next();
+                if (next == '}') {
+                    break;
+                }
+                if (next != ',') {
+                    throw malformed();
+                }
+            }
+        }
+
+        skipWhitespace();
+        if (position != end) {
+            throw malformed();
+        }
+        return length;
+    }
+
+    /**
+     * @return {@link #FIELD}, {@link #HISTORY_FIELD} or null for any other key
+     */
+    private String readKey() {
+        var isPassword = true;
+        var isHistory = true;
+        var index = 0;
+        int c;
+        while ((c = nextStringChar()) >= 0) {
+            isPassword &= index < FIELD.length() && c == FIELD.charAt(index);
+            isHistory &= index < HISTORY_FIELD.length() && c == HISTORY_FIELD.charAt(index);
+            index++;
+        }
+        if (isPassword && index == FIELD.length()) {
+            return FIELD;
+        }
+        return isHistory && index == HISTORY_FIELD.length() ? HISTORY_FIELD : null;
+    }
+
+    private void skipEmptyHistory() {
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return;
+        }
+        expect('[');
+        skipWhitespace();
+        if (next() != ']') {
+            throw new IllegalArgumentException(
+                    HISTORY_FIELD + " is not checked by /validate/fast, send it to /validate");
+        }
+    }
+
+    private int readPassword(char[] password) {
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return MISSING;
+        }
+        expect('"');
+
+        var length = 0;
+        int c;
+        while ((c = nextStringChar()) >= 0) {
+            if (length < password.length) {
+                password[length] = (char) c;
+            }
+            length++;
+        }
+        return length;
+    }
+
+    private void skipValue() {
+        var c = peek();
+        if (c == '"') {
+            position++;
+            while (nextStringChar() >= 0) {
+                // Skipped
+            }
+        } else if (c == '{' || c == '[') {
+            skipContainer();
+        } else {
+            // Number, true, false or null
+            var start = position;
+            while (position < end && !isDelimiter(body.getByte(position))) {
+                position++;
+            }
+            if (position == start) {
+                throw malformed();
+            }
+        }
+    }
+
+    private void skipContainer() {
+        var depth = 0;
+        do {
+            var c = next();
+            if (c == '"') {
+                while (nextStringChar() >= 0) {
+                    // Skipped
+                }
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * @return The next UTF-16 char of the current string, or -1 at its
+     *         closing quote
+     */
+    private int nextStringChar() {
+        if (pendingLowSurrogate != 0) {
+            var low = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+            return low;
+        }
+
+        var b = next() & 0xFF;
+        if (b == '"') {
+            return -1;
+        }
+        if (b == '\\') {
+            return escape();
+        }
+        if (b < 0x20) {
+            throw malformed();
+        }
+        return b < 0x80 ? b : utf8(b);
+    }
+
+    private int escape() {
+        return switch (next()) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '/' -> '/';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> hex4();
+            default -> throw malformed();
+        };
+    }
+
+    private int hex4() {
+        var value = 0;
+        for (int i = 0; i < 4; i++) {
+            var digit = Character.digit(next(), 16);
+            if (digit < 0) {
+                throw malformed();
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private int utf8(int first) {
+        int codePoint;
+        int continuation;
+        if ((first & 0xE0) == 0xC0) {
+            codePoint = first & 0x1F;
+            continuation = 1;
+        } else if ((first & 0xF0) == 0xE0) {
+            codePoint = first & 0x0F;
+            continuation = 2;
+        } else if ((first & 0xF8) == 0xF0) {
+            codePoint = first & 0x07;
+            continuation = 3;
+        } else {
+            throw malformed();
+        }
+
+        for (int i = 0; i < continuation; i++) {
+            var b = next() & 0xFF;
+            if ((b & 0xC0) != 0x80) {
+                throw malformed();
+            }
+            codePoint = codePoint << 6 | b & 0x3F;
+        }
+        // Overlong encodings, encoded surrogates and values past Unicode
+        if (codePoint < MIN_CODE_POINT[continuation] || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            throw malformed();
+        }
+
+        if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            pendingLowSurrogate = Character.lowSurrogate(codePoint);
+            return Character.highSurrogate(codePoint);
+        }
+        return codePoint;
+    }
+
+    private void skipWhitespace() {
+        while (position < end) {
+            var c = body.getByte(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private void expectLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            expect(literal.charAt(i));
+        }
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw malformed();
+        }
+    }
+
+    private byte peek() {
+        if (position >= end) {
+            throw malformed();
+        }
+        return body.getByte(position);
+    }
+
+    private byte next() {
+        if (position >= end) {
+            throw malformed();
+        }
+        return body.getByte(position++);
+    }
+
+    private static boolean isDelimiter(byte c) {
+        return c == ',' || c == '}' || c == ']' || c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    private static IllegalArgumentException malformed() {
+        return new IllegalArgumentException("Malformed request body, expected {\"password\": \"...\"}");
+    }
+}
@@ -0,0 +1,53 @@
+package com.password.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.password.model.PasswordResponse;
+
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.MutableHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.body.MessageBodyWriter;
+import io.micronaut.http.codec.CodecException;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes pre-encoded responses straight into the Netty buffer and every other
+ * PasswordResponse through the JSON mapper
+ */
+@Singleton
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+public class PasswordResponseBodyWriter implements MessageBodyWriter<PasswordResponse> {
+
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public void writeTo(Argument<PasswordResponse> type, MediaType mediaType, PasswordResponse object,
+            MutableHeaders outgoingHeaders, OutputStream outputStream) throws CodecException {
+        try {
+            if (object instanceof PreEncodedPasswordResponse preEncoded) {
+                outputStream.write(preEncoded.getJson());
+            } else {
+                jsonMapper.writeValue(outputStream, type, object);
+            }
+        } catch (IOException exception) {
+            throw new CodecException("Error encoding password response: " + exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public ByteBuffer<?> writeTo(Argument<PasswordResponse> type, MediaType mediaType, PasswordResponse object,
+            MutableHeaders outgoingHeaders, ByteBufferFactory<?, ?> bufferFactory) throws CodecException {
+        if (object instanceof PreEncodedPasswordResponse preEncoded) {
+            return bufferFactory.wrap(preEncoded.getJson());
+        }
+        return MessageBodyWriter.super.writeTo(type, mediaType, object, outgoingHeaders, bufferFactory);
+    }
+}
@@ -0,0 +1,66 @@
+package com.password.core;
+
+import java.io.IOException;
+
+import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+
+/**
+ * Shared, read-only PasswordResponse that carries its JSON encoding, so it can
+ * be written to the response without going through the serializer. It never
+ * contains a password.
+ */
+public final class PreEncodedPasswordResponse extends PasswordResponse {
+
+    private final byte[] json;
+
+    private PreEncodedPasswordResponse(String message, PasswordResponseStatus status, byte[] json) {
+        super.setMessage(message);
+        super.setStatus(status);
+        this.json = json;
+    }
+
+    /**
+     * Encodes a response once with the application's JSON mapper
+     *
+     * @param jsonMapper The mapper used for every other PasswordResponse
+     * @param message    The message of the response
+     * @param status     The status of the response
+     * @return PreEncodedPasswordResponse holding the encoded bytes
+     */
+    public static PreEncodedPasswordResponse encode(JsonMapper jsonMapper, String message,
+            PasswordResponseStatus status) {
+        var plain = HttpResponseUtils.createPasswordResponse(message, null, status);
+        try {
+            return new PreEncodedPasswordResponse(message, status,
+                    jsonMapper.writeValueAsBytes(Argument.of(PasswordResponse.class), plain));
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * @return The encoded JSON, shared between requests and not to be modified
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw new UnsupportedOperationException("Pre-encoded responses are shared and cannot be modified");
+    }
+
+    @Override
+    public void setStatus(PasswordResponseStatus status) {
+        throw new UnsupportedOperationException("Pre-encoded responses are shared and cannot be modified");
+    }
+
+    @Override
+    public void setPassword(String password) {
+        throw new UnsupportedOperationException("Pre-encoded responses are shared and cannot be modified");
+    }
+}
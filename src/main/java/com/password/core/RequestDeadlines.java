@@ -0,0 +1,76 @@
+package com.password.core;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.password.domain.ai.deadline.Deadline;
+import com.password.domain.ai.deadline.DeadlineConfiguration;
+
+import io.grpc.Context;
+import io.micronaut.http.context.ServerRequestContext;
+import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.netty.channel.ChannelFutureListener;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the deadline of the current HTTP request from the timeout header,
+ * or of the current gRPC call from its deadline, capped at
+ * {@code password.ai.deadline.max}, or from the endpoint default. The
+ * deadline is cancelled as soon as the client closes the connection or
+ * cancels the call.
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+public class RequestDeadlines {
+
+    private final DeadlineConfiguration configuration;
+
+    /**
+     * @param endpointDefault Picks the timeout to use when the client sends none
+     * @return The request's deadline, to be closed once the response is built
+     */
+    public Deadline begin(Function<DeadlineConfiguration, Duration> endpointDefault) {
+        var request = ServerRequestContext.currentRequest();
+        // Outside of an HTTP request this is the gRPC call, or the root context that never ends
+        var call = request.isEmpty() ? Context.current() : Context.ROOT;
+        var timeout = request
+                .flatMap(current -> current.getHeaders().get(configuration.getHeader(), Long.class))
+                .filter(millis -> millis > 0)
+                .map(Duration::ofMillis)
+                .or(() -> Optional.ofNullable(call.getDeadline())
+                        .map(callDeadline -> Duration.ofMillis(Math.max(0,
+                                callDeadline.timeRemaining(TimeUnit.MILLISECONDS)))))
+                .orElseGet(() -> endpointDefault.apply(configuration));
+        if (timeout.compareTo(configuration.getMax()) > 0) {
+            timeout = configuration.getMax();
+        }
+
+        var deadline = Deadline.after(timeout);
+        request.filter(NettyHttpRequest.class::isInstance)
+                .map(current -> ((NettyHttpRequest<?>) current).getChannelHandlerContext().channel())
+                .ifPresent(channel -> {
+                    ChannelFutureListener listener = closed -> {
+                        log.info("Client disconnected, cancelling its AI work");
+                        deadline.cancel();
+                    };
+                    channel.closeFuture().addListener(listener);
+                    // Keep-alive connections outlive the request, don't leak one listener per request
+                    deadline.onClose(() -> channel.closeFuture().removeListener(listener));
+                });
+        if (call != Context.ROOT) {
+            Context.CancellationListener listener = cancelled -> {
+                log.info("gRPC call cancelled, cancelling its AI work");
+                deadline.cancel();
+            };
+            call.addListener(listener, Runnable::run);
+            deadline.onClose(() -> call.removeListener(listener));
+        }
+
+        return deadline;
+    }
+}
@@ -0,0 +1,49 @@
+package com.password.core.audit;
+
+import java.time.Duration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(AuditConfiguration.PREFIX)
+public class AuditConfiguration {
+
+    public static final String PREFIX = "password.audit";
+
+    /**
+     * Records the outcome of every validation and generation
+     */
+    private boolean enabled = true;
+
+    /**
+     * Slots of the in-memory ring, rounded up to a power of two. When the
+     * writer falls this far behind, new events are dropped.
+     */
+    private int capacity = 16_384;
+
+    /**
+     * Directory of the audit files
+     */
+    private String path = "data/audit";
+
+    /**
+     * Size of each audit file, a new one is started when it is full
+     */
+    private int fileSizeMb = 64;
+
+    /**
+     * Audit files kept, the oldest are deleted
+     */
+    private int maxFiles = 10;
+
+    /**
+     * Most events written per batch
+     */
+    private int batchSize = 512;
+
+    /**
+     * How often written events are forced to disk
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,23 @@
+package com.password.core.audit;
+
+import com.password.domain.expression.PasswordRules;
+import com.password.model.PasswordResponseStatus;
+
+/**
+ * One recorded outcome, as read back from an audit file. Never holds the
+ * password.
+ *
+ * @param sequence        Position in the stream. Dropped events never get
+ *                        one, so there are no gaps: drops only show in the
+ *                        {@code password.audit.dropped} gauge
+ * @param timestampMillis When the outcome was recorded
+ * @param operation       Validation or generation
+ * @param path            Which validator answered
+ * @param status          Status of the response, null when there was none
+ * @param rule            Rule hit by the local validator, null on the AI path
+ * @param httpStatus      HTTP status of the response
+ * @param latencyMicros   Time spent serving the request
+ */
+public record AuditEvent(long sequence, long timestampMillis, AuditOperation operation, AuditPath path,
+        PasswordResponseStatus status, PasswordRules rule, int httpStatus, long latencyMicros) {
+}
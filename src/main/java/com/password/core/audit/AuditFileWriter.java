@@ -0,0 +1,155 @@
+package com.password.core.audit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rolling, memory-mapped, append-only audit files.
+ * <p>
+ * Each file starts with an 8 byte magic and holds fixed-size records laid out
+ * as {@code sequence (8) | event (8) | timestamp (8)}. The timestamp goes last
+ * and is never zero, so a zero timestamp marks the end of the file, including
+ * after a crash in the middle of a record. When a file is full a new one is
+ * started and the oldest files beyond {@code max-files} are deleted.
+ */
+@Slf4j
+public class AuditFileWriter implements AutoCloseable {
+
+    static final int RECORD_SIZE = 3 * Long.BYTES;
+
+    private static final long MAGIC = 0x5057415544495431L; // "PWAUDIT1"
+    private static final int FILE_HEADER = Long.BYTES;
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int fileSize;
+    private final int maxFiles;
+
+    private MappedByteBuffer buffer;
+    private Path current;
+    private int position;
+
+    public AuditFileWriter(Path directory, int fileSize, int maxFiles) {
+        this.directory = directory;
+        this.fileSize = Math.max(fileSize, FILE_HEADER + RECORD_SIZE);
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * Appends one record, starting a new file when the current one is full
+     */
+    public void write(long sequence, long timestampMillis, long event) {
+        if (buffer == null || position + RECORD_SIZE > fileSize) {
+            roll(sequence, timestampMillis);
+        }
+        buffer.putLong(position, sequence);
+        buffer.putLong(position + Long.BYTES, event);
+        buffer.putLong(position + 2 * Long.BYTES, timestampMillis);
+        position += RECORD_SIZE;
+    }
+
+    public void force() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    public Path getCurrent() {
+        return current;
+    }
+
+    @Override
+    public void close() {
+        force();
+        buffer = null;
+    }
+
+    /**
+     * Reads every complete record of an audit file
+     *
+     * @param file The audit file
+     * @return The events in the order they were written
+     */
+    public static List<AuditEvent> read(Path file) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.limit() < FILE_HEADER || mapped.getLong(0) != MAGIC) {
+                throw new IllegalArgumentException("Not an audit file: " + file);
+            }
+
+            var events = new ArrayList<AuditEvent>();
+            for (int offset = FILE_HEADER; offset + RECORD_SIZE <= mapped.limit(); offset += RECORD_SIZE) {
+                var timestamp = mapped.getLong(offset + 2 * Long.BYTES);
+                if (timestamp == 0) {
+                    break;
+                }
+                events.add(AuditLog.unpack(mapped.getLong(offset), timestamp, mapped.getLong(offset + Long.BYTES)));
+            }
+            return events;
+        } catch (IOException exception) {
+            log.error("Error reading audit file {}", file, exception);
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * @return The audit files of the directory, oldest first
+     */
+    public static List<Path> list(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                var name = file.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().toList();
+        } catch (IOException exception) {
+            log.error("Error listing audit files in {}", directory, exception);
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private void roll(long sequence, long timestampMillis) {
+        force();
+        var file = directory.resolve(String.format("%s%013d-%019d%s", PREFIX, timestampMillis, sequence, SUFFIX));
+        try {
+            Files.createDirectories(directory);
+            try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            }
+        } catch (IOException exception) {
+            log.error("Error creating audit file {}", file, exception);
+            throw new RuntimeException(exception);
+        }
+        buffer.putLong(0, MAGIC);
+        position = FILE_HEADER;
+        current = file;
+        log.info("Writing audit events to {}", file);
+
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() {
+        var files = list(directory);
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+                log.info("Deleted old audit file {}", files.get(i));
+            } catch (IOException exception) {
+                log.warn("Could not delete old audit file {}", files.get(i), exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.password.core.audit;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.password.domain.expression.PasswordRules;
+import com.password.model.PasswordResponseStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Audit trail of validation and generation outcomes: operation, path, status,
+ * rule hit, HTTP status and latency, never the password.
+ * <p>
+ * Request threads only pack the event into a long and publish it to an
+ * {@link AuditRingBuffer}; a background thread writes batches to rolling
+ * {@link AuditFileWriter} files and forces them to disk every
+ * {@code flush-interval}. When the writer falls a full ring behind, new
+ * events are dropped (drop-newest) rather than slowing requests down; drops
+ * are counted in {@code password.audit.dropped} and logged.
+ * <p>
+ * An idle writer backs off from 1 ms to 64 ms between polls, then flags
+ * itself idle and sleeps until the next publish wakes it, or until written
+ * events are due to be forced. A quiet service does not wake up at all, and
+ * the first event after a pause is still written right away.
+ */
+@Slf4j
+@Singleton
+public class AuditLog {
+
+    private static final int NONE = 0xF;
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(64);
+    private static final AuditOperation[] OPERATIONS = AuditOperation.values();
+    private static final AuditPath[] PATHS = AuditPath.values();
+    private static final PasswordResponseStatus[] STATUSES = PasswordResponseStatus.values();
+    private static final PasswordRules[] RULES = PasswordRules.values();
+
+    private final AuditConfiguration configuration;
+    private final AuditRingBuffer ring;
+    private final AuditFileWriter writer;
+    private final Counter written;
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+    private volatile boolean idle;
+
+    public AuditLog(AuditConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.ring = new AuditRingBuffer(configuration.getCapacity());
+        this.writer = new AuditFileWriter(Path.of(configuration.getPath()),
+                configuration.getFileSizeMb() * 1024 * 1024, configuration.getMaxFiles());
+
+        Gauge.builder("password.audit.backlog", ring, AuditRingBuffer::backlog)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("password.audit.dropped", ring, AuditRingBuffer::dropped)
+                .description("Audit events dropped because the ring was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("password.audit.written")
+                .description("Audit events written to disk")
+                .register(meterRegistry);
+
+        this.writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        if (configuration.isEnabled()) {
+            writerThread.start();
+        }
+    }
+
+    /**
+     * Records an outcome without blocking
+     *
+     * @param operation    Validation or generation
+     * @param path         Which validator answered
+     * @param status       Status of the response, may be null
+     * @param rule         Rule hit by the local validator, null on the AI path
+     * @param httpStatus   HTTP status of the response
+     * @param latencyNanos Time spent serving the request
+     * @return Whether the event was recorded, false when disabled or dropped
+     */
+    public boolean publish(AuditOperation operation, AuditPath path, PasswordResponseStatus status,
+            PasswordRules rule, int httpStatus, long latencyNanos) {
+        if (!configuration.isEnabled()) {
+            return false;
+        }
+        var published = ring.tryPublish(System.currentTimeMillis(),
+                pack(operation, path, status, rule, httpStatus, latencyNanos / 1_000));
+        if (idle) {
+            idle = false;
+            LockSupport.unpark(writerThread);
+        }
+        return published;
+    }
+
+    /**
+     * Writes everything published so far, for shutdown and tests
+     */
+    public synchronized void flush() {
+        int count;
+        while ((count = ring.drain(writer::write, Integer.MAX_VALUE)) > 0) {
+            written.increment(count);
+        }
+        writer.force();
+    }
+
+    public Path getCurrentFile() {
+        return writer.getCurrent();
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        if (configuration.isEnabled()) {
+            flush();
+            writer.close();
+        }
+    }
+
+    /**
+     * Layout: latency in micros (32) | HTTP status (16) | operation (4) |
+     * path (4) | status (4) | rule (4), where 0xF stands for none
+     */
+    static long pack(AuditOperation operation, AuditPath path, PasswordResponseStatus status, PasswordRules rule,
+            int httpStatus, long latencyMicros) {
+        return Math.min(latencyMicros, 0xFFFF_FFFFL) << 32
+                | (long) (httpStatus & 0xFFFF) << 16
+                | operation.ordinal() << 12
+                | path.ordinal() << 8
+                | (status != null ? status.ordinal() : NONE) << 4
+                | (rule != null ? rule.ordinal() : NONE);
+    }
+
+    static AuditEvent unpack(long sequence, long timestampMillis, long event) {
+        var status = (int) (event >>> 4) & 0xF;
+        var rule = (int) event & 0xF;
+        return new AuditEvent(sequence, timestampMillis,
+                OPERATIONS[(int) (event >>> 12) & 0xF],
+                PATHS[(int) (event >>> 8) & 0xF],
+                status != NONE ? STATUSES[status] : null,
+                rule != NONE ? RULES[rule] : null,
+                (int) (event >>> 16) & 0xFFFF,
+                event >>> 32);
+    }
+
+    private void runWriter() {
+        var lastForce = System.nanoTime();
+        var lastDropped = 0L;
+        var dirty = false;
+        var backoffNanos = MIN_BACKOFF_NANOS;
+
+        while (running) {
+            int count;
+            try {
+                synchronized (this) {
+                    count = ring.drain(writer::write, configuration.getBatchSize());
+                }
+            } catch (RuntimeException exception) {
+                // The failed event and the ones after it stay in the ring,
+                // retry once the disk recovers
+                log.error("Error writing audit events", exception);
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+                continue;
+            }
+            if (count > 0) {
+                written.increment(count);
+                dirty = true;
+                backoffNanos = MIN_BACKOFF_NANOS;
+                continue;
+            }
+
+            var now = System.nanoTime();
+            if (dirty && now - lastForce >= configuration.getFlushInterval().toNanos()) {
+                synchronized (this) {
+                    writer.force();
+                }
+                lastForce = now;
+                dirty = false;
+
+                var dropped = ring.dropped();
+                if (dropped > lastDropped) {
+                    log.warn("Dropped {} audit events, the writer could not keep up", dropped - lastDropped);
+                    lastDropped = dropped;
+                }
+            }
+
+            if (backoffNanos < MAX_BACKOFF_NANOS) {
+                LockSupport.parkNanos(backoffNanos);
+                backoffNanos *= 2;
+                continue;
+            }
+            // Flag first, then look again: an event published in between
+            // either is seen here or sees the flag and unparks
+            idle = true;
+            if (ring.backlog() == 0 && running) {
+                if (dirty) {
+                    LockSupport.parkNanos(Math.max(1, lastForce + configuration.getFlushInterval().toNanos() - now));
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+            idle = false;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.password.core.audit;
+
+public enum AuditOperation {
+    VALIDATE,
+    GENERATE
+}
@@ -0,0 +1,22 @@
+package com.password.core.audit;
+
+/**
+ * Which validator produced the outcome
+ */
+public enum AuditPath {
+    REGEX,
+    AI,
+    AI_CACHE,
+    /**
+     * The AI had no room and the local rules answered instead
+     */
+    LOCAL_FALLBACK,
+    /**
+     * The local Markov model
+     */
+    MARKOV,
+    /**
+     * The diceware passphrase generator
+     */
+    PASSPHRASE
+}
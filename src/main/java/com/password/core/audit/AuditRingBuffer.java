@@ -0,0 +1,107 @@
+package com.password.core.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Preallocated, lock-free ring of audit events for many producers and a
+ * single consumer.
+ * <p>
+ * A producer claims a sequence with one CAS, writes the event's two words in
+ * the slot and publishes it by storing the sequence with release semantics;
+ * nothing is allocated. When the consumer is a full ring behind, the new
+ * event is dropped instead of blocking the request (drop-newest) and only
+ * counted.
+ */
+public class AuditRingBuffer {
+
+    private final int mask;
+    private final long[] timestamps;
+    private final long[] packed;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public AuditRingBuffer(int capacity) {
+        var size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.timestamps = new long[size];
+        this.packed = new long[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * @param timestampMillis When the event happened
+     * @param event           The event's fields, packed by the caller
+     * @return Whether the event was accepted, false when the ring is full
+     */
+    public boolean tryPublish(long timestampMillis, long event) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() > mask) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        var index = (int) sequence & mask;
+        timestamps[index] = timestampMillis;
+        packed[index] = event;
+        published.setRelease(index, sequence);
+        return true;
+    }
+
+    /**
+     * Hands the published events in order to the consumer, stopping at the
+     * first slot still being written. Only one thread may drain.
+     * <p>
+     * Each event is consumed once the consumer returns, so when it throws,
+     * the next drain resumes at the event that failed instead of handing
+     * over the ones before it again.
+     *
+     * @param consumer Receives each event
+     * @param max      Most events to hand over
+     * @return The number of events handed over
+     */
+    public int drain(Consumer consumer, int max) {
+        var next = consumed.get();
+        var count = 0;
+        while (count < max) {
+            var index = (int) next & mask;
+            if (published.getAcquire(index) != next) {
+                break;
+            }
+            consumer.accept(next, timestamps[index], packed[index]);
+            next++;
+            count++;
+            consumed.setRelease(next);
+        }
+        return count;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return Events published but not drained yet
+     */
+    public long backlog() {
+        return claimed.get() - consumed.get();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+
+        void accept(long sequence, long timestampMillis, long event);
+    }
+}
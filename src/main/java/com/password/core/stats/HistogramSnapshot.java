@@ -0,0 +1,32 @@
+package com.password.core.stats;
+
+import org.HdrHistogram.Histogram;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Distribution of the values recorded in a histogram
+ *
+ * @param count Values recorded
+ * @param min   Smallest value
+ * @param mean  Mean value
+ * @param p50   Median
+ * @param p90   90th percentile
+ * @param p99   99th percentile
+ * @param p999  99.9th percentile
+ * @param max   Largest value
+ */
+@Serdeable
+public record HistogramSnapshot(long count, long min, double mean, long p50, long p90, long p99, long p999,
+        long max) {
+
+    static HistogramSnapshot of(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return new HistogramSnapshot(0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new HistogramSnapshot(histogram.getTotalCount(), histogram.getMinValue(), histogram.getMean(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue());
+    }
+}
@@ -0,0 +1,128 @@
+package com.password.core.stats;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.password.core.HttpResponseUtils.ParseStatus;
+import com.password.domain.expression.PasswordRules;
+
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.inject.Singleton;
+
+/**
+ * Latency distributions of each endpoint, each {@link PasswordRules} outcome
+ * and each {@link ParseStatus} of the AI answers, in microseconds, and the
+ * number of attempts each AI generation took.
+ * <p>
+ * Recording costs a few atomic increments on a {@link StripedRecorder}; all
+ * the percentile work happens when a {@link Report} is asked for.
+ */
+@Singleton
+public class LatencyStats {
+
+    private final StatsConfiguration configuration;
+    private final Map<String, StripedRecorder> endpoints = new ConcurrentHashMap<>();
+    private final Map<PasswordRules, StripedRecorder> rules = new EnumMap<>(PasswordRules.class);
+    private final Map<ParseStatus, StripedRecorder> aiParse = new EnumMap<>(ParseStatus.class);
+    private final StripedRecorder generateAttempts;
+
+    private volatile long intervalStartMillis = System.currentTimeMillis();
+
+    public LatencyStats(StatsConfiguration configuration) {
+        this.configuration = configuration;
+        for (var rule : PasswordRules.values()) {
+            rules.put(rule, newRecorder());
+        }
+        for (var status : ParseStatus.values()) {
+            aiParse.put(status, newRecorder());
+        }
+        this.generateAttempts = newRecorder();
+    }
+
+    /**
+     * @param path         Path of the endpoint, only known routes are expected
+     * @param latencyNanos Time spent serving the request
+     */
+    public void recordEndpoint(String path, long latencyNanos) {
+        if (configuration.isEnabled()) {
+            endpoints.computeIfAbsent(path, key -> newRecorder()).record(latencyNanos / 1_000);
+        }
+    }
+
+    /**
+     * @param rule         The outcome of the rule checks
+     * @param latencyNanos Time spent serving the request that ended with it
+     */
+    public void recordRule(PasswordRules rule, long latencyNanos) {
+        if (configuration.isEnabled()) {
+            rules.get(rule).record(latencyNanos / 1_000);
+        }
+    }
+
+    /**
+     * @param status       How the AI answer was parsed
+     * @param latencyNanos Time the AI took to answer
+     */
+    public void recordAiParse(ParseStatus status, long latencyNanos) {
+        if (configuration.isEnabled()) {
+            aiParse.get(status).record(latencyNanos / 1_000);
+        }
+    }
+
+    /**
+     * @param attempts Generations it took to get a valid password, or until
+     *                 the request gave up
+     */
+    public void recordGenerateAttempts(int attempts) {
+        if (configuration.isEnabled()) {
+            generateAttempts.record(attempts);
+        }
+    }
+
+    /**
+     * @param reset Starts a new interval once the report is taken
+     * @return The distributions of the current interval and since startup
+     */
+    public Report report(boolean reset) {
+        var start = intervalStartMillis;
+        var now = System.currentTimeMillis();
+
+        var endpointSnapshots = new TreeMap<String, StripedRecorder.Snapshot>();
+        endpoints.forEach((path, recorder) -> endpointSnapshots.put(path, recorder.snapshot(reset)));
+        var report = new Report(start, now, endpointSnapshots, snapshots(rules, reset), snapshots(aiParse, reset),
+                generateAttempts.snapshot(reset));
+
+        if (reset) {
+            intervalStartMillis = now;
+        }
+        return report;
+    }
+
+    private StripedRecorder newRecorder() {
+        return new StripedRecorder(configuration.getStripes(), configuration.getSignificantDigits());
+    }
+
+    private static Map<String, StripedRecorder.Snapshot> snapshots(Map<? extends Enum<?>, StripedRecorder> recorders,
+            boolean reset) {
+        var snapshots = new LinkedHashMap<String, StripedRecorder.Snapshot>();
+        recorders.forEach((key, recorder) -> snapshots.put(key.name(), recorder.snapshot(reset)));
+        return snapshots;
+    }
+
+    /**
+     * @param intervalStartMillis When the interval started, at startup or the last reset
+     * @param takenMillis         When the report was taken
+     * @param endpoints           Request latency per endpoint path, in microseconds
+     * @param rules               Request latency per rule outcome, in microseconds
+     * @param aiParse             AI answer latency per parse outcome, in microseconds
+     * @param generateAttempts    Attempts per AI generation
+     */
+    @Serdeable
+    public record Report(long intervalStartMillis, long takenMillis, Map<String, StripedRecorder.Snapshot> endpoints,
+            Map<String, StripedRecorder.Snapshot> rules, Map<String, StripedRecorder.Snapshot> aiParse,
+            StripedRecorder.Snapshot generateAttempts) {
+    }
+}
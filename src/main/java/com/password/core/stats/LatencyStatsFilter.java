@@ -0,0 +1,37 @@
+package com.password.core.stats;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records the latency of every request to the password endpoints in
+ * {@link LatencyStats}
+ */
+@RequiredArgsConstructor
+@ServerFilter({ "/validate", "/validate/**", "/ai/**", "/hash", "/hash/**" })
+public class LatencyStatsFilter {
+
+    private static final String START_ATTRIBUTE = LatencyStatsFilter.class.getName() + ".start";
+
+    private final LatencyStats latencyStats;
+
+    @RequestFilter
+    public void start(HttpRequest<?> request) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+
+    @ResponseFilter
+    public void finish(HttpRequest<?> request, HttpResponse<?> response) {
+        // Unknown paths would add one histogram each
+        if (response.getStatus() == HttpStatus.NOT_FOUND) {
+            return;
+        }
+        request.getAttribute(START_ATTRIBUTE, Long.class)
+                .ifPresent(start -> latencyStats.recordEndpoint(request.getPath(), System.nanoTime() - start));
+    }
+}
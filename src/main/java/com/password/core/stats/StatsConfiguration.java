@@ -0,0 +1,33 @@
+package com.password.core.stats;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(StatsConfiguration.PREFIX)
+public class StatsConfiguration {
+
+    public static final String PREFIX = "password.stats";
+
+    /**
+     * Records latency histograms per endpoint, rule outcome and AI answer
+     */
+    private boolean enabled = true;
+
+    /**
+     * Recorders per histogram, so concurrent requests rarely record into the
+     * same one. Rounded up to a power of two.
+     */
+    private int stripes = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Precision of the recorded values, in significant decimal digits
+     */
+    private int significantDigits = 2;
+
+    /**
+     * Lets {@code DELETE /stats} start a new interval. Anyone who can reach
+     * the endpoint can then reset it, enable it only where clients cannot.
+     */
+    private boolean resetEnabled = false;
+}
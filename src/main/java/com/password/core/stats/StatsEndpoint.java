@@ -0,0 +1,38 @@
+package com.password.core.stats;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.management.endpoint.annotation.Delete;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code GET /stats} returns the percentiles of the current interval and
+ * since startup, {@code DELETE /stats} returns them and starts a new
+ * interval, so a collector can read one interval per scrape.
+ * <p>
+ * Resetting throws away the interval everyone else reads and the service has
+ * no authentication, so it answers 403 unless
+ * {@code password.stats.reset-enabled} is set.
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "stats")
+public class StatsEndpoint {
+
+    private final LatencyStats latencyStats;
+    private final StatsConfiguration configuration;
+
+    @Read
+    public LatencyStats.Report read() {
+        return latencyStats.report(false);
+    }
+
+    @Delete
+    public HttpResponse<LatencyStats.Report> reset() {
+        if (!configuration.isResetEnabled()) {
+            return HttpResponse.status(HttpStatus.FORBIDDEN);
+        }
+        return HttpResponse.ok(latencyStats.report(true));
+    }
+}
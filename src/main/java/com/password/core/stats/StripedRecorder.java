@@ -0,0 +1,62 @@
+package com.password.core.stats;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * HdrHistogram recorder split in stripes picked by thread id.
+ * <p>
+ * Each {@link Recorder} is wait-free for writers, but every write still
+ * increments a shared epoch counter; striping keeps concurrent requests off
+ * the same cache lines. A snapshot collects the stripes' interval histograms
+ * into an interval histogram, kept until {@link #snapshot(boolean)} is asked
+ * to reset it, and a total kept since startup.
+ */
+public class StripedRecorder {
+
+    private final int mask;
+    private final Recorder[] stripes;
+    private final Histogram[] spares;
+    private final Histogram interval;
+    private final Histogram total;
+
+    public StripedRecorder(int stripes, int significantDigits) {
+        var size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.mask = size - 1;
+        this.stripes = new Recorder[size];
+        this.spares = new Histogram[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Recorder(significantDigits);
+        }
+        this.interval = new Histogram(significantDigits);
+        this.total = new Histogram(significantDigits);
+    }
+
+    public void record(long value) {
+        stripes[(int) Thread.currentThread().threadId() & mask].recordValue(Math.max(0, value));
+    }
+
+    /**
+     * @param reset Starts a new interval once the snapshot is taken
+     * @return The distributions of the current interval and since startup
+     */
+    public synchronized Snapshot snapshot(boolean reset) {
+        for (int i = 0; i < stripes.length; i++) {
+            spares[i] = stripes[i].getIntervalHistogram(spares[i]);
+            interval.add(spares[i]);
+            total.add(spares[i]);
+        }
+
+        var snapshot = new Snapshot(HistogramSnapshot.of(interval), HistogramSnapshot.of(total));
+        if (reset) {
+            interval.reset();
+        }
+        return snapshot;
+    }
+
+    @Serdeable
+    public record Snapshot(HistogramSnapshot interval, HistogramSnapshot total) {
+    }
+}
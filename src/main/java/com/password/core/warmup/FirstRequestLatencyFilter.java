@@ -0,0 +1,60 @@
+package com.password.core.warmup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports the latency of the first request served by each endpoint, the one
+ * that pays for anything the warm-up missed, as
+ * {@code password.warmup.first.request}
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ServerFilter({ "/validate", "/validate/**", "/ai/**", "/hash", "/hash/**" })
+public class FirstRequestLatencyFilter {
+
+    private static final String START_ATTRIBUTE = FirstRequestLatencyFilter.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> firstLatencies = new ConcurrentHashMap<>();
+
+    @RequestFilter
+    public void start(HttpRequest<?> request) {
+        if (!firstLatencies.containsKey(request.getPath())) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+    }
+
+    @ResponseFilter
+    public void finish(HttpRequest<?> request, HttpResponse<?> response) {
+        // Unknown paths would add one gauge each
+        if (response.getStatus() == HttpStatus.NOT_FOUND) {
+            return;
+        }
+        request.getAttribute(START_ATTRIBUTE, Long.class).ifPresent(start -> {
+            var path = request.getPath();
+            var latencyNanos = System.nanoTime() - start;
+            if (firstLatencies.putIfAbsent(path, latencyNanos) == null) {
+                log.info("First request to {} took {} ms", path, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+                Gauge.builder("password.warmup.first.request", firstLatencies,
+                        latencies -> latencies.get(path) / 1_000_000.0)
+                        .description("Latency of the first request served by the endpoint")
+                        .baseUnit("milliseconds")
+                        .tag("path", path)
+                        .register(meterRegistry);
+            }
+        });
+    }
+}
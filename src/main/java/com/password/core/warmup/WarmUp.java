@@ -0,0 +1,182 @@
+package com.password.core.warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.password.core.HttpResponseUtils;
+import com.password.domain.ai.routing.ChatBackendConfiguration;
+import com.password.domain.expression.CharacterClass;
+import com.password.domain.expression.PasswordResponseTemplates;
+import com.password.domain.expression.PasswordRules;
+import com.password.domain.expression.PasswordValidator;
+import com.password.model.PasswordResponse;
+import com.password.model.ValidateRequest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the request hot paths once the application has started, so the first
+ * requests don't pay for class loading, Serde introspection, interpreted code
+ * and the connection to the model. Readiness stays down until it is done or
+ * {@code password.warmup.time-limit} has passed.
+ */
+@Slf4j
+@Singleton
+public class WarmUp {
+
+    private static final List<String> SAMPLES = List.of(
+            "SecurePass123!", "weak", "", "nouppercase1!", "NOLOWERCASE1!", "NoDigits!!", "NoSpecial123",
+            "Senha@2024", "x".repeat(129));
+
+    private final WarmUpConfiguration configuration;
+    private final PasswordValidator passwordValidator;
+    private final PasswordResponseTemplates templates;
+    private final JsonMapper jsonMapper;
+    private final List<ChatBackendConfiguration> backends;
+    private final ExecutorService executor;
+    private final long createdAtNanos = System.nanoTime();
+
+    private volatile boolean done;
+    private volatile long durationNanos = -1;
+
+    public WarmUp(WarmUpConfiguration configuration, PasswordValidator passwordValidator,
+            PasswordResponseTemplates templates, JsonMapper jsonMapper, List<ChatBackendConfiguration> backends,
+            @Named(TaskExecutors.BLOCKING) ExecutorService executor, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.passwordValidator = passwordValidator;
+        this.templates = templates;
+        this.jsonMapper = jsonMapper;
+        this.backends = backends;
+        this.executor = executor;
+        this.done = !configuration.isEnabled();
+
+        Gauge.builder("password.warmup.duration", this, warmUp -> warmUp.durationNanos / 1_000_000.0)
+                .description("Time the startup warm-up took, -1 until done")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        if (configuration.isEnabled()) {
+            executor.execute(this::run);
+        }
+    }
+
+    /**
+     * Runs the warm-up on the calling thread
+     */
+    public void run() {
+        var start = System.nanoTime();
+        try {
+            exerciseValidator();
+            exerciseResponses();
+            if (configuration.isPreconnect()) {
+                preconnect();
+            }
+        } catch (Exception exception) {
+            // A failed warm-up only costs latency, it must not keep the instance out of rotation
+            log.warn("Warm-up failed, continuing cold", exception);
+        } finally {
+            durationNanos = System.nanoTime() - start;
+            done = true;
+            log.info("Warm-up done in {} ms", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        }
+    }
+
+    /**
+     * @return Whether the instance may take traffic
+     */
+    public boolean isReady() {
+        return done || isTimedOut();
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public boolean isTimedOut() {
+        return !done && System.nanoTime() - createdAtNanos >= configuration.getTimeLimit().toNanos();
+    }
+
+    /**
+     * @return How long the warm-up took, -1 while running
+     */
+    public long getDurationMillis() {
+        return durationNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    private void exerciseValidator() {
+        // The full validator logs each call, run it once per sample and loop on what it delegates to
+        for (var sample : SAMPLES) {
+            passwordValidator.validate(sample);
+        }
+
+        var mask = 0;
+        for (int i = 0; i < configuration.getIterations(); i++) {
+            mask |= CharacterClass.mask(SAMPLES.get(i % SAMPLES.size()));
+        }
+        log.debug("Warmed up the rule checks ({})", mask);
+    }
+
+    private void exerciseResponses() throws Exception {
+        var request = new ValidateRequest();
+        var rules = PasswordRules.values();
+        var requestType = Argument.of(ValidateRequest.class);
+        var responseType = Argument.of(PasswordResponse.class);
+
+        for (int i = 0; i < configuration.getIterations(); i++) {
+            var sample = SAMPLES.get(i % SAMPLES.size());
+            request.setPassword(sample);
+
+            var parsed = jsonMapper.readValue(jsonMapper.writeValueAsBytes(requestType, request), requestType);
+            var response = HttpResponseUtils.createPasswordResponse("valid;Awesome password, bro!",
+                    parsed.getPassword());
+            jsonMapper.writeValueAsBytes(responseType, response);
+            templates.of(rules[i % rules.length]);
+        }
+    }
+
+    private void preconnect() {
+        var urls = new LinkedHashSet<>(configuration.getModelUrls());
+        backends.stream()
+                .map(ChatBackendConfiguration::getBaseUrl)
+                .filter(baseUrl -> baseUrl != null && !baseUrl.isBlank())
+                .forEach(urls::add);
+
+        var client = HttpClient.newBuilder().connectTimeout(configuration.getConnectTimeout()).build();
+        for (var url : urls) {
+            var start = System.nanoTime();
+            try {
+                var request = HttpRequest.newBuilder(URI.create(url))
+                        .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                        .timeout(configuration.getConnectTimeout())
+                        .build();
+                // Any status will do, unauthenticated calls are expected to be refused
+                var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                log.info("Connected to {} in {} ms ({})", url,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), response.statusCode());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception exception) {
+                log.warn("Could not connect to {}: {}", url, exception.getMessage());
+            }
+        }
+    }
+}
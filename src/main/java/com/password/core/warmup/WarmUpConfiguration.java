@@ -0,0 +1,44 @@
+package com.password.core.warmup;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(WarmUpConfiguration.PREFIX)
+public class WarmUpConfiguration {
+
+    public static final String PREFIX = "password.warmup";
+
+    /**
+     * Exercises the hot paths at startup and keeps the readiness check down
+     * until done
+     */
+    private boolean enabled = true;
+
+    /**
+     * Rounds of rule checks, response building and JSON round trips
+     */
+    private int iterations = 5_000;
+
+    /**
+     * Readiness opens after this long even when the warm-up is not done
+     */
+    private Duration timeLimit = Duration.ofSeconds(30);
+
+    /**
+     * Opens a connection to every model endpoint, so DNS, TLS and the
+     * session cache are ready before the first AI call
+     */
+    private boolean preconnect = true;
+
+    /**
+     * Model endpoints to connect to, besides the base URLs of
+     * {@code password.ai.backends}
+     */
+    private List<String> modelUrls = List.of("https://api.openai.com/v1/models");
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,41 @@
+package com.password.core.warmup;
+
+import java.util.LinkedHashMap;
+
+import org.reactivestreams.Publisher;
+
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps {@code /health/readiness} down until the warm-up is done or its time
+ * limit has passed
+ */
+@Readiness
+@Singleton
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private static final String NAME = "warmUp";
+
+    private final WarmUp warmUp;
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        return Publishers.just(result());
+    }
+
+    HealthResult result() {
+        var details = new LinkedHashMap<String, Object>();
+        details.put("state", warmUp.isDone() ? "done" : warmUp.isTimedOut() ? "timed-out" : "warming-up");
+        details.put("durationMs", warmUp.getDurationMillis());
+
+        var status = warmUp.isReady() ? HealthStatus.UP : HealthStatus.DOWN;
+        return HealthResult.builder(NAME, status).details(details).build();
+    }
+}
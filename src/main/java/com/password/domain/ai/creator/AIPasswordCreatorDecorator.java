@@ -1,6 +1,13 @@
 package com.password.domain.ai.creator;
 
 import com.password.core.HttpResponseUtils;
+import com.password.core.stats.LatencyStats;
+import com.password.domain.ai.deadline.Deadline;
+import com.password.domain.ai.deadline.DeadlineCalls;
+import com.password.domain.ai.deadline.DeadlineExceededException;
+import com.password.domain.ai.quota.QuotaExceededException;
+import com.password.domain.ai.quota.QuotaPriority;
+import com.password.domain.ai.quota.QuotaScheduler;
 import com.password.domain.ai.validator.AIPasswordValidator;
 import com.password.model.PasswordResponse;
 import com.password.model.PasswordResponseStatus;
@@ -14,8 +21,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AIPasswordCreatorDecorator {
 
+    private static final String GENERATE_MESSAGE = "Generate a password";
+
     private final AIPasswordCreator aiPasswordCreator;
     private final AIPasswordValidator aiPasswordValidator;
+    private final DeadlineCalls deadlineCalls;
+    private final QuotaScheduler quotaScheduler;
+    private final LatencyStats latencyStats;
 
     /**
      * Generates a password using AI and validates it before returning
@@ -24,7 +36,25 @@ public class AIPasswordCreatorDecorator {
      * @return PasswordResponse with the generated password and validation result
      */
     public PasswordResponse generateAndValidatePassword() {
-        return generateAndValidatePasswordRecursive(1);
+        return generateAndValidatePassword(Deadline.none());
+    }
+
+    /**
+     * Same as {@link #generateAndValidatePassword()}, but stops retrying and
+     * aborts the outstanding AI call once the deadline passes or is cancelled
+     *
+     * @param deadline The deadline of the request
+     * @return PasswordResponse with the generated password and validation result
+     * @throws DeadlineExceededException when no valid password was found in time
+     * @throws QuotaExceededException    when the AI quota had no room in time
+     */
+    public PasswordResponse generateAndValidatePassword(Deadline deadline) {
+        var attempts = new int[1];
+        try {
+            return generateAndValidatePasswordRecursive(1, deadline, attempts);
+        } finally {
+            latencyStats.recordGenerateAttempts(attempts[0]);
+        }
     }
 
     /**
@@ -32,14 +62,23 @@ public class AIPasswordCreatorDecorator {
      * achieved
      * 
      * @param attemptNumber Current attempt number
+     * @param deadline      The deadline of the request
+     * @param attempts      Holds the number of the last attempt made
      * @return PasswordResponse with the generated password and validation result
      */
-    private PasswordResponse generateAndValidatePasswordRecursive(int attemptNumber) {
+    private PasswordResponse generateAndValidatePasswordRecursive(int attemptNumber, Deadline deadline,
+            int[] attempts) {
         try {
             log.info("Password generation attempt #{}", attemptNumber);
+            attempts[0] = attemptNumber;
+            // Nobody is waiting for another attempt
+            deadlineCalls.ensureNotExpired(deadline);
 
             // Generate password using AI
-            var generatedPassword = aiPasswordCreator.generate("Generate a password");
+            quotaScheduler.acquire(QuotaPriority.GENERATE, quotaScheduler.estimateTokens(GENERATE_MESSAGE),
+                    deadline);
+            var generatedPassword = deadlineCalls.call(deadline,
+                    () -> aiPasswordCreator.generate(GENERATE_MESSAGE));
             log.debug("Generated password (attempt #{}): {}", attemptNumber,
                     generatedPassword != null ? "***" : "null");
 
@@ -49,7 +88,12 @@ public class AIPasswordCreatorDecorator {
             }
 
             // Validate the generated password
-            var validationResult = aiPasswordValidator.validate(generatedPassword);
+            quotaScheduler.acquire(QuotaPriority.GENERATE, quotaScheduler.estimateTokens(generatedPassword),
+                    deadline);
+            var start = System.nanoTime();
+            var validationResult = deadlineCalls.call(deadline,
+                    () -> aiPasswordValidator.validate(generatedPassword));
+            latencyStats.recordAiParse(HttpResponseUtils.parseStatusOf(validationResult), System.nanoTime() - start);
             log.info("Password validation result (attempt #{}): {}", attemptNumber, validationResult);
 
             // Parse validation result and create response
@@ -62,8 +106,10 @@ public class AIPasswordCreatorDecorator {
             } else {
                 log.warn("Generated password is invalid on attempt #{}, retrying...", attemptNumber);
                 // Recursive call to try again
-                return generateAndValidatePasswordRecursive(attemptNumber + 1);
+                return generateAndValidatePasswordRecursive(attemptNumber + 1, deadline, attempts);
             }
+        } catch (DeadlineExceededException | QuotaExceededException exception) {
+            throw exception;
         } catch (Exception exception) {
             log.error("Error during password generation and validation on attempt #{}", attemptNumber, exception);
             throw new RuntimeException(exception);
@@ -0,0 +1,102 @@
+package com.password.domain.ai.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Point in time after which nobody is waiting for the answer any more, either
+ * because the time is up or because it was cancelled, e.g. when the client
+ * disconnected. Close it when the request is over to release the hooks
+ * attached to it.
+ */
+public final class Deadline implements AutoCloseable {
+
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE, false);
+
+    private final long expiresAtNanos;
+    private final boolean bounded;
+    private final CompletableFuture<Void> cancelled = new CompletableFuture<>();
+
+    private volatile Runnable onClose;
+
+    private Deadline(long expiresAtNanos, boolean bounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.bounded = bounded;
+    }
+
+    /**
+     * @return A deadline that never expires and cannot be cancelled
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos(), true);
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * @return Time left, zero once expired or cancelled
+     */
+    public Duration remaining() {
+        if (!bounded) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        if (isCancelled()) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return bounded && (isCancelled() || expiresAtNanos - System.nanoTime() <= 0);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.isDone();
+    }
+
+    /**
+     * Gives up on the work right away, running the hooks registered with
+     * {@link #whenCancelled(Runnable)}
+     */
+    public void cancel() {
+        if (bounded) {
+            cancelled.complete(null);
+        }
+    }
+
+    /**
+     * @param action Run once on cancellation, right away when already cancelled
+     */
+    public void whenCancelled(Runnable action) {
+        if (bounded) {
+            cancelled.thenRun(action);
+        }
+    }
+
+    /**
+     * @param action Run when the deadline is closed, replacing any previous one
+     */
+    public void onClose(Runnable action) {
+        this.onClose = action;
+    }
+
+    @Override
+    public void close() {
+        var action = onClose;
+        onClose = null;
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return bounded ? remaining().toMillis() + "ms left" + (isCancelled() ? " (cancelled)" : "") : "none";
+    }
+}
@@ -0,0 +1,98 @@
+package com.password.domain.ai.deadline;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs AI calls under a deadline. The call runs on the blocking pool while
+ * the caller waits for at most the time left; when the deadline passes or is
+ * cancelled, the call's thread is interrupted, which aborts the outstanding
+ * HTTP request to the model. The work avoided this way is exported as
+ * {@code password.ai.deadline.*} metrics.
+ */
+@Slf4j
+@Singleton
+public class DeadlineCalls {
+
+    private final ExecutorService executor;
+    private final Counter expired;
+    private final Counter cancelled;
+    private final Counter skipped;
+
+    public DeadlineCalls(@Named(TaskExecutors.BLOCKING) ExecutorService executor, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.expired = Counter.builder("password.ai.deadline.aborted")
+                .description("In-flight AI calls aborted before the model answered")
+                .tag("reason", "deadline")
+                .register(meterRegistry);
+        this.cancelled = Counter.builder("password.ai.deadline.aborted")
+                .description("In-flight AI calls aborted before the model answered")
+                .tag("reason", "disconnect")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("password.ai.deadline.skipped")
+                .description("AI calls not started because their deadline had already passed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param deadline The deadline of the request, {@link Deadline#none()} runs
+     *                 the call on the current thread
+     * @param call     The AI call
+     * @return The call's result
+     * @throws DeadlineExceededException when the deadline passed or was
+     *                                   cancelled before the call returned
+     */
+    public <T> T call(Deadline deadline, Supplier<T> call) {
+        if (!deadline.isBounded()) {
+            return call.get();
+        }
+        ensureNotExpired(deadline);
+
+        var future = executor.submit(call::get);
+        deadline.whenCancelled(() -> future.cancel(true));
+
+        try {
+            return future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException exception) {
+            future.cancel(true);
+            var disconnected = deadline.isCancelled();
+            (disconnected ? cancelled : expired).increment();
+            log.warn("Aborted in-flight AI call, {}", disconnected ? "client disconnected" : "deadline passed");
+            throw new DeadlineExceededException(disconnected ? "Client disconnected" : "Deadline exceeded",
+                    disconnected);
+        } catch (ExecutionException exception) {
+            throw exception.getCause() instanceof RuntimeException runtimeException ? runtimeException
+                    : new RuntimeException(exception.getCause());
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Stops before starting more work for a caller that is gone
+     *
+     * @throws DeadlineExceededException when the deadline passed or was
+     *                                   cancelled
+     */
+    public void ensureNotExpired(Deadline deadline) {
+        if (deadline.isExpired()) {
+            skipped.increment();
+            log.warn("Skipped AI call, {}", deadline.isCancelled() ? "client disconnected" : "deadline passed");
+            throw new DeadlineExceededException(
+                    deadline.isCancelled() ? "Client disconnected" : "Deadline exceeded", deadline.isCancelled());
+        }
+    }
+}
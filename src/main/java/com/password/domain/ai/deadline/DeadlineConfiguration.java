@@ -0,0 +1,33 @@
+package com.password.domain.ai.deadline;
+
+import java.time.Duration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(DeadlineConfiguration.PREFIX)
+public class DeadlineConfiguration {
+
+    public static final String PREFIX = "password.ai.deadline";
+
+    /**
+     * Request header carrying the client's timeout in milliseconds
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Deadline of {@code /ai/validate} when the client sends none
+     */
+    private Duration validate = Duration.ofSeconds(10);
+
+    /**
+     * Deadline of {@code /ai/generate} when the client sends none
+     */
+    private Duration generate = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound for deadlines asked by clients
+     */
+    private Duration max = Duration.ofSeconds(60);
+}
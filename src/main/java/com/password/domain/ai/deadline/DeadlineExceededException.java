@@ -0,0 +1,22 @@
+package com.password.domain.ai.deadline;
+
+/**
+ * The deadline of an AI call passed, or its caller went away, before the
+ * model answered
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private final boolean cancelled;
+
+    public DeadlineExceededException(String message, boolean cancelled) {
+        super(message);
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * @return Whether the caller gave up, rather than the time running out
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,147 @@
+package com.password.domain.ai.limit;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AIMD concurrency limit driven by observed latency. Every call that keeps
+ * the latency close to the baseline grows the limit by roughly one per round
+ * trip; a failed call or one slower than {@code latency-tolerance} times the
+ * baseline shrinks it multiplicatively, at most once per round trip. Calls above the limit are refused
+ * right away instead of queueing behind a slow upstream.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * How fast the baseline follows latencies above it, so a lasting slowdown
+     * is eventually accepted as the new normal
+     */
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final String name;
+    private final ConcurrencyLimitConfiguration configuration;
+    private final LongSupplier clock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double baselineNanos;
+    private long lastBackoffNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitConfiguration configuration) {
+        this(name, configuration, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitConfiguration configuration, LongSupplier clock) {
+        this.name = name;
+        this.configuration = configuration;
+        this.clock = clock;
+        this.limit = configuration.getInitialLimit();
+        this.lastBackoffNanos = clock.getAsLong() - 1;
+    }
+
+    /**
+     * @return A permit to release once the call is over, or empty when the
+     *         limit is reached and limiting is enabled
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            var current = inFlight.get();
+            if (current >= getLimit() && configuration.isEnabled()) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(clock.getAsLong(), current + 1));
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private synchronized void onSample(long startNanos, long latencyNanos, int inFlightAtStart, boolean dropped) {
+        dropped |= latencyNanos >= configuration.getMaxLatency().toNanos();
+
+        if (!dropped) {
+            baselineNanos = baselineNanos == 0 || latencyNanos < baselineNanos
+                    ? latencyNanos
+                    : baselineNanos + BASELINE_DRIFT * (latencyNanos - baselineNanos);
+        }
+
+        var previous = limit;
+        if (dropped || latencyNanos > configuration.getLatencyTolerance() * baselineNanos) {
+            // Calls started before the last backoff already paid for it
+            if (startNanos - lastBackoffNanos > 0) {
+                limit = Math.max(configuration.getMinLimit(), limit * configuration.getBackoffRatio());
+                lastBackoffNanos = startNanos + latencyNanos;
+            }
+        } else if (inFlightAtStart * 2 >= limit) {
+            // Only grow while the limit is actually being used
+            limit = Math.min(configuration.getMaxLimit(), limit + 1.0 / limit);
+        }
+
+        if ((int) previous != (int) limit) {
+            log.debug("AI {} concurrency limit {} -> {} (latency {} ms, baseline {} ms)", name, (int) previous,
+                    (int) limit, latencyNanos / 1_000_000, (long) (baselineNanos / 1_000_000));
+        }
+    }
+
+    /**
+     * A slot held by one call. Releasing it more than once has no effect.
+     */
+    public class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * The call completed, its latency feeds the limit
+         */
+        public void success() {
+            release(false);
+        }
+
+        /**
+         * The call failed or timed out, the limit backs off
+         */
+        public void dropped() {
+            release(true);
+        }
+
+        /**
+         * The call ended without saying anything about the upstream, e.g. it
+         * was answered from the cache
+         */
+        public void ignore() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                onSample(startNanos, clock.getAsLong() - startNanos, inFlightAtStart, dropped);
+            }
+        }
+    }
+}
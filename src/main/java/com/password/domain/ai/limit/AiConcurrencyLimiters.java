@@ -0,0 +1,64 @@
+package com.password.domain.ai.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+
+/**
+ * One adaptive limit per AI endpoint, since generation and validation have
+ * very different latencies. Limits, in-flight calls and shed requests are
+ * exported as {@code password.ai.limit.*} metrics.
+ */
+@Singleton
+public class AiConcurrencyLimiters {
+
+    @Getter
+    private final ConcurrencyLimitConfiguration configuration;
+    @Getter
+    private final AdaptiveConcurrencyLimiter validate;
+    @Getter
+    private final AdaptiveConcurrencyLimiter generate;
+    private final Counter validateRejected;
+    private final Counter validateFallback;
+    private final Counter generateRejected;
+
+    public AiConcurrencyLimiters(ConcurrencyLimitConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.validate = register(new AdaptiveConcurrencyLimiter("validate", configuration), meterRegistry);
+        this.generate = register(new AdaptiveConcurrencyLimiter("generate", configuration), meterRegistry);
+        this.validateRejected = shed(meterRegistry, "validate", "rejected");
+        this.validateFallback = shed(meterRegistry, "validate", "fallback");
+        this.generateRejected = shed(meterRegistry, "generate", "rejected");
+    }
+
+    public void validateShed(boolean fallback) {
+        (fallback ? validateFallback : validateRejected).increment();
+    }
+
+    public void generateShed() {
+        generateRejected.increment();
+    }
+
+    private static AdaptiveConcurrencyLimiter register(AdaptiveConcurrencyLimiter limiter,
+            MeterRegistry meterRegistry) {
+        Gauge.builder("password.ai.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("endpoint", limiter.getName())
+                .register(meterRegistry);
+        Gauge.builder("password.ai.limit.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("AI calls holding a permit")
+                .tag("endpoint", limiter.getName())
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private static Counter shed(MeterRegistry meterRegistry, String endpoint, String action) {
+        return Counter.builder("password.ai.limit.shed")
+                .description("Requests refused because the concurrency limit was reached")
+                .tag("endpoint", endpoint)
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.password.domain.ai.limit;
+
+import java.time.Duration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(ConcurrencyLimitConfiguration.PREFIX)
+public class ConcurrencyLimitConfiguration {
+
+    public static final String PREFIX = "password.ai.limit";
+
+    /**
+     * Puts an adaptive concurrency limit in front of the AI endpoints
+     */
+    private boolean enabled = true;
+
+    /**
+     * Concurrent AI calls allowed before any latency has been observed
+     */
+    private int initialLimit = 20;
+
+    private int minLimit = 2;
+
+    private int maxLimit = 200;
+
+    /**
+     * Factor applied to the limit when a call fails or is slower than
+     * {@code latency-tolerance} times the baseline latency
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * How much slower than the baseline a call may be before the limit shrinks
+     */
+    private double latencyTolerance = 2.0;
+
+    /**
+     * Calls slower than this count as dropped, whatever the baseline
+     */
+    private Duration maxLatency = Duration.ofSeconds(30);
+
+    /**
+     * Answers shed {@code /ai/validate} requests with the local rule validator
+     * instead of rejecting them
+     */
+    private boolean fallbackToLocalValidator = true;
+}
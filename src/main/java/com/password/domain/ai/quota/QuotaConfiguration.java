@@ -0,0 +1,53 @@
+package com.password.domain.ai.quota;
+
+import java.time.Duration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(QuotaConfiguration.PREFIX)
+public class QuotaConfiguration {
+
+    public static final String PREFIX = "password.ai.quota";
+
+    /**
+     * Paces outbound AI calls to stay under the account's rate limits
+     */
+    private boolean enabled = true;
+
+    private int requestsPerMinute = 500;
+
+    private int tokensPerMinute = 200_000;
+
+    /**
+     * How much of the per-minute quota may be spent in a single burst
+     */
+    private Duration burst = Duration.ofSeconds(10);
+
+    /**
+     * Longest a call waits for quota before it is refused
+     */
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    /**
+     * Share of the quota background work may not touch, kept for requests
+     * someone is waiting for
+     */
+    private double backgroundReserve = 0.2;
+
+    /**
+     * Estimated tokens of the system message and chat framing of every call
+     */
+    private int promptOverheadTokens = 160;
+
+    /**
+     * Estimated tokens of an answer
+     */
+    private int completionTokens = 60;
+
+    /**
+     * Characters per token used to estimate the size of the user message
+     */
+    private double charactersPerToken = 4.0;
+}
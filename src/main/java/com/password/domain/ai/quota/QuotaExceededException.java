@@ -0,0 +1,11 @@
+package com.password.domain.ai.quota;
+
+/**
+ * No AI quota became available within the allowed wait
+ */
+public class QuotaExceededException extends RuntimeException {
+
+    public QuotaExceededException(String message) {
+        super(message);
+    }
+}
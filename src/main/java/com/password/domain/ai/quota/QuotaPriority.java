@@ -0,0 +1,27 @@
+package com.password.domain.ai.quota;
+
+/**
+ * Order in which waiting AI calls get quota, most urgent first
+ */
+public enum QuotaPriority {
+
+    /**
+     * A client is waiting for a single, cheap answer
+     */
+    VALIDATE,
+
+    /**
+     * A client is waiting for a password, possibly several calls
+     */
+    GENERATE,
+
+    /**
+     * Nobody is waiting, e.g. pool refill or batch generation. Never uses
+     * the reserved share of the quota.
+     */
+    BACKGROUND;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
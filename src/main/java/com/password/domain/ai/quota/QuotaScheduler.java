@@ -0,0 +1,264 @@
+package com.password.domain.ai.quota;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.password.domain.ai.deadline.Deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Paces outbound AI calls under the account's requests-per-minute and
+ * tokens-per-minute quotas with two token buckets, instead of firing calls
+ * until the provider answers 429. Calls that don't fit wait in priority
+ * order, for at most {@code max-wait} or the time left before their
+ * deadline, and are refused after that.
+ */
+@Slf4j
+@Singleton
+public class QuotaScheduler {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final QuotaConfiguration configuration;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private final Map<QuotaPriority, Timer> waitTimers = new EnumMap<>(QuotaPriority.class);
+    private final Map<QuotaPriority, Counter> rejected = new EnumMap<>(QuotaPriority.class);
+    private final double requestCapacity;
+    private final double tokenCapacity;
+
+    private double requests;
+    private double tokens;
+    private long refilledAtNanos;
+    private long sequence;
+
+    public QuotaScheduler(QuotaConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        var burstShare = (double) configuration.getBurst().toNanos() / NANOS_PER_MINUTE;
+        this.requestCapacity = Math.max(1.0, configuration.getRequestsPerMinute() * burstShare);
+        this.tokenCapacity = Math.max(1.0, configuration.getTokensPerMinute() * burstShare);
+        this.requests = requestCapacity;
+        this.tokens = tokenCapacity;
+        this.refilledAtNanos = System.nanoTime();
+
+        Gauge.builder("password.ai.quota.tokens.available", this, QuotaScheduler::getAvailableTokens)
+                .description("Tokens that can be spent right away")
+                .register(meterRegistry);
+        Gauge.builder("password.ai.quota.requests.available", this, QuotaScheduler::getAvailableRequests)
+                .description("Requests that can be sent right away")
+                .register(meterRegistry);
+        Gauge.builder("password.ai.quota.waiting", this, QuotaScheduler::getWaiting)
+                .description("AI calls waiting for quota")
+                .register(meterRegistry);
+        for (var priority : QuotaPriority.values()) {
+            waitTimers.put(priority, Timer.builder("password.ai.quota.wait")
+                    .description("Time AI calls waited for quota")
+                    .tag("priority", priority.tag())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+            rejected.put(priority, Counter.builder("password.ai.quota.rejected")
+                    .description("AI calls refused because no quota became available in time")
+                    .tag("priority", priority.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Estimates the tokens a call will use: the fixed prompt overhead, the
+     * user message and a typical answer
+     *
+     * @param userMessage The message sent to the model
+     * @return The estimated token cost
+     */
+    public int estimateTokens(String userMessage) {
+        var length = userMessage != null ? userMessage.length() : 0;
+        return configuration.getPromptOverheadTokens() + configuration.getCompletionTokens()
+                + (int) Math.ceil(length / configuration.getCharactersPerToken());
+    }
+
+    /**
+     * Waits until one request and the given tokens fit in the quota and
+     * spends them
+     *
+     * @param priority  Who is waiting for the call
+     * @param tokenCost Estimated tokens of the call
+     * @param deadline  The deadline of the request, bounds the wait
+     * @throws QuotaExceededException when no quota became available in time
+     */
+    public void acquire(QuotaPriority priority, int tokenCost, Deadline deadline) {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+
+        var cost = Math.min(tokenCost, tokenCapacity);
+        var maxWaitNanos = Math.min(configuration.getMaxWait().toNanos(), deadline.remaining().toNanos());
+        var start = System.nanoTime();
+
+        lock.lock();
+        try {
+            refill(start);
+            if (waiters.isEmpty() && fits(priority, cost)) {
+                spend(cost);
+                waitTimers.get(priority).record(0, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            var waiter = new Waiter(priority, sequence++, lock.newCondition());
+            waiters.add(waiter);
+            try {
+                while (true) {
+                    var now = System.nanoTime();
+                    refill(now);
+                    if (waiters.peek() == waiter && fits(priority, cost)) {
+                        spend(cost);
+                        waitTimers.get(priority).record(now - start, TimeUnit.NANOSECONDS);
+                        return;
+                    }
+
+                    var remaining = maxWaitNanos - (now - start);
+                    if (remaining <= 0 || deadline.isExpired()) {
+                        rejected.get(priority).increment();
+                        log.warn("No AI quota for a {} call within {} ms ({} waiting)", priority.tag(),
+                                TimeUnit.NANOSECONDS.toMillis(now - start), waiters.size());
+                        throw new QuotaExceededException("AI quota exhausted, no room within "
+                                + Duration.ofNanos(maxWaitNanos).toMillis() + " ms");
+                    }
+
+                    var sleep = waiters.peek() == waiter ? Math.min(remaining, nanosUntilFits(priority, cost))
+                            : remaining;
+                    waiter.condition.awaitNanos(Math.max(sleep, 1));
+                }
+            } finally {
+                waiters.remove(waiter);
+                var next = waiters.peek();
+                if (next != null) {
+                    next.condition.signal();
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Spends one request and the given tokens only when they fit right away
+     * and nobody is waiting, for optional calls such as hedges
+     *
+     * @param priority  Who the call is for
+     * @param tokenCost Estimated tokens of the call
+     * @return Whether the quota was spent
+     */
+    public boolean tryAcquire(QuotaPriority priority, int tokenCost) {
+        if (!configuration.isEnabled()) {
+            return true;
+        }
+
+        var cost = Math.min(tokenCost, tokenCapacity);
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            if (waiters.isEmpty() && fits(priority, cost)) {
+                spend(cost);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getAvailableTokens() {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            return tokens;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getAvailableRequests() {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            return requests;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        var elapsed = now - refilledAtNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        requests = Math.min(requestCapacity,
+                requests + (double) configuration.getRequestsPerMinute() * elapsed / NANOS_PER_MINUTE);
+        tokens = Math.min(tokenCapacity,
+                tokens + (double) configuration.getTokensPerMinute() * elapsed / NANOS_PER_MINUTE);
+        refilledAtNanos = now;
+    }
+
+    private boolean fits(QuotaPriority priority, double cost) {
+        return requests >= requestsNeeded(priority) && tokens >= tokensNeeded(priority, cost);
+    }
+
+    private void spend(double cost) {
+        requests -= 1;
+        tokens -= cost;
+    }
+
+    private long nanosUntilFits(QuotaPriority priority, double cost) {
+        var requestNanos = Math.max(0, requestsNeeded(priority) - requests) * NANOS_PER_MINUTE
+                / configuration.getRequestsPerMinute();
+        var tokenNanos = Math.max(0, tokensNeeded(priority, cost) - tokens) * NANOS_PER_MINUTE
+                / configuration.getTokensPerMinute();
+
+        return (long) Math.ceil(Math.max(requestNanos, tokenNanos));
+    }
+
+    private double requestsNeeded(QuotaPriority priority) {
+        return Math.min(requestCapacity, 1 + requestCapacity * reserveOf(priority));
+    }
+
+    private double tokensNeeded(QuotaPriority priority, double cost) {
+        return Math.min(tokenCapacity, cost + tokenCapacity * reserveOf(priority));
+    }
+
+    private double reserveOf(QuotaPriority priority) {
+        return priority == QuotaPriority.BACKGROUND ? configuration.getBackgroundReserve() : 0.0;
+    }
+
+    private record Waiter(QuotaPriority priority, long sequence, Condition condition)
+            implements Comparable<Waiter> {
+
+        @Override
+        public int compareTo(Waiter other) {
+            var byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
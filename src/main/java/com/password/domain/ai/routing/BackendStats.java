@@ -0,0 +1,102 @@
+package com.password.domain.ai.routing;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moving latency and error estimates of a single backend
+ */
+public class BackendStats {
+
+    private static final int WINDOW_SIZE = 128;
+    private static final double MIN_SUCCESS_RATE = 0.05;
+
+    private final double decay;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final long[] window = new long[WINDOW_SIZE];
+
+    private int windowIndex;
+    private int windowCount;
+    private double latencyMillis;
+    private double errorRate;
+
+    public BackendStats(double decay) {
+        this.decay = decay;
+    }
+
+    void start() {
+        inFlight.incrementAndGet();
+    }
+
+    void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Records the outcome of a finished call. Failed calls never lower the
+     * latency estimate, so a backend cannot look fast by failing fast.
+     *
+     * @param latencyNanos Time spent on the call
+     * @param failed       Whether the call threw
+     */
+    synchronized void finish(long latencyNanos, boolean failed) {
+        inFlight.decrementAndGet();
+
+        var millis = latencyNanos / 1_000_000.0;
+        if (failed) {
+            millis = Math.max(millis, latencyMillis);
+        }
+
+        latencyMillis = windowCount == 0 ? millis : latencyMillis + decay * (millis - latencyMillis);
+        errorRate = errorRate + decay * ((failed ? 1.0 : 0.0) - errorRate);
+
+        window[windowIndex] = latencyNanos;
+        windowIndex = (windowIndex + 1) % WINDOW_SIZE;
+        windowCount = Math.min(windowCount + 1, WINDOW_SIZE);
+    }
+
+    public synchronized double getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public synchronized double getErrorRate() {
+        return errorRate;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return The p95 of the last calls, or zero when there is no history yet
+     */
+    public synchronized Duration getP95() {
+        if (windowCount == 0) {
+            return Duration.ZERO;
+        }
+
+        var samples = Arrays.copyOf(window, windowCount);
+        Arrays.sort(samples);
+        var index = (int) Math.ceil(0.95 * windowCount) - 1;
+
+        return Duration.ofNanos(samples[index]);
+    }
+
+    /**
+     * Expected cost of sending one more call to this backend, lower is better
+     *
+     * @return Latency estimate weighted by outstanding calls and error rate
+     */
+    public synchronized double score() {
+        var successRate = Math.max(MIN_SUCCESS_RATE, 1.0 - errorRate);
+        return latencyMillis * (inFlight.get() + 1) / successRate;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("latency=%.1fms errors=%.2f inFlight=%d p95=%dms", latencyMillis, errorRate,
+                inFlight.get(), TimeUnit.NANOSECONDS.toMillis(getP95().toNanos()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.password.domain.ai.routing;
+
+import com.password.domain.ai.creator.AIPasswordCreator;
+import com.password.domain.ai.validator.AIPasswordValidator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A named chat model together with the AI services bound to it and the
+ * latency and error estimates the router uses to rank it
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatBackend {
+
+    private final String name;
+    private final AIPasswordValidator validator;
+    private final AIPasswordCreator creator;
+    private final BackendStats stats;
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
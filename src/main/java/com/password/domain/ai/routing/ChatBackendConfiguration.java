@@ -0,0 +1,25 @@
+package com.password.domain.ai.routing;
+
+import java.time.Duration;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@EachProperty("password.ai.backends")
+public class ChatBackendConfiguration {
+
+    private final String name;
+
+    private String baseUrl;
+    private String apiKey;
+    private String modelName = "gpt-4o-mini";
+    private Duration timeout = Duration.ofSeconds(30);
+
+    public ChatBackendConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+}
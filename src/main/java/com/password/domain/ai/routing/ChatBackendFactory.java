@@ -0,0 +1,49 @@
+package com.password.domain.ai.routing;
+
+import com.password.domain.ai.creator.AIPasswordCreator;
+import com.password.domain.ai.validator.AIPasswordValidator;
+
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.service.AiServices;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Factory
+@RequiredArgsConstructor
+@Requires(property = RoutingConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class ChatBackendFactory {
+
+    private final RoutingConfiguration routingConfiguration;
+
+    /**
+     * Builds one chat model per entry of {@code password.ai.backends} and binds
+     * both AI services to it
+     *
+     * @param configuration The backend configuration
+     * @return ChatBackend ready to be routed to
+     */
+    @EachBean(ChatBackendConfiguration.class)
+    public ChatBackend chatBackend(ChatBackendConfiguration configuration) {
+        log.info("Registering chat backend '{}' with model {}", configuration.getName(),
+                configuration.getModelName());
+
+        var builder = OpenAiChatModel.builder()
+                .apiKey(configuration.getApiKey())
+                .modelName(configuration.getModelName())
+                .timeout(configuration.getTimeout());
+        if (configuration.getBaseUrl() != null) {
+            builder.baseUrl(configuration.getBaseUrl());
+        }
+        var chatModel = builder.build();
+
+        return new ChatBackend(configuration.getName(),
+                AiServices.create(AIPasswordValidator.class, chatModel),
+                AiServices.create(AIPasswordCreator.class, chatModel),
+                new BackendStats(routingConfiguration.getDecay()));
+    }
+}
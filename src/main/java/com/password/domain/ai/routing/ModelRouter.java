@@ -0,0 +1,178 @@
+package com.password.domain.ai.routing;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.password.domain.ai.quota.QuotaPriority;
+import com.password.domain.ai.quota.QuotaScheduler;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends each AI call to the backend with the best latency and error estimate,
+ * picked with power-of-two-choices, and optionally hedges slow calls on a
+ * second backend. The caller acquires quota for the first request only; a
+ * hedge is charged here as a {@link QuotaPriority#BACKGROUND} call, and is
+ * skipped when the quota has no room for it right away.
+ */
+@Slf4j
+@Singleton
+@Requires(property = RoutingConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class ModelRouter {
+
+    private final List<ChatBackend> backends;
+    private final RoutingConfiguration configuration;
+    private final ExecutorService executor;
+    private final QuotaScheduler quotaScheduler;
+
+    public ModelRouter(List<ChatBackend> backends, RoutingConfiguration configuration,
+            @Named(TaskExecutors.BLOCKING) ExecutorService executor, QuotaScheduler quotaScheduler) {
+        if (backends.isEmpty()) {
+            throw new IllegalStateException("No chat backend configured under password.ai.backends");
+        }
+        this.backends = List.copyOf(backends);
+        this.configuration = configuration;
+        this.executor = executor;
+        this.quotaScheduler = quotaScheduler;
+        log.info("Routing AI calls across backends {}", this.backends);
+    }
+
+    public List<ChatBackend> getBackends() {
+        return backends;
+    }
+
+    /**
+     * Runs the call on the best backend, failing over to another one when it
+     * throws
+     *
+     * @param call        The AI call to run against the chosen backend
+     * @param userMessage The message the call sends, to charge a hedge
+     * @return The result of the first backend that answered
+     */
+    public <T> T route(Function<ChatBackend, T> call, String userMessage) {
+        var primary = choose(null);
+
+        if (configuration.isHedgingEnabled() && backends.size() > 1) {
+            return routeHedged(primary, call, userMessage);
+        }
+
+        try {
+            return invoke(primary, call);
+        } catch (RuntimeException exception) {
+            if (backends.size() == 1) {
+                throw exception;
+            }
+            var fallback = choose(primary);
+            log.warn("Backend '{}' failed, failing over to '{}'", primary, fallback, exception);
+            return invoke(fallback, call);
+        }
+    }
+
+    /**
+     * Picks the better of two random backends
+     *
+     * @param excluded Backend to leave out, or null
+     * @return The chosen backend
+     */
+    ChatBackend choose(ChatBackend excluded) {
+        var candidates = excluded == null ? backends
+                : backends.stream().filter(backend -> backend != excluded).toList();
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(candidates.size());
+        var second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        var a = candidates.get(first);
+        var b = candidates.get(second);
+        return a.getStats().score() <= b.getStats().score() ? a : b;
+    }
+
+    private <T> T routeHedged(ChatBackend primary, Function<ChatBackend, T> call, String userMessage) {
+        var completion = new ExecutorCompletionService<T>(executor);
+        var first = completion.submit(() -> invoke(primary, call));
+        Future<T> second = null;
+
+        try {
+            var done = completion.poll(hedgeDelay(primary).toNanos(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                if (quotaScheduler.tryAcquire(QuotaPriority.BACKGROUND, quotaScheduler.estimateTokens(userMessage))) {
+                    var hedge = choose(primary);
+                    log.info("Backend '{}' slower than its p95, hedging on '{}'", primary, hedge);
+                    second = completion.submit(() -> invoke(hedge, call));
+                } else {
+                    log.debug("Backend '{}' slower than its p95, no quota left to hedge", primary);
+                }
+                done = completion.take();
+            }
+
+            try {
+                return done.get();
+            } catch (ExecutionException exception) {
+                if (second == null) {
+                    var fallback = choose(primary);
+                    log.warn("Backend '{}' failed, failing over to '{}'", primary, fallback, exception.getCause());
+                    return invoke(fallback, call);
+                }
+                return completion.take().get();
+            }
+        } catch (ExecutionException exception) {
+            throw unwrap(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        } finally {
+            first.cancel(true);
+            if (second != null) {
+                second.cancel(true);
+            }
+        }
+    }
+
+    private Duration hedgeDelay(ChatBackend backend) {
+        var p95 = backend.getStats().getP95();
+        return p95.compareTo(configuration.getMinHedgeDelay()) > 0 ? p95 : configuration.getMinHedgeDelay();
+    }
+
+    private <T> T invoke(ChatBackend backend, Function<ChatBackend, T> call) {
+        var stats = backend.getStats();
+        var start = System.nanoTime();
+        stats.start();
+
+        try {
+            var result = call.apply(backend);
+            stats.finish(System.nanoTime() - start, false);
+            return result;
+        } catch (RuntimeException exception) {
+            if (Thread.currentThread().isInterrupted()) {
+                // Cancelled by a faster hedge, not the backend's fault
+                stats.cancel();
+            } else {
+                stats.finish(System.nanoTime() - start, true);
+            }
+            throw exception;
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException exception) {
+        return exception.getCause() instanceof RuntimeException runtimeException ? runtimeException
+                : new RuntimeException(exception.getCause());
+    }
+}
@@ -0,0 +1,25 @@
+package com.password.domain.ai.routing;
+
+import com.password.domain.ai.creator.AIPasswordCreator;
+
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replaces the single-model AI creator when routing is enabled
+ */
+@Primary
+@Singleton
+@RequiredArgsConstructor
+@Requires(beans = ModelRouter.class)
+public class RoutedAIPasswordCreator implements AIPasswordCreator {
+
+    private final ModelRouter modelRouter;
+
+    @Override
+    public String generate(String userMessage) {
+        return modelRouter.route(backend -> backend.getCreator().generate(userMessage), userMessage);
+    }
+}
@@ -0,0 +1,25 @@
+package com.password.domain.ai.routing;
+
+import com.password.domain.ai.validator.AIPasswordValidator;
+
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replaces the single-model AI validator when routing is enabled
+ */
+@Primary
+@Singleton
+@RequiredArgsConstructor
+@Requires(beans = ModelRouter.class)
+public class RoutedAIPasswordValidator implements AIPasswordValidator {
+
+    private final ModelRouter modelRouter;
+
+    @Override
+    public String validate(String userPassword) {
+        return modelRouter.route(backend -> backend.getValidator().validate(userPassword), userPassword);
+    }
+}
@@ -0,0 +1,35 @@
+package com.password.domain.ai.routing;
+
+import java.time.Duration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(RoutingConfiguration.PREFIX)
+public class RoutingConfiguration {
+
+    public static final String PREFIX = "password.ai.routing";
+
+    /**
+     * Enables routing between the backends declared under
+     * {@code password.ai.backends}
+     */
+    private boolean enabled = false;
+
+    /**
+     * Sends a second request to another backend when the first one is slower
+     * than its p95 latency
+     */
+    private boolean hedgingEnabled = true;
+
+    /**
+     * Lower bound for the hedge delay, used while a backend has no history yet
+     */
+    private Duration minHedgeDelay = Duration.ofMillis(250);
+
+    /**
+     * Weight of the newest sample in the moving latency and error estimates
+     */
+    private double decay = 0.3;
+}
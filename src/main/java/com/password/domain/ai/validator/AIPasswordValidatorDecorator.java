@@ -1,7 +1,19 @@
 package com.password.domain.ai.validator;
 
+import java.util.Optional;
+
 import com.password.core.HttpResponseUtils;
+import com.password.core.stats.LatencyStats;
+import com.password.domain.ai.deadline.Deadline;
+import com.password.domain.ai.deadline.DeadlineCalls;
+import com.password.domain.ai.deadline.DeadlineExceededException;
+import com.password.domain.ai.quota.QuotaExceededException;
+import com.password.domain.ai.quota.QuotaPriority;
+import com.password.domain.ai.quota.QuotaScheduler;
+import com.password.domain.ai.verdict.VerdictCache;
+import com.password.domain.ai.verdict.VerdictKey;
 import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
 
 import io.micronaut.context.annotation.Bean;
 import lombok.RequiredArgsConstructor;
@@ -13,17 +25,91 @@ import lombok.extern.slf4j.Slf4j;
 public class AIPasswordValidatorDecorator {
 
     private final AIPasswordValidator aiPasswordValidator;
+    private final VerdictCache verdictCache;
+    private final DeadlineCalls deadlineCalls;
+    private final QuotaScheduler quotaScheduler;
+    private final LatencyStats latencyStats;
 
     public PasswordResponse validatePassword(String userPassword) {
+        return validatePassword(userPassword, Deadline.none());
+    }
+
+    /**
+     * Validates the password, giving up on the AI call when the deadline
+     * passes or is cancelled
+     *
+     * @param userPassword The password to validate
+     * @param deadline     The deadline of the request
+     * @return The validation result
+     * @throws DeadlineExceededException when the AI did not answer in time
+     * @throws QuotaExceededException    when the AI quota had no room in time
+     */
+    public PasswordResponse validatePassword(String userPassword, Deadline deadline) {
+        var key = keyOf(userPassword);
+        var cached = cachedVerdict(key, userPassword);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return validatePassword(userPassword, key, deadline);
+    }
+
+    /**
+     * Asks the AI for a password the caller has already looked up with
+     * {@link #cachedVerdict}, so the key is not computed twice
+     *
+     * @param userPassword The password to validate
+     * @param key          The cache key of the password, null when caching
+     *                     is off
+     * @param deadline     The deadline of the request
+     * @return The validation result
+     * @throws DeadlineExceededException when the AI did not answer in time
+     * @throws QuotaExceededException    when the AI quota had no room in time
+     */
+    public PasswordResponse validatePassword(String userPassword, VerdictKey key, Deadline deadline) {
         log.debug("Validating password using AI validator: {}", userPassword != null ? "***" : "null");
 
         try {
-            var result = aiPasswordValidator.validate(userPassword);
+            quotaScheduler.acquire(QuotaPriority.VALIDATE, quotaScheduler.estimateTokens(userPassword), deadline);
+            var start = System.nanoTime();
+            var result = deadlineCalls.call(deadline, () -> aiPasswordValidator.validate(userPassword));
+            latencyStats.recordAiParse(HttpResponseUtils.parseStatusOf(result), System.nanoTime() - start);
             log.info("AI validation result: {}", result);
-            return HttpResponseUtils.createPasswordResponse(result, userPassword);
+            var response = HttpResponseUtils.createPasswordResponse(result, userPassword);
+
+            // Only answers that could be parsed are worth reusing
+            if (key != null && response.getStatus() != PasswordResponseStatus.ERROR) {
+                verdictCache.put(key, result);
+            }
+            return response;
+        } catch (DeadlineExceededException | QuotaExceededException exception) {
+            throw exception;
         } catch (Exception exception) {
             log.error("Error during AI password validation", exception);
             throw new RuntimeException(exception);
         }
     }
+
+    /**
+     * Looks the password up in the verdict cache without calling the AI
+     *
+     * @param key          The cache key from {@link #keyOf}, null when
+     *                     caching is off
+     * @param userPassword The password the key was computed for
+     * @return The cached response, or empty when the AI has to be asked
+     */
+    public Optional<PasswordResponse> cachedVerdict(VerdictKey key, String userPassword) {
+        var cached = key != null ? verdictCache.get(key) : null;
+        if (cached == null) {
+            return Optional.empty();
+        }
+        log.info("AI validation result (cached): {}", cached);
+        return Optional.of(HttpResponseUtils.createPasswordResponse(cached, userPassword));
+    }
+
+    /**
+     * @return The cache key of the password, or null when caching is off
+     */
+    public VerdictKey keyOf(String userPassword) {
+        return userPassword != null && verdictCache.isEnabled() ? verdictCache.keyOf(userPassword) : null;
+    }
 }
@@ -0,0 +1,14 @@
+package com.password.domain.ai.verdict;
+
+/**
+ * Raw AI validator answer ("status;message") and when it stops being reusable
+ *
+ * @param result          The answer as returned by the AI validator
+ * @param expiresAtMillis Epoch millis after which the verdict is ignored
+ */
+public record Verdict(String result, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,195 @@
+package com.password.domain.ai.verdict;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory cache of AI verdicts keyed by an HMAC of the password, backed by
+ * the optional {@link VerdictStore} and warmed from it at startup. With
+ * {@link VerdictPeers}, new verdicts are also shared with the other instances
+ * of the host and theirs are cached here.
+ */
+@Slf4j
+@Singleton
+public class VerdictCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final VerdictCacheConfiguration configuration;
+    private final Optional<VerdictStore> verdictStore;
+    private final Optional<VerdictPeers> verdictPeers;
+    private final Map<VerdictKey, Verdict> verdicts = new ConcurrentHashMap<>();
+    private final ThreadLocal<Mac> mac;
+
+    public VerdictCache(VerdictCacheConfiguration configuration, Optional<VerdictStore> verdictStore,
+            Optional<VerdictPeers> verdictPeers) {
+        this.configuration = configuration;
+        this.verdictStore = verdictStore;
+        this.verdictPeers = verdictPeers;
+
+        var secretKey = new SecretKeySpec(secret(configuration), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                var instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(secretKey);
+                return instance;
+            } catch (GeneralSecurityException exception) {
+                throw new RuntimeException(exception);
+            }
+        });
+    }
+
+    /**
+     * Loads every live verdict of the store into memory and starts taking the
+     * peers' verdicts
+     */
+    @PostConstruct
+    public void warmUp() {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+        verdictPeers.ifPresent(peers -> peers.onReceive(this::putReplicated));
+        if (verdictStore.isEmpty()) {
+            return;
+        }
+
+        var start = System.nanoTime();
+        verdictStore.get().forEachLive(this::putLocal);
+        log.info("Warmed AI verdict cache with {} entries in {} ms", verdicts.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isEnabled() {
+        return configuration.isEnabled();
+    }
+
+    /**
+     * @param password The plaintext password
+     * @return The keyed hash used to look up the password's verdict
+     */
+    public VerdictKey keyOf(String password) {
+        return new VerdictKey(mac.get().doFinal(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param key The keyed hash of the password
+     * @return The cached AI answer, or null when missing or expired
+     */
+    public String get(VerdictKey key) {
+        if (!configuration.isEnabled()) {
+            return null;
+        }
+
+        var verdict = verdicts.get(key);
+        if (verdict == null) {
+            return null;
+        }
+        if (verdict.isExpired(System.currentTimeMillis())) {
+            verdicts.remove(key, verdict);
+            return null;
+        }
+        return verdict.result();
+    }
+
+    /**
+     * Caches an AI answer, appends it to the store and shares it with the peers
+     *
+     * @param key    The keyed hash of the password
+     * @param result The AI answer ("status;message")
+     */
+    public void put(VerdictKey key, String result) {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+
+        var verdict = new Verdict(result, System.currentTimeMillis() + configuration.getTtl().toMillis());
+        if (putLocal(key, verdict)) {
+            persist(key, verdict);
+            verdictPeers.ifPresent(peers -> peers.publish(key, verdict));
+        }
+    }
+
+    /**
+     * Caches a verdict computed by a peer and appends it to the store, without
+     * sharing it again
+     */
+    void putReplicated(VerdictKey key, Verdict verdict) {
+        // A peer with a longer TTL does not get to keep verdicts here longer
+        var now = System.currentTimeMillis();
+        var capped = verdict.expiresAtMillis() <= now + configuration.getTtl().toMillis() ? verdict
+                : new Verdict(verdict.result(), now + configuration.getTtl().toMillis());
+        if (capped.isExpired(now) || capped.equals(verdicts.get(key))) {
+            return;
+        }
+        if (putLocal(key, capped)) {
+            persist(key, capped);
+        }
+    }
+
+    /**
+     * The verdict is already cached and paid for, a failing store must not
+     * fail the request that got it
+     */
+    private void persist(VerdictKey key, Verdict verdict) {
+        try {
+            verdictStore.ifPresent(store -> store.append(key, verdict));
+        } catch (RuntimeException exception) {
+            log.error("Error persisting AI verdict", exception);
+        }
+    }
+
+    /**
+     * Caches a verdict in memory only. A full cache only makes room on the
+     * next {@link #evictExpired()}, never on the request path.
+     *
+     * @return false when the cache is full
+     */
+    boolean putLocal(VerdictKey key, Verdict verdict) {
+        if (verdicts.size() >= configuration.getMaxEntries() && !verdicts.containsKey(key)) {
+            log.debug("AI verdict cache is full, skipping entry");
+            return false;
+        }
+        verdicts.put(key, verdict);
+        return true;
+    }
+
+    /**
+     * Drops the expired verdicts from memory
+     */
+    @Scheduled(fixedDelay = "${" + VerdictCacheConfiguration.PREFIX + ".eviction-interval:5m}",
+            initialDelay = "${" + VerdictCacheConfiguration.PREFIX + ".eviction-interval:5m}")
+    public void evictExpired() {
+        var before = verdicts.size();
+        var now = System.currentTimeMillis();
+        verdicts.values().removeIf(cached -> cached.isExpired(now));
+        log.debug("Evicted {} expired AI verdicts", before - verdicts.size());
+    }
+
+    public int size() {
+        return verdicts.size();
+    }
+
+    private static byte[] secret(VerdictCacheConfiguration configuration) {
+        if (configuration.getKey() != null && !configuration.getKey().isBlank()) {
+            return configuration.getKey().getBytes(StandardCharsets.UTF_8);
+        }
+
+        log.warn("No {}.key configured, using a random key: AI verdicts are not persisted",
+                VerdictCacheConfiguration.PREFIX);
+        var secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
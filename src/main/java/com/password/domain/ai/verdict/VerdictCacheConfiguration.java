@@ -0,0 +1,82 @@
+package com.password.domain.ai.verdict;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(VerdictCacheConfiguration.PREFIX)
+public class VerdictCacheConfiguration {
+
+    public static final String PREFIX = "password.ai.verdict-cache";
+
+    private boolean enabled = true;
+
+    /**
+     * Secret of the keyed hash used as cache key. Without it a random key is
+     * used and the store is disabled, its verdicts could not be matched after
+     * a restart.
+     */
+    private String key;
+
+    private Duration ttl = Duration.ofDays(7);
+
+    /**
+     * Verdicts kept in memory; when full, new ones are skipped until the next
+     * eviction of the expired ones
+     */
+    private int maxEntries = 100_000;
+
+    private Duration evictionInterval = Duration.ofMinutes(5);
+
+    private StoreConfiguration store = new StoreConfiguration();
+
+    private PeersConfiguration peers = new PeersConfiguration();
+
+    @Data
+    @ConfigurationProperties("store")
+    public static class StoreConfiguration {
+
+        private boolean enabled = true;
+
+        private String path = "data/ai-verdicts.log";
+
+        /**
+         * Size of the memory-mapped log; when full it is compacted in place
+         */
+        private int capacityMb = 64;
+
+        private Duration compactionInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    @ConfigurationProperties("peers")
+    public static class PeersConfiguration {
+
+        /**
+         * Shares verdicts with the other instances of the host; they must all
+         * use the same key
+         */
+        private boolean enabled = false;
+
+        private String bindAddress = "127.0.0.1";
+
+        /**
+         * UDP port this instance receives verdicts on, 0 for any free one
+         */
+        private int port = 7420;
+
+        /**
+         * host:port of the other instances
+         */
+        private List<String> addresses = new ArrayList<>();
+
+        /**
+         * Verdicts waiting to be sent; past it new ones are dropped
+         */
+        private int queueCapacity = 4096;
+    }
+}
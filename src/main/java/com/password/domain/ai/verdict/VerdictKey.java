@@ -0,0 +1,40 @@
+package com.password.domain.ai.verdict;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Keyed hash of a password, safe to keep in memory and on disk
+ */
+public final class VerdictKey {
+
+    public static final int LENGTH = 32;
+
+    private final byte[] bytes;
+
+    public VerdictKey(byte[] bytes) {
+        if (bytes.length != LENGTH) {
+            throw new IllegalArgumentException("Verdict key must have " + LENGTH + " bytes");
+        }
+        this.bytes = bytes;
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof VerdictKey key && Arrays.equals(bytes, key.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return HexFormat.of().formatHex(bytes, 0, 4) + "...";
+    }
+}
@@ -0,0 +1,298 @@
+package com.password.domain.ai.verdict;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shares AI verdicts with the other instances of the host over loopback UDP,
+ * so that a verdict paid for by one instance is a cache hit for all of them.
+ * There is no cache server and no membership protocol: each instance listens
+ * on its own port and sends to the addresses it is configured with.
+ * <p>
+ * Replication is asynchronous and lossy by design. {@link #publish} only
+ * queues the verdict (drop-newest when the queue is full); a sender thread
+ * packs queued verdicts into datagrams of
+ * {@code magic (4) | sender (8) | count (2) | entries | hmac (32)}, with each
+ * entry laid out as {@code key (32) | expiresAt (8) | length (2) | result (UTF-8)},
+ * and sends them once to every peer. A lost datagram only costs the receiving
+ * instance a cache miss. The HMAC is keyed with a secret derived from the
+ * cache key, so only instances that compute the same cache keys can feed each
+ * other verdicts.
+ */
+@Slf4j
+@Singleton
+@Requires(property = VerdictCacheConfiguration.PREFIX + ".peers.enabled", value = StringUtils.TRUE)
+public class VerdictPeers {
+
+    static final int MAX_DATAGRAM = 8192;
+
+    private static final int MAGIC = 0x50565244; // "PVRD"
+    private static final int HEADER = Integer.BYTES + Long.BYTES + Short.BYTES;
+    private static final int ENTRY_FIXED = VerdictKey.LENGTH + Long.BYTES + Short.BYTES;
+    private static final int MAC_LENGTH = 32;
+    private static final int MAX_RESULT_BYTES = MAX_DATAGRAM - HEADER - ENTRY_FIXED - MAC_LENGTH;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final byte[] MAC_CONTEXT = "password.ai.verdict-cache.peers".getBytes(StandardCharsets.UTF_8);
+
+    private final DatagramChannel channel;
+    private final List<InetSocketAddress> peers;
+    private final BlockingQueue<Entry> outbox;
+    private final long senderId = new SecureRandom().nextLong();
+    private final Mac senderMac;
+    private final Mac receiverMac;
+    private final Counter sent;
+    private final Counter dropped;
+    private final Counter received;
+    private final Counter rejected;
+    private final Thread senderThread;
+    private final Thread receiverThread;
+
+    private volatile BiConsumer<VerdictKey, Verdict> listener = (key, verdict) -> {
+    };
+    private volatile boolean running = true;
+
+    private record Entry(VerdictKey key, long expiresAtMillis, byte[] result) {
+    }
+
+    public VerdictPeers(VerdictCacheConfiguration configuration, MeterRegistry meterRegistry) {
+        if (configuration.getKey() == null || configuration.getKey().isBlank()) {
+            throw new IllegalStateException("Sharing AI verdicts between instances needs "
+                    + VerdictCacheConfiguration.PREFIX + ".key, so that they all compute the same cache keys");
+        }
+        var peersConfiguration = configuration.getPeers();
+        var secret = macSecret(configuration.getKey());
+        this.senderMac = mac(secret);
+        this.receiverMac = mac(secret);
+        this.outbox = new ArrayBlockingQueue<>(peersConfiguration.getQueueCapacity());
+        this.peers = new ArrayList<>();
+        for (var address : peersConfiguration.getAddresses()) {
+            if (!address.isBlank()) {
+                peers.add(parse(address));
+            }
+        }
+
+        try {
+            this.channel = DatagramChannel.open();
+            channel.bind(new InetSocketAddress(peersConfiguration.getBindAddress(), peersConfiguration.getPort()));
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+
+        this.sent = Counter.builder("password.ai.verdict-cache.peers.sent")
+                .description("AI verdicts sent to peer instances")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("password.ai.verdict-cache.peers.dropped")
+                .description("AI verdicts not sent because the queue was full")
+                .register(meterRegistry);
+        this.received = Counter.builder("password.ai.verdict-cache.peers.received")
+                .description("AI verdicts received from peer instances")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.ai.verdict-cache.peers.rejected")
+                .description("Datagrams rejected for a bad signature or layout")
+                .register(meterRegistry);
+
+        this.senderThread = new Thread(this::runSender, "verdict-peers-sender");
+        senderThread.setDaemon(true);
+        senderThread.start();
+        this.receiverThread = new Thread(this::runReceiver, "verdict-peers-receiver");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+        log.info("Sharing AI verdicts on UDP port {} with {}", getPort(), peersConfiguration.getAddresses());
+    }
+
+    /**
+     * @param listener Receives the verdicts sent by peers, on the receiver
+     *                 thread
+     */
+    public void onReceive(BiConsumer<VerdictKey, Verdict> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Queues a verdict for the peers without blocking
+     *
+     * @return false when it was dropped
+     */
+    public boolean publish(VerdictKey key, Verdict verdict) {
+        var result = verdict.result().getBytes(StandardCharsets.UTF_8);
+        if (result.length > MAX_RESULT_BYTES || !outbox.offer(new Entry(key, verdict.expiresAtMillis(), result))) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            log.debug("Error closing the peer channel", exception);
+        }
+        senderThread.interrupt();
+        try {
+            senderThread.join(TimeUnit.SECONDS.toMillis(5));
+            receiverThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runSender() {
+        var datagram = ByteBuffer.allocate(MAX_DATAGRAM);
+        Entry pending = null;
+        while (running) {
+            try {
+                var entry = pending != null ? pending : outbox.poll(100, TimeUnit.MILLISECONDS);
+                pending = null;
+                if (entry == null) {
+                    continue;
+                }
+
+                datagram.clear();
+                datagram.putInt(MAGIC).putLong(senderId).putShort((short) 0);
+                var count = 0;
+                while (entry != null) {
+                    if (datagram.position() + ENTRY_FIXED + entry.result().length + MAC_LENGTH > MAX_DATAGRAM) {
+                        pending = entry;
+                        break;
+                    }
+                    datagram.put(entry.key().bytes()).putLong(entry.expiresAtMillis())
+                            .putShort((short) entry.result().length).put(entry.result());
+                    count++;
+                    entry = outbox.poll();
+                }
+                datagram.putShort(Integer.BYTES + Long.BYTES, (short) count);
+                senderMac.update(datagram.array(), 0, datagram.position());
+                datagram.put(senderMac.doFinal());
+                datagram.flip();
+
+                for (var peer : peers) {
+                    try {
+                        channel.send(datagram.duplicate(), peer);
+                    } catch (ClosedChannelException exception) {
+                        return;
+                    } catch (IOException exception) {
+                        // A peer that is down simply misses these verdicts
+                        log.debug("Could not send AI verdicts to {}: {}", peer, exception.getMessage());
+                    }
+                }
+                sent.increment(count);
+            } catch (InterruptedException exception) {
+                return;
+            }
+        }
+    }
+
+    private void runReceiver() {
+        var datagram = ByteBuffer.allocate(MAX_DATAGRAM);
+        var signature = new byte[MAC_LENGTH];
+        while (running) {
+            try {
+                datagram.clear();
+                channel.receive(datagram);
+                datagram.flip();
+            } catch (ClosedChannelException exception) {
+                return;
+            } catch (IOException exception) {
+                log.debug("Error receiving AI verdicts", exception);
+                continue;
+            }
+
+            var length = datagram.limit() - MAC_LENGTH;
+            if (length < HEADER || datagram.getInt(0) != MAGIC) {
+                rejected.increment();
+                continue;
+            }
+            receiverMac.update(datagram.array(), 0, length);
+            datagram.get(length, signature);
+            if (!MessageDigest.isEqual(receiverMac.doFinal(), signature)) {
+                log.debug("Rejected AI verdicts with a bad signature");
+                rejected.increment();
+                continue;
+            }
+            if (datagram.getLong(Integer.BYTES) == senderId) {
+                continue;
+            }
+
+            try {
+                var count = datagram.getShort(Integer.BYTES + Long.BYTES) & 0xFFFF;
+                datagram.position(HEADER).limit(length);
+                for (int i = 0; i < count; i++) {
+                    var key = new byte[VerdictKey.LENGTH];
+                    datagram.get(key);
+                    var expiresAtMillis = datagram.getLong();
+                    var result = new byte[datagram.getShort() & 0xFFFF];
+                    datagram.get(result);
+                    listener.accept(new VerdictKey(key),
+                            new Verdict(new String(result, StandardCharsets.UTF_8), expiresAtMillis));
+                    received.increment();
+                }
+            } catch (RuntimeException exception) {
+                log.debug("Rejected malformed AI verdicts", exception);
+                rejected.increment();
+            }
+        }
+    }
+
+    /**
+     * Derives the datagram key from the cache key, so that the cache key
+     * itself never signs anything that leaves the process
+     */
+    private static byte[] macSecret(String cacheKey) {
+        var mac = mac(cacheKey.getBytes(StandardCharsets.UTF_8));
+        return mac.doFinal(MAC_CONTEXT);
+    }
+
+    private static Mac mac(byte[] secret) {
+        try {
+            var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static InetSocketAddress parse(String address) {
+        var separator = address.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Peer address must be host:port: " + address);
+        }
+        return new InetSocketAddress(address.substring(0, separator).strip(),
+                Integer.parseInt(address.substring(separator + 1).strip()));
+    }
+}
@@ -0,0 +1,288 @@
+package com.password.domain.ai.verdict;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded, restart-surviving store of AI verdicts.
+ * <p>
+ * Verdicts are appended to a memory-mapped log that starts with
+ * {@code magic (8) | key fingerprint (32)}. The cache keys are HMACs, so the
+ * records are only of use under the key they were written with: a log whose
+ * fingerprint does not match the configured key is discarded on open, and
+ * without a configured key there is no store at all. Each record is laid
+ * out as
+ * {@code length | key (32) | expiresAt (8) | crc32 (4) | result (UTF-8)},
+ * where {@code length} counts the bytes after itself. A zero length marks the
+ * end of the log and a bad checksum marks a torn write, so reopening only
+ * needs one sequential scan. The index keeps the offset of the latest record
+ * of each key; the scheduled compaction rewrites the live, unexpired records
+ * to a fresh file and swaps it in.
+ */
+@Slf4j
+@Singleton
+@Requires(property = VerdictCacheConfiguration.PREFIX + ".store.enabled", notEquals = StringUtils.FALSE)
+@Requires(property = VerdictCacheConfiguration.PREFIX + ".key", notEquals = "")
+public class VerdictStore {
+
+    private static final long MAGIC = 0x4149565244435432L; // "AIVRDCT2"
+    private static final int FINGERPRINT_LENGTH = 32;
+    private static final int FILE_HEADER = Long.BYTES + FINGERPRINT_LENGTH;
+    private static final byte[] FINGERPRINT_CONTEXT = "password.ai.verdict-cache.store".getBytes(StandardCharsets.UTF_8);
+    private static final int RECORD_FIXED = VerdictKey.LENGTH + Long.BYTES + Integer.BYTES;
+    private static final int MAX_RESULT_BYTES = 4096;
+
+    private final Path path;
+    private final int capacity;
+    private final byte[] fingerprint;
+
+    private MappedByteBuffer buffer;
+    private Map<VerdictKey, Integer> index = new HashMap<>();
+    private int writePosition;
+    private volatile boolean compacting;
+
+    public VerdictStore(VerdictCacheConfiguration configuration) {
+        if (configuration.getKey() == null || configuration.getKey().isBlank()) {
+            throw new IllegalStateException("Persisting AI verdicts needs " + VerdictCacheConfiguration.PREFIX
+                    + ".key, verdicts keyed with a random one could never be matched after a restart");
+        }
+        var store = configuration.getStore();
+        this.path = Path.of(store.getPath());
+        this.capacity = store.getCapacityMb() * 1024 * 1024;
+        this.fingerprint = fingerprint(configuration.getKey());
+
+        var start = System.nanoTime();
+        open();
+        log.info("Opened AI verdict store {} with {} entries in {} ms", path, index.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Visits the latest unexpired verdict of every key
+     *
+     * @param consumer Receives each key and verdict
+     */
+    public synchronized void forEachLive(BiConsumer<VerdictKey, Verdict> consumer) {
+        var now = System.currentTimeMillis();
+        index.forEach((key, offset) -> {
+            var verdict = readVerdict(buffer, offset);
+            if (!verdict.isExpired(now)) {
+                consumer.accept(key, verdict);
+            }
+        });
+    }
+
+    /**
+     * Appends a verdict. Appends come from request threads, so they never
+     * compact: a verdict that does not fit, or that arrives while the
+     * scheduled compaction is running, is only kept in memory.
+     *
+     * @param key     The keyed hash of the password
+     * @param verdict The verdict to persist
+     * @return false when the verdict was not persisted
+     */
+    public boolean append(VerdictKey key, Verdict verdict) {
+        if (compacting) {
+            log.debug("AI verdict store {} is being compacted, verdict not persisted", path);
+            return false;
+        }
+        var result = verdict.result().getBytes(StandardCharsets.UTF_8);
+        if (result.length > MAX_RESULT_BYTES) {
+            log.warn("AI verdict too large to persist ({} bytes)", result.length);
+            return false;
+        }
+
+        synchronized (this) {
+            return write(key, verdict, result);
+        }
+    }
+
+    private boolean write(VerdictKey key, Verdict verdict, byte[] result) {
+        var recordSize = Integer.BYTES + RECORD_FIXED + result.length;
+        if (writePosition + recordSize > capacity) {
+            log.warn("AI verdict store {} is full until the next compaction, verdict not persisted", path);
+            return false;
+        }
+
+        var offset = writePosition;
+        buffer.put(offset + Integer.BYTES, key.bytes());
+        buffer.putLong(offset + Integer.BYTES + VerdictKey.LENGTH, verdict.expiresAtMillis());
+        buffer.put(offset + Integer.BYTES + RECORD_FIXED, result);
+        buffer.putInt(offset + Integer.BYTES + VerdictKey.LENGTH + Long.BYTES, checksum(buffer, offset, result.length));
+        // The length goes last: a record is only visible once it is complete
+        buffer.putInt(offset, RECORD_FIXED + result.length);
+
+        index.put(key, offset);
+        writePosition += recordSize;
+        return true;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Rewrites the live, unexpired records into a new file and swaps it in
+     */
+    @Scheduled(fixedDelay = "${" + VerdictCacheConfiguration.PREFIX + ".store.compaction-interval:1h}",
+            initialDelay = "${" + VerdictCacheConfiguration.PREFIX + ".store.compaction-interval:1h}")
+    public void compact() {
+        compacting = true;
+        try {
+            synchronized (this) {
+                rewrite();
+            }
+        } finally {
+            compacting = false;
+        }
+    }
+
+    private void rewrite() {
+        var start = System.nanoTime();
+        var now = System.currentTimeMillis();
+        var compacted = path.resolveSibling(path.getFileName() + ".compact");
+        var compactedIndex = new HashMap<VerdictKey, Integer>();
+        var before = writePosition;
+
+        try (var channel = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var target = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            writeHeader(target);
+
+            var position = FILE_HEADER;
+            for (var entry : index.entrySet()) {
+                var offset = entry.getValue();
+                if (readVerdict(buffer, offset).isExpired(now)) {
+                    continue;
+                }
+                var recordSize = Integer.BYTES + buffer.getInt(offset);
+                target.put(position, buffer, offset, recordSize);
+                compactedIndex.put(entry.getKey(), position);
+                position += recordSize;
+            }
+            target.force();
+
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            buffer = target;
+            index = compactedIndex;
+            writePosition = position;
+        } catch (IOException exception) {
+            log.error("Error during AI verdict store compaction", exception);
+            throw new RuntimeException(exception);
+        }
+
+        log.info("Compacted AI verdict store {} from {} to {} bytes in {} ms", path, before, writePosition,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        buffer.force();
+    }
+
+    private void open() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+        } catch (IOException exception) {
+            log.error("Error opening AI verdict store {}", path, exception);
+            throw new RuntimeException(exception);
+        }
+
+        var magic = buffer.getLong(0);
+        var storedFingerprint = new byte[FINGERPRINT_LENGTH];
+        buffer.get(Long.BYTES, storedFingerprint);
+        if (magic != MAGIC || !MessageDigest.isEqual(storedFingerprint, fingerprint)) {
+            if (magic == MAGIC) {
+                log.warn("AI verdict store {} was written with another {}.key, starting empty", path,
+                        VerdictCacheConfiguration.PREFIX);
+            } else if (magic != 0) {
+                log.warn("AI verdict store {} has an unknown format, starting empty", path);
+            }
+            writeHeader(buffer);
+            buffer.putInt(FILE_HEADER, 0);
+            writePosition = FILE_HEADER;
+            return;
+        }
+
+        var position = FILE_HEADER;
+        while (position + Integer.BYTES <= capacity) {
+            var length = buffer.getInt(position);
+            var resultLength = length - RECORD_FIXED;
+            if (resultLength < 0 || resultLength > MAX_RESULT_BYTES || position + Integer.BYTES + length > capacity) {
+                break;
+            }
+            var storedChecksum = buffer.getInt(position + Integer.BYTES + VerdictKey.LENGTH + Long.BYTES);
+            if (storedChecksum != checksum(buffer, position, resultLength)) {
+                log.warn("AI verdict store {} has a torn record at {}, truncating", path, position);
+                buffer.putInt(position, 0);
+                break;
+            }
+
+            var key = new byte[VerdictKey.LENGTH];
+            buffer.get(position + Integer.BYTES, key);
+            index.put(new VerdictKey(key), position);
+            position += Integer.BYTES + length;
+        }
+        writePosition = position;
+    }
+
+    private void writeHeader(MappedByteBuffer target) {
+        target.putLong(0, MAGIC);
+        target.put(Long.BYTES, fingerprint);
+    }
+
+    /**
+     * Identifies the key without revealing it, nor any cache key computed
+     * with it
+     */
+    private static byte[] fingerprint(String key) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(FINGERPRINT_CONTEXT);
+            return digest.digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static Verdict readVerdict(MappedByteBuffer buffer, int offset) {
+        var resultLength = buffer.getInt(offset) - RECORD_FIXED;
+        var expiresAt = buffer.getLong(offset + Integer.BYTES + VerdictKey.LENGTH);
+        var result = new byte[resultLength];
+        buffer.get(offset + Integer.BYTES + RECORD_FIXED, result);
+
+        return new Verdict(new String(result, StandardCharsets.UTF_8), expiresAt);
+    }
+
+    private static int checksum(MappedByteBuffer buffer, int offset, int resultLength) {
+        var crc = new CRC32();
+        crc.update(buffer.slice(offset + Integer.BYTES, VerdictKey.LENGTH + Long.BYTES));
+        crc.update(buffer.slice(offset + Integer.BYTES + RECORD_FIXED, resultLength));
+        return (int) crc.getValue();
+    }
+}
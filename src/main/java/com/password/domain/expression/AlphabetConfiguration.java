@@ -0,0 +1,35 @@
+package com.password.domain.expression;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(AlphabetConfiguration.PREFIX)
+public class AlphabetConfiguration {
+
+    public static final String PREFIX = "password.alphabet";
+
+    /**
+     * Chars that count as special characters; anything else outside letters
+     * and digits breaks AT_LEAST_RULES unless {@code unicode} is set
+     */
+    private String specialCharacters = CharacterClass.SPECIAL_CHARACTERS;
+
+    /**
+     * Accepts letters, digits and symbols of any script instead of ASCII only.
+     * Caseless letters count as lowercase, punctuation and symbols as special.
+     */
+    private boolean unicode = false;
+
+    /**
+     * Applies NFKC before the checks, so width and compatibility variants are
+     * judged as the plain chars they stand for
+     */
+    private boolean normalize = true;
+
+    /**
+     * Folds chars that look like ASCII ones (Cyrillic, Greek, ...) onto them
+     * after NFKC
+     */
+    private boolean foldConfusables = true;
+}
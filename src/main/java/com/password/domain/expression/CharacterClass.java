@@ -0,0 +1,40 @@
+package com.password.domain.expression;
+
+/**
+ * Character classes the password rules are built on, see
+ * {@link PasswordAlphabet} for which char falls in which class
+ */
+public enum CharacterClass {
+    LOWERCASE,
+    UPPERCASE,
+    DIGIT,
+    SPECIAL,
+    OTHER;
+
+    public static final String SPECIAL_CHARACTERS = "@$!%*?&";
+
+    /**
+     * Mask of a password that has every required class and nothing else
+     */
+    public static final int REQUIRED_MASK = LOWERCASE.bit() | UPPERCASE.bit() | DIGIT.bit() | SPECIAL.bit();
+
+    /**
+     * @return The class of the char in {@link PasswordAlphabet#DEFAULT}
+     */
+    public static CharacterClass of(char c) {
+        return PasswordAlphabet.DEFAULT.of(c);
+    }
+
+    /**
+     * @param password The password to scan
+     * @return Bit mask of the classes present in the password, in
+     *         {@link PasswordAlphabet#DEFAULT}
+     */
+    public static int mask(CharSequence password) {
+        return PasswordAlphabet.DEFAULT.mask(password);
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
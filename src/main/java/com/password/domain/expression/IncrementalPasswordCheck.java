@@ -0,0 +1,166 @@
+package com.password.domain.expression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rule state of a password that is being typed. Appends and deletes update
+ * per-class character counts in constant time per character, so the rules of
+ * {@link PasswordValidator} never have to be recomputed from scratch. Chars
+ * are normalized one at a time with {@link PasswordNormalizer#fold(char)}.
+ * <p>
+ * Not thread-safe: one instance per connection.
+ */
+public class IncrementalPasswordCheck {
+
+    public static final int MAX_TRACKED_LENGTH = 1024;
+
+    private static final PasswordRules[] RULES = PasswordRules.values();
+    private static final CharacterClass[] CLASSES = CharacterClass.values();
+
+    private final PasswordAlphabet alphabet;
+    private final PasswordNormalizer normalizer;
+    private final int[] counts = new int[CLASSES.length];
+
+    private char[] characters = new char[32];
+    private int length;
+    private int reportedMask;
+
+    /**
+     * Check over {@link PasswordAlphabet#DEFAULT} and
+     * {@link PasswordNormalizer#DEFAULT}
+     */
+    public IncrementalPasswordCheck() {
+        this(PasswordAlphabet.DEFAULT, PasswordNormalizer.DEFAULT);
+    }
+
+    public IncrementalPasswordCheck(PasswordAlphabet alphabet, PasswordNormalizer normalizer) {
+        this.alphabet = alphabet;
+        this.normalizer = normalizer;
+    }
+
+    /**
+     * @param text Characters typed at the end of the password
+     */
+    public void append(CharSequence text) {
+        if (length + text.length() > MAX_TRACKED_LENGTH) {
+            throw new IllegalArgumentException("Password is too long to track");
+        }
+        ensureCapacity(length + text.length());
+
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            characters[length++] = c;
+            counts[classOf(c)]++;
+        }
+    }
+
+    /**
+     * @param count Characters removed from the end of the password
+     */
+    public void delete(int count) {
+        var removed = Math.min(Math.max(count, 0), length);
+        for (int i = 0; i < removed; i++) {
+            var c = characters[--length];
+            counts[classOf(c)]--;
+            characters[length] = 0;
+        }
+    }
+
+    /**
+     * Forgets the password, zeroing the tracked characters
+     */
+    public void reset() {
+        Arrays.fill(characters, 0, length, (char) 0);
+        Arrays.fill(counts, 0);
+        length = 0;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return The rule {@link PasswordValidator#check(String)} would report,
+     *         with an empty password reported as required
+     */
+    public PasswordRules firstBrokenRule() {
+        if (length == 0) {
+            return PasswordRules.PASSWORD_IS_REQUIRED;
+        }
+        if (length < 8) {
+            return PasswordRules.AT_LEAST_8_CHARACTERS;
+        }
+        if (length > 128) {
+            return PasswordRules.AT_MOST_128_CHARACTERS;
+        }
+        if (classMask() != CharacterClass.REQUIRED_MASK) {
+            return PasswordRules.AT_LEAST_RULES;
+        }
+        return PasswordRules.PASSWORD_IS_VALID;
+    }
+
+    public boolean isSatisfied(PasswordRules rule) {
+        return switch (rule) {
+            case PASSWORD_IS_REQUIRED -> length > 0;
+            case AT_LEAST_8_CHARACTERS -> length >= 8;
+            case AT_MOST_128_CHARACTERS -> length <= 128;
+            case AT_LEAST_RULES -> classMask() == CharacterClass.REQUIRED_MASK;
+            case PASSWORD_IS_VALID -> firstBrokenRule() == PasswordRules.PASSWORD_IS_VALID;
+            // Only /validate knows the password history
+            case PASSWORD_REUSED -> true;
+        };
+    }
+
+    /**
+     * Compares the rule states with the ones returned by the previous call
+     *
+     * @return The rules whose state changed, empty when nothing changed
+     */
+    public List<PasswordRules> changedRules() {
+        var mask = 0;
+        for (var rule : RULES) {
+            if (isSatisfied(rule)) {
+                mask |= 1 << rule.ordinal();
+            }
+        }
+
+        var changed = mask ^ reportedMask;
+        reportedMask = mask;
+        if (changed == 0) {
+            return List.of();
+        }
+
+        var rules = new ArrayList<PasswordRules>(Integer.bitCount(changed));
+        for (var rule : RULES) {
+            if ((changed & (1 << rule.ordinal())) != 0) {
+                rules.add(rule);
+            }
+        }
+        return rules;
+    }
+
+    private int classMask() {
+        var mask = 0;
+        for (var characterClass : CLASSES) {
+            if (counts[characterClass.ordinal()] > 0) {
+                mask |= characterClass.bit();
+            }
+        }
+        return mask;
+    }
+
+    private int classOf(char c) {
+        return alphabet.of(normalizer.fold(c)).ordinal();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= characters.length) {
+            return;
+        }
+        var grown = Arrays.copyOf(characters, Math.min(Math.max(capacity, characters.length * 2), MAX_TRACKED_LENGTH));
+        Arrays.fill(characters, (char) 0);
+        characters = grown;
+    }
+}
@@ -0,0 +1,91 @@
+package com.password.domain.expression;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * The chars a password may contain and the {@link CharacterClass} of each,
+ * precomputed for the whole Basic Multilingual Plane so that classifying a
+ * char is one array read whatever the configuration. Surrogates are never
+ * accepted.
+ */
+@Singleton
+public final class PasswordAlphabet {
+
+    private static final CharacterClass[] CLASSES = CharacterClass.values();
+
+    /**
+     * ASCII letters and digits plus {@link CharacterClass#SPECIAL_CHARACTERS}
+     */
+    public static final PasswordAlphabet DEFAULT = new PasswordAlphabet(CharacterClass.SPECIAL_CHARACTERS, false);
+
+    private final byte[] classes = new byte[Character.MAX_VALUE + 1];
+
+    @Inject
+    public PasswordAlphabet(AlphabetConfiguration configuration) {
+        this(configuration.getSpecialCharacters(), configuration.isUnicode());
+    }
+
+    private PasswordAlphabet(String specialCharacters, boolean unicode) {
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            classes[c] = (byte) classify((char) c, specialCharacters, unicode).ordinal();
+        }
+    }
+
+    public CharacterClass of(char c) {
+        return CLASSES[classes[c]];
+    }
+
+    /**
+     * @param password The password to scan
+     * @return Bit mask of the classes present in the password
+     */
+    public int mask(CharSequence password) {
+        var mask = 0;
+        for (int i = 0; i < password.length(); i++) {
+            mask |= 1 << classes[password.charAt(i)];
+        }
+        return mask;
+    }
+
+    /**
+     * @param password The buffer holding the password
+     * @param length   Chars of the buffer to scan
+     * @return Bit mask of the classes present in the password
+     */
+    public int mask(char[] password, int length) {
+        var mask = 0;
+        for (int i = 0; i < length; i++) {
+            mask |= 1 << classes[password[i]];
+        }
+        return mask;
+    }
+
+    private static CharacterClass classify(char c, String specialCharacters, boolean unicode) {
+        if (c >= 'a' && c <= 'z') {
+            return CharacterClass.LOWERCASE;
+        } else if (c >= 'A' && c <= 'Z') {
+            return CharacterClass.UPPERCASE;
+        } else if (c >= '0' && c <= '9') {
+            return CharacterClass.DIGIT;
+        } else if (specialCharacters.indexOf(c) >= 0) {
+            return CharacterClass.SPECIAL;
+        }
+        if (!unicode) {
+            return CharacterClass.OTHER;
+        }
+
+        return switch (Character.getType(c)) {
+            case Character.LOWERCASE_LETTER, Character.OTHER_LETTER, Character.MODIFIER_LETTER ->
+                CharacterClass.LOWERCASE;
+            case Character.UPPERCASE_LETTER, Character.TITLECASE_LETTER -> CharacterClass.UPPERCASE;
+            case Character.DECIMAL_DIGIT_NUMBER -> CharacterClass.DIGIT;
+            case Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+                    Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION,
+                    Character.FINAL_QUOTE_PUNCTUATION, Character.OTHER_PUNCTUATION, Character.MATH_SYMBOL,
+                    Character.CURRENCY_SYMBOL, Character.MODIFIER_SYMBOL, Character.OTHER_SYMBOL ->
+                CharacterClass.SPECIAL;
+            default -> CharacterClass.OTHER;
+        };
+    }
+}
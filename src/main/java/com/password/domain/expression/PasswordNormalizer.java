@@ -0,0 +1,234 @@
+package com.password.domain.expression;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Arrays;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Brings a password to the form the rules are checked on: NFKC, so width and
+ * compatibility variants become the plain chars they stand for, then
+ * look-alike chars folded onto ASCII using {@code confusables.txt}.
+ * <p>
+ * Both steps are driven by tables built once. An all-ASCII password is
+ * detected by OR-ing its chars and comparing once, and is returned as is. A
+ * password whose chars are all known to be left alone by NFKC is only folded
+ * char by char. Only the rest goes through {@link Normalizer}.
+ */
+@Singleton
+public final class PasswordNormalizer {
+
+    static final String CONFUSABLES_RESOURCE = "/confusables.txt";
+
+    /**
+     * NFKC and confusable folding, the defaults of {@link AlphabetConfiguration}
+     */
+    public static final PasswordNormalizer DEFAULT = new PasswordNormalizer(true, true);
+
+    private final boolean enabled;
+
+    /**
+     * Chars that NFKC never changes, whatever surrounds them: one bit per
+     * char of the Basic Multilingual Plane
+     */
+    private final long[] stable = new long[(Character.MAX_VALUE + 1) / Long.SIZE];
+
+    /**
+     * Confusable folds as 256 pages of 256 chars, indexed by the high then the
+     * low byte; a null page or a 0 entry leaves the char alone
+     */
+    private final char[][] folds = new char[256][];
+
+    @Inject
+    public PasswordNormalizer(AlphabetConfiguration configuration) {
+        this(configuration.isNormalize(), configuration.isFoldConfusables());
+    }
+
+    private PasswordNormalizer(boolean normalize, boolean foldConfusables) {
+        this.enabled = normalize || foldConfusables;
+
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (!normalize || isNfkcStable((char) c)) {
+                stable[c >>> 6] |= 1L << c;
+            }
+        }
+        if (foldConfusables) {
+            loadConfusables();
+        }
+    }
+
+    /**
+     * @param password The password as typed, may be null
+     * @return The normalized password, the same instance when nothing changed
+     */
+    public String normalize(String password) {
+        if (password == null || !enabled) {
+            return password;
+        }
+
+        var bits = 0;
+        for (int i = 0; i < password.length(); i++) {
+            bits |= password.charAt(i);
+        }
+        if (bits < 0x80) {
+            return password;
+        }
+
+        var normalized = isStable(password) ? password : Normalizer.normalize(password, Normalizer.Form.NFKC);
+        char[] folded = null;
+        for (int i = 0; i < normalized.length(); i++) {
+            var c = normalized.charAt(i);
+            var fold = foldOf(c);
+            if (fold != 0) {
+                if (folded == null) {
+                    folded = normalized.toCharArray();
+                }
+                folded[i] = fold;
+            }
+        }
+        return folded != null ? new String(folded) : normalized;
+    }
+
+    /**
+     * Normalizes a password held in a buffer, in place. Only a password that
+     * NFKC would change is copied into a String on the way.
+     *
+     * @param password The buffer holding the password
+     * @param length   The password's length in chars, left alone when it
+     *                 exceeds the buffer
+     * @return The normalized password's length, may exceed the buffer when it
+     *         is too long anyway
+     */
+    public int normalize(char[] password, int length) {
+        if (!enabled || length > password.length) {
+            return length;
+        }
+
+        var bits = 0;
+        for (int i = 0; i < length; i++) {
+            bits |= password[i];
+        }
+        if (bits < 0x80) {
+            return length;
+        }
+
+        if (!isStable(password, length)) {
+            var normalized = Normalizer.normalize(CharBuffer.wrap(password, 0, length), Normalizer.Form.NFKC);
+            if (normalized.length() > password.length) {
+                return normalized.length();
+            }
+            Arrays.fill(password, 0, length, (char) 0);
+            normalized.getChars(0, normalized.length(), password, 0);
+            length = normalized.length();
+        }
+        for (int i = 0; i < length; i++) {
+            var fold = foldOf(password[i]);
+            if (fold != 0) {
+                password[i] = fold;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Normalizes a single char, for checks that see a password one keystroke
+     * at a time. Chars NFKC expands or composes with a neighbour are left
+     * alone.
+     */
+    public char fold(char c) {
+        if (!enabled || c < 0x80) {
+            return c;
+        }
+        if ((stable[c >>> 6] & (1L << c)) == 0) {
+            var normalized = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKC);
+            if (normalized.length() != 1) {
+                return c;
+            }
+            c = normalized.charAt(0);
+        }
+        var fold = foldOf(c);
+        return fold != 0 ? fold : c;
+    }
+
+    private char foldOf(char c) {
+        var page = folds[c >>> 8];
+        return page != null ? page[c & 0xFF] : 0;
+    }
+
+    private boolean isStable(CharSequence password) {
+        for (int i = 0; i < password.length(); i++) {
+            var c = password.charAt(i);
+            if ((stable[c >>> 6] & (1L << c)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isStable(char[] password, int length) {
+        for (int i = 0; i < length; i++) {
+            var c = password[i];
+            if ((stable[c >>> 6] & (1L << c)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A char is stable when NFKC leaves it alone and it can neither compose
+     * with the char before it (combining marks, Hangul vowel and trailing
+     * jamo) nor be half of a surrogate pair
+     */
+    private static boolean isNfkcStable(char c) {
+        if (Character.isSurrogate(c) || c >= 0x1100 && c <= 0x11FF || c >= 0xA960 && c <= 0xA97F
+                || c >= 0xD7B0 && c <= 0xD7FF) {
+            return false;
+        }
+        return switch (Character.getType(c)) {
+            case Character.NON_SPACING_MARK, Character.COMBINING_SPACING_MARK, Character.ENCLOSING_MARK -> false;
+            default -> Normalizer.isNormalized(String.valueOf(c), Normalizer.Form.NFKC);
+        };
+    }
+
+    private void loadConfusables() {
+        var stream = PasswordNormalizer.class.getResourceAsStream(CONFUSABLES_RESOURCE);
+        if (stream == null) {
+            throw new IllegalStateException("Missing resource " + CONFUSABLES_RESOURCE);
+        }
+
+        try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                var comment = line.indexOf('#');
+                var entry = (comment >= 0 ? line.substring(0, comment) : line).strip();
+                if (entry.isEmpty()) {
+                    continue;
+                }
+
+                var fields = entry.split(";");
+                if (fields.length != 2) {
+                    throw new IllegalStateException("Malformed confusable: " + line);
+                }
+                var source = (char) Integer.parseInt(fields[0].strip(), 16);
+                var target = (char) Integer.parseInt(fields[1].strip(), 16);
+                if (target >= 0x80) {
+                    throw new IllegalStateException("Confusables must fold onto ASCII: " + line);
+                }
+                var page = folds[source >>> 8];
+                if (page == null) {
+                    page = folds[source >>> 8] = new char[256];
+                }
+                page[source & 0xFF] = target;
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
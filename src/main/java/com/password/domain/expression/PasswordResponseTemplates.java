@@ -0,0 +1,38 @@
+package com.password.domain.expression;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.password.core.PreEncodedPasswordResponse;
+import com.password.model.PasswordResponseStatus;
+
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+
+/**
+ * One pre-encoded response per {@link PasswordRules} outcome, built once at
+ * startup
+ */
+@Singleton
+public class PasswordResponseTemplates {
+
+    private final Map<PasswordRules, PreEncodedPasswordResponse> templates = new EnumMap<>(PasswordRules.class);
+
+    public PasswordResponseTemplates(JsonMapper jsonMapper) {
+        for (var rule : PasswordRules.values()) {
+            templates.put(rule, PreEncodedPasswordResponse.encode(jsonMapper, rule.getDescription(), statusOf(rule)));
+        }
+    }
+
+    /**
+     * @param rule The outcome of the regular expression validator
+     * @return The shared response for the outcome
+     */
+    public PreEncodedPasswordResponse of(PasswordRules rule) {
+        return templates.get(rule);
+    }
+
+    public static PasswordResponseStatus statusOf(PasswordRules rule) {
+        return rule == PasswordRules.PASSWORD_IS_VALID ? PasswordResponseStatus.VALID : PasswordResponseStatus.INVALID;
+    }
+}
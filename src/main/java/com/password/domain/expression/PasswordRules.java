@@ -5,7 +5,8 @@ public enum PasswordRules {
     AT_LEAST_8_CHARACTERS("Password must be at least 8 characters long"),
     AT_MOST_128_CHARACTERS("Password must be less than 128 characters long"),
     PASSWORD_IS_REQUIRED("Password is required"),
-    PASSWORD_IS_VALID("Password is valid");
+    PASSWORD_IS_VALID("Password is valid"),
+    PASSWORD_REUSED("Password must not match any of the previous passwords");
 
     private final String description;
 
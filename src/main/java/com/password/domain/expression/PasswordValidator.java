@@ -2,8 +2,8 @@ package com.password.domain.expression;
 
 import com.password.core.HttpResponseUtils;
 import com.password.model.PasswordResponse;
-import com.password.model.PasswordResponseStatus;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
@@ -11,36 +11,26 @@ import lombok.extern.slf4j.Slf4j;
 @Singleton
 public class PasswordValidator {
 
+    private final PasswordAlphabet alphabet;
+    private final PasswordNormalizer normalizer;
+
+    /**
+     * Validator over {@link PasswordAlphabet#DEFAULT} and
+     * {@link PasswordNormalizer#DEFAULT}
+     */
+    public PasswordValidator() {
+        this(PasswordAlphabet.DEFAULT, PasswordNormalizer.DEFAULT);
+    }
+
+    @Inject
+    public PasswordValidator(PasswordAlphabet alphabet, PasswordNormalizer normalizer) {
+        this.alphabet = alphabet;
+        this.normalizer = normalizer;
+    }
+
     public PasswordResponse validate(String password) {
         try {
-            log.debug("Validating password: {}", password != null ? "***" : "null");
-
-            if (password == null) {
-                log.warn("Password validation failed: password is null");
-                return HttpResponseUtils.createPasswordResponse(
-                        PasswordRules.PASSWORD_IS_REQUIRED.getDescription(), password, PasswordResponseStatus.INVALID);
-            }
-            if (password.length() < 8) {
-                log.warn("Password validation failed: password too short ({} characters)", password.length());
-                return HttpResponseUtils.createPasswordResponse(
-                        PasswordRules.AT_LEAST_8_CHARACTERS.getDescription(), password, PasswordResponseStatus.INVALID);
-            }
-            if (password.length() > 128) {
-                log.warn("Password validation failed: password too long ({} characters)", password.length());
-                return HttpResponseUtils.createPasswordResponse(
-                        PasswordRules.AT_MOST_128_CHARACTERS.getDescription(), password,
-                        PasswordResponseStatus.INVALID);
-            }
-            if (!isValidPassword(password)) {
-                log.warn("Password validation failed: password does not meet complexity requirements");
-                return HttpResponseUtils.createPasswordResponse(
-                        PasswordRules.AT_LEAST_RULES.getDescription(), password, PasswordResponseStatus.INVALID);
-            }
-
-            log.info("Password validation successful");
-
-            return HttpResponseUtils.createPasswordResponse(
-                    PasswordRules.PASSWORD_IS_VALID.getDescription(), password, PasswordResponseStatus.VALID);
+            return responseFor(check(password), password);
         } catch (Exception exception) {
             log.error("Error during password validation", exception);
 
@@ -48,7 +38,98 @@ public class PasswordValidator {
         }
     }
 
-    private boolean isValidPassword(String password) {
-        return password.matches("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$");
+    /**
+     * Builds the echoing response for an outcome of {@link #check(String)}
+     *
+     * @param rule     The outcome
+     * @param password The password to echo
+     * @return The response
+     */
+    public PasswordResponse responseFor(PasswordRules rule, String password) {
+        return HttpResponseUtils.createPasswordResponse(
+                rule.getDescription(), password, PasswordResponseTemplates.statusOf(rule));
+    }
+
+    /**
+     * @param password The password as typed, may be null
+     * @return The password as the rules see it, for the checks that come after
+     *         them
+     */
+    public String normalize(String password) {
+        return normalizer.normalize(password);
+    }
+
+    /**
+     * Runs the rule checks on the normalized password without building a
+     * response
+     *
+     * @param password The password to check
+     * @return The first rule the password breaks, or PASSWORD_IS_VALID
+     */
+    public PasswordRules check(String password) {
+        log.debug("Validating password: {}", password != null ? "***" : "null");
+
+        if (password == null) {
+            log.warn("Password validation failed: password is null");
+            return PasswordRules.PASSWORD_IS_REQUIRED;
+        }
+        var normalized = normalizer.normalize(password);
+        var lengthRule = checkLength(normalized.length());
+        if (lengthRule != null) {
+            return lengthRule;
+        }
+        return checkClasses(alphabet.mask(normalized));
+    }
+
+    /**
+     * Same as {@link #check(String)} on a password held in a buffer, so it
+     * never has to become a String. The password is normalized in place.
+     *
+     * @param password The buffer holding the password, null when there is none
+     * @param length   The password's length in chars, may exceed the buffer
+     *                 when the password is too long anyway
+     * @return The first rule the password breaks, or PASSWORD_IS_VALID
+     */
+    public PasswordRules check(char[] password, int length) {
+        log.debug("Validating password: {}", password != null ? "***" : "null");
+
+        if (password == null) {
+            log.warn("Password validation failed: password is null");
+            return PasswordRules.PASSWORD_IS_REQUIRED;
+        }
+        var normalizedLength = normalizer.normalize(password, length);
+        var lengthRule = checkLength(normalizedLength);
+        if (lengthRule != null) {
+            return lengthRule;
+        }
+        return checkClasses(alphabet.mask(password, normalizedLength));
+    }
+
+    private PasswordRules checkLength(int length) {
+        if (length < 8) {
+            log.warn("Password validation failed: password too short ({} characters)", length);
+            return PasswordRules.AT_LEAST_8_CHARACTERS;
+        }
+        if (length > 128) {
+            log.warn("Password validation failed: password too long ({} characters)", length);
+            return PasswordRules.AT_MOST_128_CHARACTERS;
+        }
+        return null;
+    }
+
+    /**
+     * With the default alphabet, same contract as
+     * {@code ^(?=.*[a-z])(?=.*[A-Z])(?=.*\d)(?=.*[@$!%*?&])[A-Za-z\d@$!%*?&]{8,}$}
+     * in a single table-driven pass, shared with {@link IncrementalPasswordCheck}
+     */
+    private PasswordRules checkClasses(int mask) {
+        if (mask != CharacterClass.REQUIRED_MASK) {
+            log.warn("Password validation failed: password does not meet complexity requirements");
+            return PasswordRules.AT_LEAST_RULES;
+        }
+
+        log.info("Password validation successful");
+
+        return PasswordRules.PASSWORD_IS_VALID;
     }
 }
@@ -0,0 +1,159 @@
+package com.password.domain.hashing;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+
+import com.password.model.HashAlgorithm;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Argon2id encoded in the PHC string format:
+ * {@code $argon2id$v=19$m=<KiB>,t=<iterations>,p=<parallelism>$<salt>$<hash>}
+ */
+@Slf4j
+public class Argon2idHashFunction implements PasswordHashFunction {
+
+    private static final String PREFIX = "$argon2id$";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+    private static final int MIN_LENGTH = 8;
+    private static final int MAX_LENGTH = 64;
+
+    private final SecureRandom random = new SecureRandom();
+    private final int memoryKib;
+    private final int parallelism;
+    private final int maxIterations;
+
+    private volatile int iterations;
+
+    public Argon2idHashFunction(HashingConfiguration.Argon2 configuration) {
+        this.memoryKib = configuration.getMemoryKib();
+        this.parallelism = configuration.getParallelism();
+        this.maxIterations = configuration.getMaxIterations();
+        this.iterations = configuration.getIterations();
+    }
+
+    @Override
+    public HashAlgorithm algorithm() {
+        return HashAlgorithm.ARGON2ID;
+    }
+
+    @Override
+    public String hash(char[] password) {
+        var salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        var t = iterations;
+        var hash = generate(password, salt, memoryKib, t, parallelism, HASH_LENGTH);
+
+        var base64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + "v=19$m=" + memoryKib + ",t=" + t + ",p=" + parallelism
+                + "$" + base64.encodeToString(salt) + "$" + base64.encodeToString(hash);
+    }
+
+    @Override
+    public boolean verify(char[] password, String encoded) {
+        var parsed = parse(encoded);
+        var actual = generate(password, parsed.salt(), parsed.m(), parsed.t(), parsed.p(), parsed.hash().length);
+
+        return MessageDigest.isEqual(parsed.hash(), actual);
+    }
+
+    @Override
+    public void checkCost(String encoded) {
+        parse(encoded);
+    }
+
+    @Override
+    public boolean supports(String encoded) {
+        return encoded.startsWith(PREFIX);
+    }
+
+    @Override
+    public String calibrate(Duration targetLatency) {
+        var chosen = 1;
+        for (int t = 1; t <= maxIterations; t++) {
+            iterations = t;
+            var elapsed = PasswordHashFunction.measure(this);
+            log.debug("Argon2id m={} t={} p={} took {} ms", memoryKib, t, parallelism, elapsed.toMillis());
+            if (elapsed.compareTo(targetLatency) > 0) {
+                break;
+            }
+            chosen = t;
+        }
+        iterations = chosen;
+
+        return "m=" + memoryKib + ",t=" + chosen + ",p=" + parallelism;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    private record Parsed(int m, int t, int p, byte[] salt, byte[] hash) {
+    }
+
+    /**
+     * Parses a hash and rejects the parameters this instance would not use
+     * itself: more memory than 4 times its own, more iterations than
+     * calibration may pick, more lanes than it hashes with, or salts and
+     * outputs of unusual length
+     */
+    private Parsed parse(String encoded) {
+        // $argon2id$v=19$m=19456,t=2,p=1$salt$hash splits into "", "argon2id", "v=19", params, salt, hash
+        var parts = encoded.split("\\$");
+        if (parts.length != 6 || !"v=19".equals(parts[2])) {
+            throw new IllegalArgumentException("Malformed Argon2id hash");
+        }
+
+        int m = 0;
+        int t = 0;
+        int p = 0;
+        for (var parameter : parts[3].split(",")) {
+            if (parameter.length() < 3 || parameter.charAt(1) != '=') {
+                throw new IllegalArgumentException("Malformed Argon2id hash");
+            }
+            var value = Integer.parseInt(parameter.substring(2));
+            switch (parameter.charAt(0)) {
+                case 'm' -> m = value;
+                case 't' -> t = value;
+                case 'p' -> p = value;
+                default -> throw new IllegalArgumentException("Malformed Argon2id hash");
+            }
+        }
+        if (m <= 0 || t <= 0 || p <= 0 || m > memoryKib * 4 || t > maxIterations || p > parallelism) {
+            throw new IllegalArgumentException("Unsupported Argon2id parameters");
+        }
+
+        var base64 = Base64.getDecoder();
+        var salt = base64.decode(parts[4]);
+        var hash = base64.decode(parts[5]);
+        if (salt.length < MIN_LENGTH || salt.length > MAX_LENGTH || hash.length < MIN_LENGTH
+                || hash.length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Unsupported Argon2id salt or hash length");
+        }
+        return new Parsed(m, t, p, salt, hash);
+    }
+
+    private static byte[] generate(char[] password, byte[] salt, int m, int t, int p, int length) {
+        var parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withMemoryAsKB(m)
+                .withIterations(t)
+                .withParallelism(p)
+                .withSalt(salt)
+                .build();
+
+        var generator = new Argon2BytesGenerator();
+        generator.init(parameters);
+        var hash = new byte[length];
+        generator.generateBytes(password, hash);
+
+        return hash;
+    }
+}
@@ -0,0 +1,110 @@
+package com.password.domain.hashing;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
+
+import com.password.model.HashAlgorithm;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * bcrypt in the OpenBSD {@code $2y$} format
+ */
+@Slf4j
+public class BCryptHashFunction implements PasswordHashFunction {
+
+    private static final int SALT_LENGTH = 16;
+    private static final int MAX_PASSWORD_BYTES = 72;
+    private static final int ENCODED_LENGTH = 60;
+
+    private final SecureRandom random = new SecureRandom();
+    private final int minCost;
+    private final int maxCost;
+
+    private volatile int cost;
+
+    public BCryptHashFunction(HashingConfiguration.BCrypt configuration) {
+        this.minCost = configuration.getMinCost();
+        this.maxCost = configuration.getMaxCost();
+        this.cost = configuration.getCost();
+    }
+
+    @Override
+    public HashAlgorithm algorithm() {
+        return HashAlgorithm.BCRYPT;
+    }
+
+    @Override
+    public String hash(char[] password) {
+        checkLength(password);
+        var salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+
+        return OpenBSDBCrypt.generate(password, salt, cost);
+    }
+
+    @Override
+    public boolean verify(char[] password, String encoded) {
+        checkLength(password);
+        checkCost(encoded);
+        return OpenBSDBCrypt.checkPassword(encoded, password);
+    }
+
+    /**
+     * Rejects costs above {@code max-cost}: each step doubles the work, and
+     * {@code $2b$31$} would hold a hashing thread for hours
+     */
+    @Override
+    public void checkCost(String encoded) {
+        // $2y$10$ followed by 22 chars of salt and 31 of hash
+        if (encoded.length() != ENCODED_LENGTH || encoded.charAt(6) != '$'
+                || !Character.isDigit(encoded.charAt(4)) || !Character.isDigit(encoded.charAt(5))) {
+            throw new IllegalArgumentException("Malformed bcrypt hash");
+        }
+        var cost = Integer.parseInt(encoded, 4, 6, 10);
+        if (cost < 4 || cost > maxCost) {
+            throw new IllegalArgumentException("Unsupported bcrypt cost " + cost);
+        }
+    }
+
+    @Override
+    public boolean supports(String encoded) {
+        return encoded.startsWith("$2a$") || encoded.startsWith("$2b$") || encoded.startsWith("$2y$");
+    }
+
+    @Override
+    public String calibrate(Duration targetLatency) {
+        var chosen = minCost;
+        for (int c = minCost; c <= maxCost; c++) {
+            cost = c;
+            var elapsed = PasswordHashFunction.measure(this);
+            log.debug("bcrypt cost={} took {} ms", c, elapsed.toMillis());
+            if (elapsed.compareTo(targetLatency) > 0) {
+                break;
+            }
+            chosen = c;
+        }
+        cost = chosen;
+
+        return "cost=" + chosen;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    private static void checkLength(char[] password) {
+        var encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+        var length = encoded.remaining();
+        // Do not leave a copy of the password in the encoder's buffer
+        Arrays.fill(encoded.array(), (byte) 0);
+        if (length > MAX_PASSWORD_BYTES) {
+            throw new IllegalArgumentException("bcrypt only supports passwords up to " + MAX_PASSWORD_BYTES + " bytes");
+        }
+    }
+}
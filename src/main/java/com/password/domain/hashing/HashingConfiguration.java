@@ -0,0 +1,63 @@
+package com.password.domain.hashing;
+
+import java.time.Duration;
+
+import com.password.model.HashAlgorithm;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(HashingConfiguration.PREFIX)
+public class HashingConfiguration {
+
+    public static final String PREFIX = "password.hashing";
+
+    private HashAlgorithm defaultAlgorithm = HashAlgorithm.ARGON2ID;
+
+    /**
+     * Threads of the hashing pool. Argon2id holds {@code argon2.memory-kib} per
+     * thread, so this also bounds the memory used by hashing.
+     */
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Hash requests waiting for a thread; beyond it requests are rejected
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Longest a request waits for its hash, queueing included
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    /**
+     * Calibrates the cost parameters against {@code target-latency} at startup
+     */
+    private boolean calibrate = true;
+
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    private Argon2 argon2 = new Argon2();
+
+    private BCrypt bcrypt = new BCrypt();
+
+    @Data
+    @ConfigurationProperties("argon2")
+    public static class Argon2 {
+
+        private int memoryKib = 19_456;
+        private int parallelism = 1;
+        private int iterations = 2;
+        private int maxIterations = 10;
+    }
+
+    @Data
+    @ConfigurationProperties("bcrypt")
+    public static class BCrypt {
+
+        private int cost = 10;
+        private int minCost = 10;
+        private int maxCost = 16;
+    }
+}
@@ -0,0 +1,11 @@
+package com.password.domain.hashing;
+
+/**
+ * Thrown when the hashing pool is saturated or a hash did not finish in time
+ */
+public class HashingUnavailableException extends RuntimeException {
+
+    public HashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,68 @@
+package com.password.domain.hashing;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import com.password.model.HashAlgorithm;
+
+/**
+ * A password hashing algorithm whose cost can be tuned to the hardware
+ */
+public interface PasswordHashFunction {
+
+    HashAlgorithm algorithm();
+
+    /**
+     * @param password The password, left untouched
+     * @return The encoded hash, including salt and cost parameters
+     */
+    String hash(char[] password);
+
+    /**
+     * @param password The password, left untouched
+     * @param encoded  A hash produced by {@link #hash(char[])}, with any cost
+     * @return Whether the password matches the hash
+     */
+    boolean verify(char[] password, String encoded);
+
+    /**
+     * Checks, without hashing, that verifying the hash costs no more than the
+     * configured maximum. The cost comes from the hash, which the client
+     * supplies, and a running hash cannot be interrupted.
+     *
+     * @param encoded A hash this algorithm {@link #supports(String)}
+     * @throws IllegalArgumentException when the hash is malformed or too costly
+     */
+    void checkCost(String encoded);
+
+    /**
+     * @param encoded An encoded hash
+     * @return Whether the hash was produced by this algorithm
+     */
+    boolean supports(String encoded);
+
+    /**
+     * Picks the highest cost whose hash time stays within the target
+     *
+     * @param targetLatency The hash time to aim for
+     * @return A description of the chosen parameters
+     */
+    String calibrate(Duration targetLatency);
+
+    /**
+     * Median of three timed hashes of a fixed password, after one warm-up run
+     */
+    static Duration measure(PasswordHashFunction function) {
+        var sample = "Calibrati0n!".toCharArray();
+        function.hash(sample);
+
+        var timings = new long[3];
+        for (int i = 0; i < timings.length; i++) {
+            var start = System.nanoTime();
+            function.hash(sample);
+            timings[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(timings);
+        return Duration.ofNanos(timings[1]);
+    }
+}
@@ -0,0 +1,260 @@
+package com.password.domain.hashing;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.password.model.HashAlgorithm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashes and verifies passwords on a dedicated, bounded pool, so memory-hard
+ * hashing can neither starve the event loop nor grow without limit. When the
+ * pool and its queue are full, requests are rejected right away.
+ */
+@Slf4j
+@Singleton
+public class PasswordHasher {
+
+    private final HashingConfiguration configuration;
+    private final Map<HashAlgorithm, PasswordHashFunction> functions = new EnumMap<>(HashAlgorithm.class);
+    private final ThreadPoolExecutor executor;
+    private final Map<HashAlgorithm, Timer> hashTimers = new EnumMap<>(HashAlgorithm.class);
+    private final Map<HashAlgorithm, Timer> verifyTimers = new EnumMap<>(HashAlgorithm.class);
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHasher(HashingConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        functions.put(HashAlgorithm.ARGON2ID, new Argon2idHashFunction(configuration.getArgon2()));
+        functions.put(HashAlgorithm.BCRYPT, new BCryptHashFunction(configuration.getBcrypt()));
+
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(configuration.getPoolSize(), configuration.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(configuration.getQueueCapacity()),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Hash requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashes being computed")
+                .register(meterRegistry);
+        for (var algorithm : HashAlgorithm.values()) {
+            hashTimers.put(algorithm, timer(meterRegistry, algorithm, "hash"));
+            verifyTimers.put(algorithm, timer(meterRegistry, algorithm, "verify"));
+        }
+        this.queueWait = Timer.builder("password.hashing.queue.wait")
+                .description("Time spent waiting for a hashing thread")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .description("Hash requests rejected because the pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        if (configuration.isCalibrate()) {
+            calibrate();
+        }
+    }
+
+    /**
+     * Tunes every algorithm to the configured target latency on this hardware
+     */
+    public void calibrate() {
+        for (var function : functions.values()) {
+            var start = System.nanoTime();
+            var parameters = function.calibrate(configuration.getTargetLatency());
+            log.info("Calibrated {} to {} for a {} ms target in {} ms", function.algorithm(), parameters,
+                    configuration.getTargetLatency().toMillis(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Hashes the password and zeroes it afterwards
+     *
+     * @param password  The password, zeroed once hashed
+     * @param algorithm The algorithm, or null for the configured default
+     * @return The encoded hash
+     * @throws HashingUnavailableException when the pool is saturated or the
+     *                                     hash took longer than max-wait
+     */
+    public String hash(char[] password, HashAlgorithm algorithm) {
+        var function = functions.get(algorithm != null ? algorithm : configuration.getDefaultAlgorithm());
+        return awaitAndZero(password, () -> function.hash(password), hashTimers.get(function.algorithm()));
+    }
+
+    /**
+     * Verifies the password and zeroes it afterwards
+     *
+     * @param password The password, zeroed once verified
+     * @param encoded  An Argon2id or bcrypt hash
+     * @return Whether the password matches
+     * @throws IllegalArgumentException    when the hash is not supported or
+     *                                     costs more to verify than the
+     *                                     configured maximum
+     * @throws HashingUnavailableException when the pool is saturated or the
+     *                                     verification took longer than
+     *                                     max-wait
+     */
+    public boolean verify(char[] password, String encoded) {
+        PasswordHashFunction function;
+        try {
+            function = checkedFunctionFor(encoded);
+        } catch (IllegalArgumentException exception) {
+            Arrays.fill(password, (char) 0);
+            throw exception;
+        }
+        return awaitAndZero(password, () -> function.verify(password, encoded),
+                verifyTimers.get(function.algorithm()));
+    }
+
+    /**
+     * Queues a verification without waiting for it. The password is not zeroed,
+     * so the same array can be verified against several hashes.
+     *
+     * @param password The password, left untouched
+     * @param encoded  An Argon2id or bcrypt hash
+     * @return Future completed with whether the password matches
+     * @throws IllegalArgumentException    when the hash costs more to verify
+     *                                     than the configured maximum
+     * @throws HashingUnavailableException when the pool is saturated
+     */
+    public CompletableFuture<Boolean> verifyAsync(char[] password, String encoded) {
+        var function = checkedFunctionFor(encoded);
+        return submit(() -> function.verify(password, encoded), verifyTimers.get(function.algorithm()));
+    }
+
+    public HashAlgorithm getDefaultAlgorithm() {
+        return configuration.getDefaultAlgorithm();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private PasswordHashFunction functionFor(String encoded) {
+        if (encoded == null) {
+            throw new IllegalArgumentException("Hash is required");
+        }
+        return functions.values().stream()
+                .filter(function -> function.supports(encoded))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported hash format"));
+    }
+
+    private PasswordHashFunction checkedFunctionFor(String encoded) {
+        var function = functionFor(encoded);
+        function.checkCost(encoded);
+        return function;
+    }
+
+    /**
+     * Runs the task on the pool and zeroes the password once nothing reads it
+     * anymore. A hash cannot be interrupted: when max-wait runs out, a task
+     * still queued is skipped and the password zeroed right away, while a
+     * task already running keeps its thread until it finishes and zeroes the
+     * password itself.
+     */
+    private <T> T awaitAndZero(char[] password, Supplier<T> task, Timer timer) {
+        var claimed = new AtomicBoolean();
+        CompletableFuture<T> future;
+        try {
+            future = submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    // The caller gave up while this was queued
+                    return null;
+                }
+                try {
+                    return task.get();
+                } finally {
+                    Arrays.fill(password, (char) 0);
+                }
+            }, timer);
+        } catch (RuntimeException exception) {
+            Arrays.fill(password, (char) 0);
+            throw exception;
+        }
+
+        try {
+            return await(future);
+        } finally {
+            if (claimed.compareAndSet(false, true)) {
+                Arrays.fill(password, (char) 0);
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, Timer timer) {
+        var queued = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                var start = System.nanoTime();
+                queueWait.record(start - queued, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }, executor);
+        } catch (RejectedExecutionException exception) {
+            rejected.increment();
+            log.warn("Password hashing pool saturated ({} queued)", executor.getQueue().size());
+            throw new HashingUnavailableException("Password hashing capacity exhausted", exception);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(configuration.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            throw new HashingUnavailableException("Password hashing timed out", exception);
+        } catch (ExecutionException exception) {
+            throw exception.getCause() instanceof RuntimeException runtimeException ? runtimeException
+                    : new RuntimeException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, HashAlgorithm algorithm, String operation) {
+        return Timer.builder("password.hashing.latency")
+                .description("Time spent computing password hashes")
+                .tag("algorithm", algorithm.name())
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,123 @@
+package com.password.domain.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.password.domain.hashing.HashingConfiguration;
+import com.password.domain.hashing.HashingUnavailableException;
+import com.password.domain.hashing.PasswordHasher;
+
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tells whether a password matches one of the user's previous password
+ * hashes. The verifications run in parallel on the bounded hashing pool, so
+ * the memory-hard checks take about as long as the slowest one instead of
+ * adding up. The first match settles it and the verifications still queued
+ * are cancelled.
+ * <p>
+ * Cancelling cannot stop a hash already running: when the budget runs out,
+ * the request gets its 503 while up to {@code password.hashing.pool-size}
+ * verifications keep their threads until they finish.
+ */
+@Slf4j
+@Singleton
+public class PasswordHistoryChecker {
+
+    private final PasswordHasher passwordHasher;
+    private final PasswordHistoryConfiguration configuration;
+
+    /**
+     * @throws IllegalStateException when a full history cannot be verified
+     *                               within the latency budget, even on an
+     *                               idle pool
+     */
+    public PasswordHistoryChecker(PasswordHasher passwordHasher, PasswordHistoryConfiguration configuration,
+            HashingConfiguration hashingConfiguration) {
+        this.passwordHasher = passwordHasher;
+        this.configuration = configuration;
+
+        // Verifications run pool-size at a time, each about target-latency long
+        var fitting = hashingConfiguration.getPoolSize() * configuration.getLatencyBudget().toNanos()
+                / Math.max(1, hashingConfiguration.getTargetLatency().toNanos());
+        if (configuration.getMaxEntries() > fitting) {
+            throw new IllegalStateException(PasswordHistoryConfiguration.PREFIX + ".max-entries is "
+                    + configuration.getMaxEntries() + " but only " + fitting + " hashes can be verified within "
+                    + configuration.getLatencyBudget().toMillis() + " ms on " + hashingConfiguration.getPoolSize()
+                    + " hashing threads at " + hashingConfiguration.getTargetLatency().toMillis() + " ms each");
+        }
+    }
+
+    /**
+     * @param password       The candidate password
+     * @param previousHashes Argon2id or bcrypt hashes of the previous passwords
+     * @return Whether the password matches any of them
+     * @throws IllegalArgumentException    when there are too many hashes or one
+     *                                     has an unsupported format
+     * @throws HashingUnavailableException when the hashing pool is saturated or
+     *                                     the latency budget ran out
+     */
+    public boolean isReused(String password, List<String> previousHashes) {
+        if (previousHashes == null || previousHashes.isEmpty()) {
+            return false;
+        }
+        if (previousHashes.size() > configuration.getMaxEntries()) {
+            throw new IllegalArgumentException(
+                    "At most " + configuration.getMaxEntries() + " previous password hashes are supported");
+        }
+
+        var start = System.nanoTime();
+        var candidate = password.toCharArray();
+        var verifications = new ArrayList<CompletableFuture<Boolean>>(previousHashes.size());
+        var reused = new CompletableFuture<Boolean>();
+        try {
+            for (var hash : previousHashes) {
+                var verification = passwordHasher.verifyAsync(candidate, hash);
+                verification.thenAccept(matches -> {
+                    if (matches) {
+                        reused.complete(true);
+                    }
+                });
+                verifications.add(verification);
+            }
+            // Dependents run in no set order, so the last verification may reach
+            // this before its own match: settle on all the results, not on false
+            CompletableFuture.allOf(verifications.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, failure) -> {
+                        if (failure != null) {
+                            reused.completeExceptionally(
+                                    failure instanceof CompletionException ? failure.getCause() : failure);
+                        } else {
+                            reused.complete(verifications.stream().anyMatch(CompletableFuture::join));
+                        }
+                    });
+
+            var result = reused.get(configuration.getLatencyBudget().toMillis(), TimeUnit.MILLISECONDS);
+            log.debug("Checked {} previous password hashes in {} µs, reused: {}", previousHashes.size(),
+                    (System.nanoTime() - start) / 1_000, result);
+            return result;
+        } catch (TimeoutException exception) {
+            log.warn("Password history check of {} hashes exceeded its {} ms budget", previousHashes.size(),
+                    configuration.getLatencyBudget().toMillis());
+            throw new HashingUnavailableException("Password history check timed out", exception);
+        } catch (ExecutionException exception) {
+            throw exception.getCause() instanceof RuntimeException runtimeException ? runtimeException
+                    : new RuntimeException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        } finally {
+            // Verifications still queued are skipped; running ones finish
+            // against the zeroed array and their result is ignored
+            verifications.forEach(verification -> verification.cancel(false));
+            Arrays.fill(candidate, (char) 0);
+        }
+    }
+}
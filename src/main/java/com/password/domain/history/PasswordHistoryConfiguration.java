@@ -0,0 +1,29 @@
+package com.password.domain.history;
+
+import java.time.Duration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(PasswordHistoryConfiguration.PREFIX)
+public class PasswordHistoryConfiguration {
+
+    public static final String PREFIX = "password.history";
+
+    /**
+     * Most previous hashes a request may send, each one costs a hash
+     * verification. Must fit the latency budget: at most
+     * {@code pool-size * latency-budget / target-latency} of
+     * {@code password.hashing}, checked at startup. The default fits a single
+     * hashing thread.
+     */
+    private int maxEntries = 8;
+
+    /**
+     * Longest the history check may take, queueing on the hashing pool
+     * included; past it the request is answered with 503, while the
+     * verifications already running finish in the background
+     */
+    private Duration latencyBudget = Duration.ofSeconds(2);
+}
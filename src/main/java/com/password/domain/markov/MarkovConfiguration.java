@@ -0,0 +1,25 @@
+package com.password.domain.markov;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(MarkovConfiguration.PREFIX)
+public class MarkovConfiguration {
+
+    public static final String PREFIX = "password.markov";
+
+    /**
+     * Needs a model trained with {@link MarkovTrainer}
+     */
+    private boolean enabled = false;
+
+    private String modelPath = "data/markov.bin";
+
+    /**
+     * Passwords the model expects to be found in fewer guesses are rejected.
+     * 10 is out of reach of an online attack and costly offline against a
+     * slow hash.
+     */
+    private double minGuessesLog10 = 10;
+}
@@ -0,0 +1,161 @@
+package com.password.domain.markov;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Character n-gram model of how people pick passwords, read from a file
+ * written by {@link MarkovTrainer}.
+ * <p>
+ * The file is laid out as
+ * {@code magic (8) | order (4) | alphabetSize (4) | unitsPerBit (4) | unknownCost (4) | alphabet (2 each) | costs},
+ * where {@code costs} holds one row per context of {@code order - 1} symbols
+ * and one byte per next symbol: {@code -log2 P(symbol | context)} quantized to
+ * {@code 1 / unitsPerBit} of a bit. Symbol 0 marks the start and the end of a
+ * password, symbols 1 to {@code alphabetSize} are the alphabet's chars. The
+ * cost table is memory-mapped and never copied to the heap.
+ * <p>
+ * The guess number of a password is estimated as {@code 1 / P(password)}:
+ * an attacker enumerating passwords by decreasing probability under the
+ * model would need about that many guesses.
+ */
+public final class MarkovModel {
+
+    static final long MAGIC = 0x50574D41524B5631L; // "PWMARKV1"
+    static final int HEADER = Long.BYTES + 4 * Integer.BYTES;
+    static final int MAX_ALPHABET = 255;
+
+    private static final double LOG10_2 = Math.log10(2);
+
+    private final ByteBuffer costs;
+    private final int order;
+    private final int symbols;
+    private final int contexts;
+    private final double unitsPerBit;
+    private final int unknownCost;
+    private final int[] asciiSymbols = new int[128];
+    private final char[] otherChars;
+    private final int[] otherSymbols;
+
+    private MarkovModel(ByteBuffer file) {
+        if (file.capacity() < HEADER || file.getLong(0) != MAGIC) {
+            throw new IllegalStateException("Not a Markov model file");
+        }
+        order = file.getInt(Long.BYTES);
+        var alphabetSize = file.getInt(Long.BYTES + Integer.BYTES);
+        unitsPerBit = file.getInt(Long.BYTES + 2 * Integer.BYTES);
+        unknownCost = file.getInt(Long.BYTES + 3 * Integer.BYTES);
+        if (order < 1 || alphabetSize < 1 || alphabetSize > MAX_ALPHABET || unitsPerBit < 1) {
+            throw new IllegalStateException("Corrupt Markov model header");
+        }
+
+        symbols = alphabetSize + 1;
+        contexts = contextCount(order, symbols);
+        var tableOffset = HEADER + alphabetSize * Character.BYTES;
+        if (file.capacity() != tableOffset + (long) contexts * symbols) {
+            throw new IllegalStateException("Truncated Markov model file");
+        }
+
+        Arrays.fill(asciiSymbols, -1);
+        var others = new StringBuilder();
+        for (int symbol = 1; symbol <= alphabetSize; symbol++) {
+            var c = file.getChar(HEADER + (symbol - 1) * Character.BYTES);
+            if (c < asciiSymbols.length) {
+                asciiSymbols[c] = symbol;
+            } else {
+                others.append(c);
+            }
+        }
+        otherChars = others.toString().toCharArray();
+        Arrays.sort(otherChars);
+        otherSymbols = new int[otherChars.length];
+        for (int symbol = 1; symbol <= alphabetSize; symbol++) {
+            var c = file.getChar(HEADER + (symbol - 1) * Character.BYTES);
+            if (c >= asciiSymbols.length) {
+                otherSymbols[Arrays.binarySearch(otherChars, c)] = symbol;
+            }
+        }
+
+        costs = file.slice(tableOffset, contexts * symbols);
+    }
+
+    /**
+     * Memory-maps a model file
+     *
+     * @param path The file written by {@link MarkovTrainer}
+     * @return MarkovModel backed by the mapping
+     */
+    public static MarkovModel open(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new MarkovModel(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * @param password The password to score
+     * @return -log2 of the password's probability under the model
+     */
+    public double bits(CharSequence password) {
+        var cost = 0L;
+        var context = 0;
+        for (int i = 0; i < password.length(); i++) {
+            var symbol = symbolOf(password.charAt(i));
+            if (symbol < 0) {
+                cost += unknownCost;
+                // The model knows nothing after an unknown char, start over
+                context = 0;
+                continue;
+            }
+            cost += costs.get(context * symbols + symbol) & 0xFF;
+            context = (context * symbols + symbol) % contexts;
+        }
+        cost += costs.get(context * symbols) & 0xFF;
+
+        return cost / unitsPerBit;
+    }
+
+    /**
+     * @param password The password to score
+     * @return log10 of the estimated number of guesses to find the password
+     */
+    public double guessesLog10(CharSequence password) {
+        return bits(password) * LOG10_2;
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    public int getAlphabetSize() {
+        return symbols - 1;
+    }
+
+    private int symbolOf(char c) {
+        if (c < asciiSymbols.length) {
+            return asciiSymbols[c];
+        }
+        var index = Arrays.binarySearch(otherChars, c);
+        return index >= 0 ? otherSymbols[index] : -1;
+    }
+
+    /**
+     * @return Number of contexts of {@code order - 1} symbols
+     */
+    static int contextCount(int order, int symbols) {
+        var contexts = 1L;
+        for (int i = 1; i < order; i++) {
+            contexts *= symbols;
+        }
+        if (contexts * symbols > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Markov model of order " + order + " over " + (symbols - 1)
+                    + " chars is too large to map");
+        }
+        return (int) contexts;
+    }
+}
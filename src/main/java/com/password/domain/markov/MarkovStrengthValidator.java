@@ -0,0 +1,79 @@
+package com.password.domain.markov;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import com.password.core.HttpResponseUtils;
+import com.password.domain.expression.PasswordRules;
+import com.password.domain.expression.PasswordValidator;
+import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
+
+/**
+ * Local stand-in for the AI validator: the mandatory rules first, then how
+ * many guesses the {@link MarkovModel} expects an attacker to need. Answers in
+ * microseconds, with no network call.
+ */
+@Slf4j
+@Singleton
+@Requires(property = MarkovConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class MarkovStrengthValidator {
+
+    private final PasswordValidator passwordValidator;
+    private final MarkovModel model;
+    private final double minGuessesLog10;
+
+    public MarkovStrengthValidator(PasswordValidator passwordValidator, MarkovConfiguration configuration) {
+        this.passwordValidator = passwordValidator;
+        this.model = MarkovModel.open(Path.of(configuration.getModelPath()));
+        this.minGuessesLog10 = configuration.getMinGuessesLog10();
+        log.info("Loaded order {} Markov model over {} chars from {}", model.getOrder(), model.getAlphabetSize(),
+                configuration.getModelPath());
+    }
+
+    /**
+     * Outcome of a validation, for the audit trail
+     *
+     * @param rule         The first mandatory rule broken, PASSWORD_IS_VALID,
+     *                     or null when only the model rejected the password
+     * @param guessesLog10 log10 of the estimated guesses, NaN when a rule was
+     *                     broken first
+     * @param response     The verdict
+     */
+    public record Result(PasswordRules rule, double guessesLog10, PasswordResponse response) {
+    }
+
+    /**
+     * @param password The password to validate
+     * @return The verdict, VALID only when the rules hold and the password is
+     *         not guessable in fewer than 10^min-guesses-log10 guesses
+     */
+    public Result validate(String password) {
+        var rule = passwordValidator.check(password);
+        if (rule != PasswordRules.PASSWORD_IS_VALID) {
+            return new Result(rule, Double.NaN, passwordValidator.responseFor(rule, password));
+        }
+
+        // Scored as the rules saw it, so look-alikes of a leaked password
+        // score like the leaked password
+        var guessesLog10 = model.guessesLog10(passwordValidator.normalize(password));
+        log.debug("Markov model estimates 10^{} guesses", guessesLog10);
+        if (guessesLog10 < minGuessesLog10) {
+            return new Result(null, guessesLog10, HttpResponseUtils.createPasswordResponse(String.format(Locale.ROOT,
+                    "Too guessable: it follows patterns of leaked passwords and would fall in about 10^%.1f guesses",
+                    guessesLog10), password, PasswordResponseStatus.INVALID));
+        }
+        return new Result(rule, guessesLog10, HttpResponseUtils.createPasswordResponse(String.format(Locale.ROOT,
+                "Strong password: an attacker trained on leaked passwords would need about 10^%.1f guesses",
+                guessesLog10), password, PasswordResponseStatus.VALID));
+    }
+
+    public MarkovModel getModel() {
+        return model;
+    }
+}
@@ -0,0 +1,181 @@
+package com.password.domain.markov;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Offline trainer of {@link MarkovModel} files from a wordlist of leaked or
+ * common passwords, one per line. Run it through the build with
+ * {@code mvn -Pmarkov-train compile exec:java -Dmarkov.wordlist=<file>}.
+ * <p>
+ * The alphabet is made of the most frequent chars of the wordlist, other
+ * chars cost as much as a char never seen. Transitions are smoothed with
+ * add-k so that unseen ones keep a finite cost.
+ */
+@Slf4j
+public final class MarkovTrainer {
+
+    static final int UNITS_PER_BIT = 8;
+    private static final int MAX_COST = 255;
+    private static final int MAX_PASSWORD_LENGTH = 128;
+
+    private final int order;
+    private final double smoothing;
+
+    public MarkovTrainer(int order, double smoothing) {
+        if (order < 1) {
+            throw new IllegalArgumentException("Order must be at least 1");
+        }
+        this.order = order;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Usage: {@code MarkovTrainer <wordlist> <model> [order] [smoothing]}
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: MarkovTrainer <wordlist> <model> [order=3] [smoothing=0.01]");
+            System.exit(2);
+        }
+        var order = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        var smoothing = args.length > 3 ? Double.parseDouble(args[3]) : 0.01;
+
+        new MarkovTrainer(order, smoothing).train(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * Trains a model on a wordlist and writes it, replacing the previous file
+     * atomically
+     *
+     * @param wordlist UTF-8 file with one password per line
+     * @param model    Where to write the model
+     */
+    public void train(Path wordlist, Path model) {
+        var start = System.nanoTime();
+
+        var alphabet = alphabetOf(wordlist);
+        var symbols = alphabet.length() + 1;
+        var contexts = MarkovModel.contextCount(order, symbols);
+        var symbolOf = new HashMap<Character, Integer>();
+        for (int i = 0; i < alphabet.length(); i++) {
+            symbolOf.put(alphabet.charAt(i), i + 1);
+        }
+
+        var counts = new int[contexts * symbols];
+        var totalChars = new long[1];
+        forEachPassword(wordlist, password -> {
+            var context = 0;
+            for (int i = 0; i < password.length(); i++) {
+                var symbol = symbolOf.getOrDefault(password.charAt(i), 0);
+                if (symbol == 0) {
+                    // Scored the same way: an unknown char starts over
+                    context = 0;
+                    continue;
+                }
+                counts[context * symbols + symbol]++;
+                context = (context * symbols + symbol) % contexts;
+            }
+            counts[context * symbols]++;
+            totalChars[0] += password.length();
+        });
+
+        write(model, alphabet, contexts, symbols, counts, totalChars[0]);
+        log.info("Trained order {} Markov model over {} chars from {} in {} ms", order, alphabet.length(), wordlist,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return The wordlist's chars by decreasing frequency, at most
+     *         {@link MarkovModel#MAX_ALPHABET}
+     */
+    private static String alphabetOf(Path wordlist) {
+        var frequencies = new HashMap<Character, Long>();
+        forEachPassword(wordlist, password -> {
+            for (int i = 0; i < password.length(); i++) {
+                frequencies.merge(password.charAt(i), 1L, Long::sum);
+            }
+        });
+        if (frequencies.isEmpty()) {
+            throw new IllegalArgumentException("Wordlist " + wordlist + " has no passwords");
+        }
+
+        var alphabet = new StringBuilder();
+        frequencies.entrySet().stream()
+                .sorted(Map.Entry.<Character, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MarkovModel.MAX_ALPHABET)
+                .forEach(entry -> alphabet.append(entry.getKey()));
+        return alphabet.toString();
+    }
+
+    private void write(Path model, String alphabet, int contexts, int symbols, int[] counts, long totalChars) {
+        var temporary = model.resolveSibling(model.getFileName() + ".tmp");
+        try {
+            if (model.getParent() != null) {
+                Files.createDirectories(model.getParent());
+            }
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeLong(MarkovModel.MAGIC);
+                out.writeInt(order);
+                out.writeInt(alphabet.length());
+                out.writeInt(UNITS_PER_BIT);
+                // As rare as a char that never shows up in the wordlist
+                out.writeInt(quantize(log2(totalChars + 1.0)));
+                out.writeChars(alphabet);
+
+                var row = new byte[symbols];
+                for (int context = 0; context < contexts; context++) {
+                    var total = 0L;
+                    for (int symbol = 0; symbol < symbols; symbol++) {
+                        total += counts[context * symbols + symbol];
+                    }
+                    var denominator = total + smoothing * symbols;
+                    for (int symbol = 0; symbol < symbols; symbol++) {
+                        var probability = (counts[context * symbols + symbol] + smoothing) / denominator;
+                        row[symbol] = (byte) quantize(-log2(probability));
+                    }
+                    out.write(row);
+                }
+            }
+            Files.move(temporary, model, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static void forEachPassword(Path wordlist, Consumer<String> consumer) {
+        // Leaked lists are rarely clean UTF-8, undecodable bytes are replaced
+        try (var reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(wordlist), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty() && line.length() <= MAX_PASSWORD_LENGTH) {
+                    consumer.accept(line);
+                }
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static int quantize(double bits) {
+        return (int) Math.min(MAX_COST, Math.max(0, Math.round(bits * UNITS_PER_BIT)));
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
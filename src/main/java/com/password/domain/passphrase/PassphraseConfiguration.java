@@ -0,0 +1,46 @@
+package com.password.domain.passphrase;
+
+import com.password.domain.expression.CharacterClass;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(PassphraseConfiguration.PREFIX)
+public class PassphraseConfiguration {
+
+    public static final String PREFIX = "password.passphrase";
+
+    /**
+     * Needs a wordlist compiled with {@link WordlistCompiler}
+     */
+    private boolean enabled = false;
+
+    private String wordlistPath = "data/passphrase-words.bin";
+
+    /**
+     * Words per passphrase when the request does not say
+     */
+    private int words = 6;
+
+    private int minWords = 4;
+
+    private int maxWords = 10;
+
+    /**
+     * Chars to put between words, one picked at random for each gap; empty
+     * for none
+     */
+    private String separators = CharacterClass.SPECIAL_CHARACTERS;
+
+    /**
+     * Capitalizes a word and adds a digit and a special character, so that
+     * passphrases pass the mandatory rules
+     */
+    private boolean decorate = true;
+
+    /**
+     * Most passphrases a bulk request may ask for
+     */
+    private int maxBulkCount = 10_000;
+}
@@ -0,0 +1,175 @@
+package com.password.domain.passphrase;
+
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Locale;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import com.password.domain.expression.AlphabetConfiguration;
+import com.password.domain.expression.CharacterClass;
+import com.password.domain.expression.PasswordAlphabet;
+
+/**
+ * Diceware passphrases: words picked uniformly with a {@link SecureRandom}
+ * from a memory-mapped {@link PassphraseWordlist}, separated by chars picked
+ * the same way. Decorated passphrases get one capitalized word, a digit and a
+ * special character at random positions, enough for the mandatory rules.
+ * <p>
+ * Each thread has its own DRBG instance, so bulk generation does not
+ * serialize on the lock of the shared native one.
+ */
+@Slf4j
+@Singleton
+@Requires(property = PassphraseConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class PassphraseGenerator {
+
+    private static final String DIGITS = "0123456789";
+    private static final int MAX_LENGTH = 128;
+    private static final int MIN_LENGTH = 8;
+
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(() -> {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new RuntimeException(exception);
+        }
+    });
+
+    private final PassphraseWordlist wordlist;
+    private final PassphraseConfiguration configuration;
+    private final PasswordAlphabet alphabet;
+    private final String specialCharacters;
+
+    public PassphraseGenerator(PassphraseConfiguration configuration, AlphabetConfiguration alphabetConfiguration,
+            PasswordAlphabet alphabet) {
+        this.wordlist = PassphraseWordlist.open(Path.of(configuration.getWordlistPath()));
+        this.configuration = configuration;
+        this.alphabet = alphabet;
+        this.specialCharacters = distinct(alphabetConfiguration.getSpecialCharacters());
+        log.info("Loaded {} passphrase words ({} bits each) from {}", wordlist.size(),
+                String.format(Locale.ROOT, "%.1f", wordlist.bitsPerWord()), configuration.getWordlistPath());
+    }
+
+    /**
+     * Validated shape of the passphrases of a request
+     *
+     * @param words      Words per passphrase
+     * @param separators Distinct chars to pick each separator from, empty for
+     *                   none
+     * @param decorate   Whether to add a capital, a digit and a special char
+     */
+    public record Options(int words, String separators, boolean decorate) {
+    }
+
+    /**
+     * Fills in the defaults of {@link PassphraseConfiguration} and checks the
+     * request against them
+     *
+     * @throws IllegalArgumentException when the word count is out of bounds,
+     *                                  or decorated passphrases could still
+     *                                  break a rule
+     */
+    public Options options(Integer words, String separators, Boolean decorate) {
+        var options = new Options(words != null ? words : configuration.getWords(),
+                distinct(separators != null ? separators : configuration.getSeparators()),
+                decorate != null ? decorate : configuration.isDecorate());
+
+        if (options.words() < configuration.getMinWords() || options.words() > configuration.getMaxWords()) {
+            throw new IllegalArgumentException("Passphrases have between " + configuration.getMinWords() + " and "
+                    + configuration.getMaxWords() + " words");
+        }
+        if (!options.decorate()) {
+            return options;
+        }
+
+        for (int i = 0; i < options.separators().length(); i++) {
+            if (alphabet.of(options.separators().charAt(i)) == CharacterClass.OTHER) {
+                throw new IllegalArgumentException("Separator '" + options.separators().charAt(i)
+                        + "' is not in the password alphabet");
+            }
+        }
+        if (specialCharacters.isEmpty()) {
+            throw new IllegalArgumentException("The password alphabet has no special characters to decorate with");
+        }
+        var gaps = options.separators().isEmpty() ? 0 : options.words() - 1;
+        if (options.words() * WordlistCompiler.MIN_WORD_LENGTH + gaps + 2 < MIN_LENGTH
+                || options.words() * wordlist.maxLength() + gaps + 2 > MAX_LENGTH) {
+            throw new IllegalArgumentException("Passphrases of " + options.words()
+                    + " words could break the length rules");
+        }
+        return options;
+    }
+
+    public String generate(Options options) {
+        var passphrase = new StringBuilder(options.words() * (wordlist.maxLength() + 1) + 2);
+        append(options, passphrase);
+        return passphrase.toString();
+    }
+
+    /**
+     * Generates a passphrase straight into a buffer, for bulk requests
+     *
+     * @param options From {@link #options(Integer, String, Boolean)}
+     * @param target  Where to append the passphrase
+     */
+    public void append(Options options, StringBuilder target) {
+        var random = RANDOM.get();
+        var separators = options.separators();
+        var capitalized = options.decorate() ? random.nextInt(options.words()) : -1;
+        var withDigit = options.decorate() ? random.nextInt(options.words()) : -1;
+        var withSpecial = options.decorate() ? random.nextInt(options.words()) : -1;
+
+        for (int i = 0; i < options.words(); i++) {
+            if (i > 0 && !separators.isEmpty()) {
+                target.append(separators.charAt(random.nextInt(separators.length())));
+            }
+            var start = target.length();
+            wordlist.appendWord(random.nextInt(wordlist.size()), target);
+            if (i == capitalized) {
+                target.setCharAt(start, Character.toUpperCase(target.charAt(start)));
+            }
+            if (i == withDigit) {
+                target.append(DIGITS.charAt(random.nextInt(DIGITS.length())));
+            }
+            if (i == withSpecial) {
+                target.append(specialCharacters.charAt(random.nextInt(specialCharacters.length())));
+            }
+        }
+    }
+
+    /**
+     * @return Bits of entropy of a passphrase generated with the options,
+     *         counting the words, the separators and where and what the
+     *         decorations are
+     */
+    public double entropyBits(Options options) {
+        var words = options.words();
+        var bits = words * wordlist.bitsPerWord() + (words - 1) * log2(Math.max(options.separators().length(), 1));
+        if (options.decorate()) {
+            bits += log2(words) + log2(words * DIGITS.length()) + log2(words * specialCharacters.length());
+        }
+        return bits;
+    }
+
+    public PassphraseWordlist getWordlist() {
+        return wordlist;
+    }
+
+    /**
+     * A char listed twice would be picked twice as often
+     */
+    private static String distinct(String chars) {
+        var distinct = new StringBuilder(chars.length());
+        chars.chars().distinct().forEach(c -> distinct.append((char) c));
+        return distinct.toString();
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
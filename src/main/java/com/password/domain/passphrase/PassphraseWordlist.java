@@ -0,0 +1,98 @@
+package com.password.domain.passphrase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Passphrase words read from a file written by {@link WordlistCompiler}.
+ * <p>
+ * The file is laid out as
+ * {@code magic (8) | count (4) | maxLength (4) | offsets (4 each, count + 1) | words},
+ * where word {@code i} is the ASCII bytes between {@code offsets[i]} and
+ * {@code offsets[i + 1]} of {@code words}. Opening a list only reads the
+ * header; the offsets and the words stay memory-mapped and never reach the
+ * heap, whatever the size of the list.
+ */
+public final class PassphraseWordlist {
+
+    static final long MAGIC = 0x5057574F52445331L; // "PWWORDS1"
+    static final int HEADER = Long.BYTES + 2 * Integer.BYTES;
+
+    private final ByteBuffer offsets;
+    private final ByteBuffer words;
+    private final int size;
+    private final int maxLength;
+
+    private PassphraseWordlist(ByteBuffer file) {
+        if (file.capacity() < HEADER || file.getLong(0) != MAGIC) {
+            throw new IllegalStateException("Not a passphrase wordlist file");
+        }
+        size = file.getInt(Long.BYTES);
+        maxLength = file.getInt(Long.BYTES + Integer.BYTES);
+        if (size < 2 || size >= file.capacity() / Integer.BYTES || maxLength < 1) {
+            throw new IllegalStateException("Corrupt passphrase wordlist header");
+        }
+
+        var wordsOffset = HEADER + (size + 1) * Integer.BYTES;
+        if (file.capacity() < wordsOffset
+                || file.capacity() != wordsOffset + file.getInt(HEADER + size * Integer.BYTES)) {
+            throw new IllegalStateException("Truncated passphrase wordlist file");
+        }
+        offsets = file.slice(HEADER, (size + 1) * Integer.BYTES);
+        words = file.slice(wordsOffset, file.capacity() - wordsOffset);
+    }
+
+    /**
+     * Memory-maps a wordlist file
+     *
+     * @param path The file written by {@link WordlistCompiler}
+     * @return PassphraseWordlist backed by the mapping
+     */
+    public static PassphraseWordlist open(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new PassphraseWordlist(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Appends a word without allocating
+     *
+     * @param index  The word's index, from 0 to {@link #size()} excluded
+     * @param target Where to append it
+     */
+    public void appendWord(int index, StringBuilder target) {
+        var end = offsets.getInt((index + 1) * Integer.BYTES);
+        for (int i = offsets.getInt(index * Integer.BYTES); i < end; i++) {
+            target.append((char) words.get(i));
+        }
+    }
+
+    public String word(int index) {
+        var word = new StringBuilder(maxLength);
+        appendWord(index, word);
+        return word.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Length of the longest word, to bound passphrase lengths
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * @return Entropy of a word picked uniformly from the list
+     */
+    public double bitsPerWord() {
+        return Math.log(size) / Math.log(2);
+    }
+}
@@ -0,0 +1,116 @@
+package com.password.domain.passphrase;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Offline compiler of {@link PassphraseWordlist} files from a text wordlist.
+ * Run it through the build with
+ * {@code mvn -Ppassphrase-compile compile exec:java -Dpassphrase.wordlist=<file>}.
+ * <p>
+ * Takes one word per line, or diceware lists such as the EFF large wordlist
+ * where each line starts with its dice roll. Words are lowercased, and the
+ * ones with anything but ASCII letters or out of the length bounds are
+ * dropped, so that every passphrase stays within the default alphabet.
+ * Duplicates are dropped too, they would skew the uniform pick.
+ */
+@Slf4j
+public final class WordlistCompiler {
+
+    static final int MIN_WORD_LENGTH = 3;
+    static final int MAX_WORD_LENGTH = 12;
+    private static final int DICEWARE_SIZE = 7776;
+    private static final Pattern WORD = Pattern.compile("[a-z]+");
+
+    private WordlistCompiler() {
+    }
+
+    /**
+     * Usage: {@code WordlistCompiler <wordlist> <output>}
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: WordlistCompiler <wordlist> <output>");
+            System.exit(2);
+        }
+
+        compile(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * Compiles a wordlist and writes it, replacing the previous file
+     * atomically
+     *
+     * @param wordlist UTF-8 file with one word per line
+     * @param output   Where to write the compiled list
+     */
+    public static void compile(Path wordlist, Path output) {
+        var start = System.nanoTime();
+
+        var words = new LinkedHashSet<String>();
+        var dropped = 0;
+        try (var lines = Files.lines(wordlist, StandardCharsets.UTF_8)) {
+            for (var line : (Iterable<String>) lines::iterator) {
+                var fields = line.strip().split("\\s+");
+                var word = fields[fields.length - 1].toLowerCase(Locale.ROOT);
+                if (word.isEmpty()) {
+                    continue;
+                }
+                if (word.length() < MIN_WORD_LENGTH || word.length() > MAX_WORD_LENGTH
+                        || !WORD.matcher(word).matches() || !words.add(word)) {
+                    dropped++;
+                }
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        if (words.size() < 2) {
+            throw new IllegalArgumentException("Wordlist " + wordlist + " has fewer than 2 usable words");
+        }
+        if (words.size() < DICEWARE_SIZE) {
+            log.warn("Wordlist {} has {} usable words, fewer than the {} of a diceware list: {} bits per word",
+                    wordlist, words.size(), DICEWARE_SIZE, Math.log(words.size()) / Math.log(2));
+        }
+
+        write(output, words);
+        log.info("Compiled {} passphrase words from {} in {} ms, dropped {}", words.size(), wordlist,
+                (System.nanoTime() - start) / 1_000_000, dropped);
+    }
+
+    private static void write(Path output, LinkedHashSet<String> words) {
+        var temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        try {
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeLong(PassphraseWordlist.MAGIC);
+                out.writeInt(words.size());
+                out.writeInt(words.stream().mapToInt(String::length).max().orElseThrow());
+
+                var offset = 0;
+                out.writeInt(offset);
+                for (var word : words) {
+                    offset += word.length();
+                    out.writeInt(offset);
+                }
+                for (var word : words) {
+                    out.writeBytes(word);
+                }
+            }
+            Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
@@ -1,10 +1,28 @@
 package com.password.controller;
 
+import java.util.List;
+import java.util.Optional;
+
+import com.password.core.RequestDeadlines;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.core.stats.LatencyStats;
+import com.password.core.stats.StatsConfiguration;
 import com.password.domain.ai.creator.AIPasswordCreatorDecorator;
+import com.password.domain.ai.deadline.Deadline;
+import com.password.domain.ai.deadline.DeadlineConfiguration;
+import com.password.domain.ai.deadline.DeadlineExceededException;
+import com.password.domain.ai.limit.AiConcurrencyLimiters;
+import com.password.domain.ai.limit.ConcurrencyLimitConfiguration;
+import com.password.domain.ai.quota.QuotaExceededException;
 import com.password.domain.ai.validator.AIPasswordValidatorDecorator;
+import com.password.domain.expression.PasswordRules;
+import com.password.domain.expression.PasswordValidator;
 import com.password.model.PasswordResponse;
 import com.password.model.PasswordResponseStatus;
 import com.password.model.ValidateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +32,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,11 +44,22 @@ class AiPasswordApiImplTest {
     @Mock
     private AIPasswordCreatorDecorator aiPasswordCreatorAdapter;
 
+    @Mock
+    private AuditLog auditLog;
+
+    private AiConcurrencyLimiters limiters;
+
     private AiPasswordApiImpl controller;
 
     @BeforeEach
     void setUp() {
-        controller = new AiPasswordApiImpl(aiPasswordValidatorAdapter, aiPasswordCreatorAdapter);
+        var configuration = new ConcurrencyLimitConfiguration();
+        configuration.setInitialLimit(1);
+        configuration.setMinLimit(1);
+        limiters = new AiConcurrencyLimiters(configuration, new SimpleMeterRegistry());
+        controller = new AiPasswordApiImpl(aiPasswordValidatorAdapter, aiPasswordCreatorAdapter,
+                new PasswordValidator(), limiters, new RequestDeadlines(new DeadlineConfiguration()), auditLog,
+                new LatencyStats(new StatsConfiguration()));
     }
 
     @Test
@@ -41,7 +70,7 @@ class AiPasswordApiImplTest {
         expectedResponse.setMessage("Password generated successfully");
         expectedResponse.setPassword("SecurePass123!");
 
-        when(aiPasswordCreatorAdapter.generateAndValidatePassword()).thenReturn(expectedResponse);
+        when(aiPasswordCreatorAdapter.generateAndValidatePassword(any(Deadline.class))).thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.generate();
@@ -51,7 +80,7 @@ class AiPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(aiPasswordCreatorAdapter, times(1)).generateAndValidatePassword();
+        verify(aiPasswordCreatorAdapter, times(1)).generateAndValidatePassword(any(Deadline.class));
     }
 
     @Test
@@ -64,7 +93,8 @@ class AiPasswordApiImplTest {
         expectedResponse.setMessage("Awesome password, bro!");
         expectedResponse.setPassword("SecurePass123!");
 
-        when(aiPasswordValidatorAdapter.validatePassword(anyString())).thenReturn(expectedResponse);
+        when(aiPasswordValidatorAdapter.validatePassword(anyString(), any(), any(Deadline.class)))
+                .thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -74,7 +104,7 @@ class AiPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(aiPasswordValidatorAdapter, times(1)).validatePassword("SecurePass123!");
+        verify(aiPasswordValidatorAdapter, times(1)).validatePassword(eq("SecurePass123!"), any(), any(Deadline.class));
     }
 
     @Test
@@ -87,7 +117,8 @@ class AiPasswordApiImplTest {
         expectedResponse.setMessage("Password too weak, my friend!");
         expectedResponse.setPassword("weak");
 
-        when(aiPasswordValidatorAdapter.validatePassword(anyString())).thenReturn(expectedResponse);
+        when(aiPasswordValidatorAdapter.validatePassword(anyString(), any(), any(Deadline.class)))
+                .thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -97,7 +128,7 @@ class AiPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(aiPasswordValidatorAdapter, times(1)).validatePassword("weak");
+        verify(aiPasswordValidatorAdapter, times(1)).validatePassword(eq("weak"), any(), any(Deadline.class));
     }
 
     @Test
@@ -110,7 +141,8 @@ class AiPasswordApiImplTest {
         expectedResponse.setMessage("Password is required, dude!");
         expectedResponse.setPassword(null);
 
-        when(aiPasswordValidatorAdapter.validatePassword(null)).thenReturn(expectedResponse);
+        when(aiPasswordValidatorAdapter.validatePassword(isNull(), any(), any(Deadline.class)))
+                .thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -120,7 +152,7 @@ class AiPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(aiPasswordValidatorAdapter, times(1)).validatePassword(null);
+        verify(aiPasswordValidatorAdapter, times(1)).validatePassword(isNull(), any(), any(Deadline.class));
     }
 
     @Test
@@ -133,7 +165,8 @@ class AiPasswordApiImplTest {
         expectedResponse.setMessage("Password is empty, my friend!");
         expectedResponse.setPassword("");
 
-        when(aiPasswordValidatorAdapter.validatePassword("")).thenReturn(expectedResponse);
+        when(aiPasswordValidatorAdapter.validatePassword(eq(""), any(), any(Deadline.class)))
+                .thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -143,7 +176,7 @@ class AiPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(aiPasswordValidatorAdapter, times(1)).validatePassword("");
+        verify(aiPasswordValidatorAdapter, times(1)).validatePassword(eq(""), any(), any(Deadline.class));
     }
 
     @Test
@@ -152,7 +185,7 @@ class AiPasswordApiImplTest {
         ValidateRequest request = new ValidateRequest();
         request.setPassword("SecurePass123!");
 
-        when(aiPasswordValidatorAdapter.validatePassword(anyString()))
+        when(aiPasswordValidatorAdapter.validatePassword(anyString(), any(), any(Deadline.class)))
                 .thenThrow(new RuntimeException("AI service unavailable"));
 
         // Act
@@ -164,7 +197,7 @@ class AiPasswordApiImplTest {
         assertNotNull(response.getBody().get());
         assertEquals(PasswordResponseStatus.ERROR, response.getBody().get().getStatus());
 
-        verify(aiPasswordValidatorAdapter, times(1)).validatePassword("SecurePass123!");
+        verify(aiPasswordValidatorAdapter, times(1)).validatePassword(eq("SecurePass123!"), any(), any(Deadline.class));
     }
 
     @Test
@@ -177,7 +210,8 @@ class AiPasswordApiImplTest {
         expectedResponse.setMessage("This password is absolutely amazing!");
         expectedResponse.setPassword("MySuperSecurePassword123!@#");
 
-        when(aiPasswordValidatorAdapter.validatePassword(anyString())).thenReturn(expectedResponse);
+        when(aiPasswordValidatorAdapter.validatePassword(anyString(), any(), any(Deadline.class)))
+                .thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -187,6 +221,166 @@ class AiPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(aiPasswordValidatorAdapter, times(1)).validatePassword("MySuperSecurePassword123!@#");
+        verify(aiPasswordValidatorAdapter, times(1)).validatePassword(eq("MySuperSecurePassword123!@#"),
+                any(), any(Deadline.class));
+    }
+
+    @Test
+    void generate_LimitReached_ShouldReturnServiceUnavailable() {
+        // Arrange
+        limiters.getGenerate().tryAcquire().orElseThrow();
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.generate();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatus());
+        assertEquals(PasswordResponseStatus.ERROR, response.getBody().get().getStatus());
+        assertEquals("1", response.getHeaders().get("Retry-After"));
+
+        verify(aiPasswordCreatorAdapter, never()).generateAndValidatePassword(any(Deadline.class));
+    }
+
+    @Test
+    void validate_PasswordHistory_ShouldReturnBadRequest() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+        request.setPreviousPasswordHashes(List.of("$argon2id$old"));
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        assertEquals(PasswordResponseStatus.ERROR, response.getBody().get().getStatus());
+
+        verify(aiPasswordValidatorAdapter, never()).cachedVerdict(any(), any());
+        verify(aiPasswordValidatorAdapter, never()).validatePassword(anyString(), any(), any(Deadline.class));
+    }
+
+    @Test
+    void validate_LimitReached_ShouldFallBackToLocalValidator() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+        limiters.getValidate().tryAcquire().orElseThrow();
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(PasswordResponseStatus.VALID, response.getBody().get().getStatus());
+
+        verify(aiPasswordValidatorAdapter, never()).validatePassword(anyString(), any(), any(Deadline.class));
+        verify(auditLog).publish(eq(AuditOperation.VALIDATE), eq(AuditPath.LOCAL_FALLBACK),
+                eq(PasswordResponseStatus.VALID), eq(PasswordRules.PASSWORD_IS_VALID), eq(200), anyLong());
+    }
+
+    @Test
+    void validate_LimitReachedWithoutFallback_ShouldReturnServiceUnavailable() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+        limiters.getConfiguration().setFallbackToLocalValidator(false);
+        limiters.getValidate().tryAcquire().orElseThrow();
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatus());
+        assertEquals(PasswordResponseStatus.ERROR, response.getBody().get().getStatus());
+
+        verify(aiPasswordValidatorAdapter, never()).validatePassword(anyString(), any(), any(Deadline.class));
+    }
+
+    @Test
+    void validate_CachedVerdict_ShouldNotNeedPermit() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+        PasswordResponse cachedResponse = new PasswordResponse();
+        cachedResponse.setStatus(PasswordResponseStatus.VALID);
+        limiters.getValidate().tryAcquire().orElseThrow();
+
+        when(aiPasswordValidatorAdapter.cachedVerdict(any(), eq("SecurePass123!")))
+                .thenReturn(Optional.of(cachedResponse));
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(cachedResponse, response.getBody().get());
+
+        verify(aiPasswordValidatorAdapter, never()).validatePassword(anyString(), any(), any(Deadline.class));
+        verify(auditLog).publish(eq(AuditOperation.VALIDATE), eq(AuditPath.AI_CACHE),
+                eq(PasswordResponseStatus.VALID), isNull(), eq(200), anyLong());
+    }
+
+    @Test
+    void generate_DeadlineExceeded_ShouldReturnGatewayTimeoutAndBackOff() {
+        // Arrange
+        when(aiPasswordCreatorAdapter.generateAndValidatePassword(any(Deadline.class)))
+                .thenThrow(new DeadlineExceededException("Deadline exceeded", false));
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.generate();
+
+        // Assert
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, response.getStatus());
+        assertEquals(PasswordResponseStatus.ERROR, response.getBody().get().getStatus());
+        assertEquals(0, limiters.getGenerate().getInFlight());
+    }
+
+    @Test
+    void validate_ShouldPassEndpointDeadlineToDecorator() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+
+        when(aiPasswordValidatorAdapter.validatePassword(anyString(), any(), any(Deadline.class)))
+                .thenReturn(new PasswordResponse());
+
+        // Act
+        controller.validate(request);
+
+        // Assert
+        verify(aiPasswordValidatorAdapter).validatePassword(eq("SecurePass123!"), any(),
+                argThat(deadline -> deadline.isBounded() && deadline.remaining().getSeconds() <= 10));
+    }
+
+    @Test
+    void validate_QuotaExhausted_ShouldFallBackToLocalValidator() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("weak");
+
+        when(aiPasswordValidatorAdapter.validatePassword(anyString(), any(), any(Deadline.class)))
+                .thenThrow(new QuotaExceededException("AI quota exhausted"));
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(PasswordResponseStatus.INVALID, response.getBody().get().getStatus());
+        assertEquals(0, limiters.getValidate().getInFlight());
+    }
+
+    @Test
+    void generate_QuotaExhausted_ShouldReturnServiceUnavailable() {
+        // Arrange
+        when(aiPasswordCreatorAdapter.generateAndValidatePassword(any(Deadline.class)))
+                .thenThrow(new QuotaExceededException("AI quota exhausted"));
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.generate();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatus());
+        assertEquals("1", response.getHeaders().get("Retry-After"));
     }
 }
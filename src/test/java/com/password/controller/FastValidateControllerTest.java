@@ -0,0 +1,96 @@
+package com.password.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.core.stats.LatencyStats;
+import com.password.core.stats.StatsConfiguration;
+import com.password.domain.expression.PasswordResponseTemplates;
+import com.password.domain.expression.PasswordRules;
+import com.password.domain.expression.PasswordValidator;
+import com.password.model.PasswordResponseStatus;
+import io.micronaut.buffer.netty.NettyByteBufferFactory;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.json.JsonMapper;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FastValidateControllerTest {
+
+    @Mock
+    private AuditLog auditLog;
+
+    private PasswordResponseTemplates passwordResponseTemplates;
+
+    private FastValidateController controller;
+
+    @BeforeEach
+    void setUp() {
+        passwordResponseTemplates = new PasswordResponseTemplates(JsonMapper.createDefault());
+        controller = new FastValidateController(new PasswordValidator(), passwordResponseTemplates, auditLog,
+                new LatencyStats(new StatsConfiguration()));
+    }
+
+    @Test
+    void validate_ValidPassword_ShouldAnswerWithTemplateAndZeroBuffers() {
+        // Arrange
+        var request = Unpooled.copiedBuffer("{\"password\":\"SecurePass123!\"}", StandardCharsets.UTF_8);
+
+        // Act
+        var response = controller.validate(NettyByteBufferFactory.DEFAULT.wrap(request));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertSame(passwordResponseTemplates.of(PasswordRules.PASSWORD_IS_VALID), response.body());
+        assertTrue(FastValidateController.isBufferCleared());
+        for (int i = 0; i < request.writerIndex(); i++) {
+            assertEquals(0, request.getByte(i));
+        }
+
+        verify(auditLog).publish(eq(AuditOperation.VALIDATE), eq(AuditPath.REGEX), eq(PasswordResponseStatus.VALID),
+                eq(PasswordRules.PASSWORD_IS_VALID), eq(200), anyLong());
+    }
+
+    @Test
+    void validate_MissingPassword_ShouldReturnRequiredRule() {
+        // Arrange
+        var request = Unpooled.copiedBuffer("{}", StandardCharsets.UTF_8);
+
+        // Act
+        var response = controller.validate(NettyByteBufferFactory.DEFAULT.wrap(request));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(PasswordResponseStatus.INVALID, response.body().getStatus());
+        assertEquals("Password is required", response.body().getMessage());
+    }
+
+    @Test
+    void validate_MalformedBody_ShouldReturnBadRequestAndZeroBuffers() {
+        // Arrange
+        var request = Unpooled.copiedBuffer("{\"password\":\"Secure", StandardCharsets.UTF_8);
+
+        // Act
+        var response = controller.validate(NettyByteBufferFactory.DEFAULT.wrap(request));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        assertEquals(PasswordResponseStatus.ERROR, response.body().getStatus());
+        assertNull(response.body().getPassword());
+        assertTrue(FastValidateController.isBufferCleared());
+
+        verify(auditLog).publish(eq(AuditOperation.VALIDATE), eq(AuditPath.REGEX), eq(PasswordResponseStatus.ERROR),
+                isNull(), eq(400), anyLong());
+    }
+}
@@ -0,0 +1,89 @@
+package com.password.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.domain.expression.AlphabetConfiguration;
+import com.password.domain.expression.PasswordAlphabet;
+import com.password.domain.passphrase.PassphraseConfiguration;
+import com.password.domain.passphrase.PassphraseGenerator;
+import com.password.domain.passphrase.WordlistCompiler;
+import com.password.model.PasswordResponseStatus;
+import io.micronaut.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PassphraseBulkControllerTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private AuditLog auditLog;
+
+    private PassphraseBulkController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        var words = new ArrayList<String>();
+        for (char first = 'a'; first <= 'z'; first++) {
+            for (char second = 'a'; second <= 'z'; second++) {
+                words.add("word" + first + second);
+            }
+        }
+        var file = directory.resolve("words.bin");
+        WordlistCompiler.compile(Files.write(directory.resolve("words.txt"), words), file);
+
+        var configuration = new PassphraseConfiguration();
+        configuration.setEnabled(true);
+        configuration.setWordlistPath(file.toString());
+        configuration.setMaxBulkCount(1_000);
+        var alphabetConfiguration = new AlphabetConfiguration();
+        var generator = new PassphraseGenerator(configuration, alphabetConfiguration,
+                new PasswordAlphabet(alphabetConfiguration));
+        controller = new PassphraseBulkController(generator, configuration, auditLog);
+    }
+
+    @Test
+    void generate_ShouldStreamOnePassphrasePerLineInChunks() {
+        // Act
+        var response = controller.generate(600, 4, "-", false);
+        var chunks = response.body().collectList().block();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(3, chunks.size());
+        var lines = String.join("", chunks).split("\n");
+        assertEquals(600, lines.length);
+        for (var line : lines) {
+            assertTrue(line.matches("word[a-z]{2}(-word[a-z]{2}){3}"), line);
+        }
+        verify(auditLog).publish(eq(AuditOperation.GENERATE), eq(AuditPath.PASSPHRASE),
+                eq(PasswordResponseStatus.VALID), isNull(), eq(200), anyLong());
+    }
+
+    @Test
+    void generate_CountOutOfBounds_ShouldReturnBadRequest() {
+        // Act
+        var response = controller.generate(1_001, null, null, null);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        verify(auditLog).publish(eq(AuditOperation.GENERATE), eq(AuditPath.PASSPHRASE),
+                eq(PasswordResponseStatus.ERROR), isNull(), eq(400), anyLong());
+    }
+}
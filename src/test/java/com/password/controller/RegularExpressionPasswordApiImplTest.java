@@ -1,5 +1,17 @@
 package com.password.controller;
 
+import java.util.List;
+
+import com.password.core.PreEncodedPasswordResponse;
+import com.password.core.audit.AuditLog;
+import com.password.core.audit.AuditOperation;
+import com.password.core.audit.AuditPath;
+import com.password.core.stats.LatencyStats;
+import com.password.core.stats.StatsConfiguration;
+import com.password.domain.hashing.HashingUnavailableException;
+import com.password.domain.history.PasswordHistoryChecker;
+import com.password.domain.expression.PasswordResponseTemplates;
+import com.password.domain.expression.PasswordRules;
 import com.password.domain.expression.PasswordValidator;
 import com.password.model.PasswordResponse;
 import com.password.model.PasswordResponseStatus;
@@ -13,7 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,11 +34,24 @@ class RegularExpressionPasswordApiImplTest {
     @Mock
     private PasswordValidator passwordValidator;
 
+    @Mock
+    private PasswordResponseTemplates passwordResponseTemplates;
+
+    @Mock
+    private AuditLog auditLog;
+
+    @Mock
+    private PasswordHistoryChecker passwordHistoryChecker;
+
+    private ValidateResponseConfiguration responseConfiguration;
+
     private RegularExpressionPasswordApiImpl controller;
 
     @BeforeEach
     void setUp() {
-        controller = new RegularExpressionPasswordApiImpl(passwordValidator);
+        responseConfiguration = new ValidateResponseConfiguration();
+        controller = new RegularExpressionPasswordApiImpl(passwordValidator, passwordResponseTemplates,
+                responseConfiguration, auditLog, new LatencyStats(new StatsConfiguration()), passwordHistoryChecker);
     }
 
     @Test
@@ -39,7 +64,9 @@ class RegularExpressionPasswordApiImplTest {
         expectedResponse.setMessage("Password is valid");
         expectedResponse.setPassword("SecurePass123!");
 
-        when(passwordValidator.validate(any(String.class))).thenReturn(expectedResponse);
+        when(passwordValidator.check(any(String.class))).thenReturn(PasswordRules.PASSWORD_IS_VALID);
+        when(passwordValidator.responseFor(PasswordRules.PASSWORD_IS_VALID, "SecurePass123!"))
+                .thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -49,7 +76,9 @@ class RegularExpressionPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(passwordValidator, times(1)).validate(request.getPassword());
+        verify(passwordValidator, times(1)).check(request.getPassword());
+        verify(auditLog).publish(eq(AuditOperation.VALIDATE), eq(AuditPath.REGEX), eq(PasswordResponseStatus.VALID),
+                eq(PasswordRules.PASSWORD_IS_VALID), eq(200), anyLong());
     }
 
     @Test
@@ -64,7 +93,9 @@ class RegularExpressionPasswordApiImplTest {
                 "Password must contain at least one uppercase letter, at least one lowercase letter, at least one number, at least one special character");
         expectedResponse.setPassword("weak");
 
-        when(passwordValidator.validate(any(String.class))).thenReturn(expectedResponse);
+        when(passwordValidator.check(any(String.class))).thenReturn(PasswordRules.AT_LEAST_RULES);
+        when(passwordValidator.responseFor(PasswordRules.AT_LEAST_RULES, "weak"))
+                .thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -74,7 +105,7 @@ class RegularExpressionPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(passwordValidator, times(1)).validate(request.getPassword());
+        verify(passwordValidator, times(1)).check(request.getPassword());
     }
 
     @Test
@@ -88,7 +119,7 @@ class RegularExpressionPasswordApiImplTest {
         expectedResponse.setMessage("Password is required");
         expectedResponse.setPassword(null);
 
-        when(passwordValidator.validate(any(String.class))).thenReturn(expectedResponse);
+        when(passwordValidator.check(any(String.class))).thenReturn(PasswordRules.PASSWORD_IS_REQUIRED);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -97,7 +128,7 @@ class RegularExpressionPasswordApiImplTest {
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatus());
 
-        verify(passwordValidator, times(1)).validate(request.getPassword());
+        verify(passwordValidator, times(1)).check(request.getPassword());
     }
 
     @Test
@@ -110,7 +141,9 @@ class RegularExpressionPasswordApiImplTest {
         expectedResponse.setMessage("Password is valid");
         expectedResponse.setPassword("MySuperSecurePassword123!@#");
 
-        when(passwordValidator.validate(any(String.class))).thenReturn(expectedResponse);
+        when(passwordValidator.check(any(String.class))).thenReturn(PasswordRules.PASSWORD_IS_VALID);
+        when(passwordValidator.responseFor(PasswordRules.PASSWORD_IS_VALID, "MySuperSecurePassword123!@#"))
+                .thenReturn(expectedResponse);
 
         // Act
         HttpResponse<PasswordResponse> response = controller.validate(request);
@@ -120,6 +153,108 @@ class RegularExpressionPasswordApiImplTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals(expectedResponse, response.getBody().get());
 
-        verify(passwordValidator, times(1)).validate(request.getPassword());
+        verify(passwordValidator, times(1)).check(request.getPassword());
+    }
+
+    @Test
+    void validate_CompactMode_ShouldReturnPreEncodedTemplateWithoutPassword() {
+        // Arrange
+        responseConfiguration.setResponseMode(ValidateResponseConfiguration.ResponseMode.COMPACT);
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("weak");
+        PreEncodedPasswordResponse template = mock(PreEncodedPasswordResponse.class);
+
+        when(passwordValidator.check("weak")).thenReturn(PasswordRules.AT_LEAST_8_CHARACTERS);
+        when(passwordResponseTemplates.of(PasswordRules.AT_LEAST_8_CHARACTERS)).thenReturn(template);
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertSame(template, response.getBody().get());
+
+        verify(passwordValidator, never()).validate(any());
+    }
+
+    @Test
+    void validate_CompactModeValidatorThrowsException_ShouldNotEchoPassword() {
+        // Arrange
+        responseConfiguration.setResponseMode(ValidateResponseConfiguration.ResponseMode.COMPACT);
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+
+        when(passwordValidator.check("SecurePass123!")).thenThrow(new RuntimeException("boom"));
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatus());
+        assertEquals(PasswordResponseStatus.ERROR, response.getBody().get().getStatus());
+        assertNull(response.getBody().get().getPassword());
+    }
+
+    @Test
+    void validate_PasswordInHistory_ShouldReturnReusedRule() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+        request.setPreviousPasswordHashes(List.of("$argon2id$old", "$2b$10$older"));
+        PasswordResponse expectedResponse = new PasswordResponse();
+        expectedResponse.setStatus(PasswordResponseStatus.INVALID);
+
+        when(passwordValidator.check("SecurePass123!")).thenReturn(PasswordRules.PASSWORD_IS_VALID);
+        when(passwordHistoryChecker.isReused("SecurePass123!", request.getPreviousPasswordHashes())).thenReturn(true);
+        when(passwordValidator.responseFor(PasswordRules.PASSWORD_REUSED, "SecurePass123!"))
+                .thenReturn(expectedResponse);
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertSame(expectedResponse, response.getBody().get());
+        verify(auditLog).publish(eq(AuditOperation.VALIDATE), eq(AuditPath.REGEX), eq(PasswordResponseStatus.INVALID),
+                eq(PasswordRules.PASSWORD_REUSED), eq(200), anyLong());
+    }
+
+    @Test
+    void validate_BrokenRule_ShouldNotCheckHistory() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("weak");
+        request.setPreviousPasswordHashes(List.of("$argon2id$old"));
+
+        when(passwordValidator.check("weak")).thenReturn(PasswordRules.AT_LEAST_8_CHARACTERS);
+        when(passwordValidator.responseFor(eq(PasswordRules.AT_LEAST_8_CHARACTERS), any()))
+                .thenReturn(new PasswordResponse());
+
+        // Act
+        controller.validate(request);
+
+        // Assert
+        verifyNoInteractions(passwordHistoryChecker);
+    }
+
+    @Test
+    void validate_HistoryBudgetExceeded_ShouldReturnServiceUnavailable() {
+        // Arrange
+        ValidateRequest request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+        request.setPreviousPasswordHashes(List.of("$argon2id$old"));
+
+        when(passwordValidator.check("SecurePass123!")).thenReturn(PasswordRules.PASSWORD_IS_VALID);
+        when(passwordHistoryChecker.isReused(any(), any()))
+                .thenThrow(new HashingUnavailableException("Password history check timed out", null));
+
+        // Act
+        HttpResponse<PasswordResponse> response = controller.validate(request);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatus());
+        assertEquals(PasswordResponseStatus.ERROR, response.getBody().get().getStatus());
+        assertTrue(response.getHeaders().contains("Retry-After"));
     }
 }
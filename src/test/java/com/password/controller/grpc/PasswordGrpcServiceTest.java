@@ -0,0 +1,171 @@
+package com.password.controller.grpc;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.password.controller.AiPasswordApiImpl;
+import com.password.core.audit.AuditLog;
+import com.password.core.stats.LatencyStats;
+import com.password.core.stats.StatsConfiguration;
+import com.password.domain.expression.PasswordValidator;
+import com.password.grpc.PasswordReply;
+import com.password.grpc.ReplyStatus;
+import com.password.grpc.ValidatePasswordRequest;
+import com.password.grpc.Validator;
+import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
+import com.password.model.ValidateRequest;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordGrpcServiceTest {
+
+    @Mock
+    private AiPasswordApiImpl aiPasswordApi;
+
+    @Mock
+    private AuditLog auditLog;
+
+    @Mock
+    private StreamObserver<PasswordReply> responseObserver;
+
+    private PasswordGrpcService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PasswordGrpcService(new PasswordValidator(), aiPasswordApi, auditLog,
+                new LatencyStats(new StatsConfiguration()), Executors.newCachedThreadPool());
+    }
+
+    @Test
+    void validate_Regex_ShouldReplyWithRuleOutcome() {
+        // Arrange
+        var request = ValidatePasswordRequest.newBuilder().setId(7).setPassword("weak").build();
+        var reply = ArgumentCaptor.forClass(PasswordReply.class);
+
+        // Act
+        service.validate(request, responseObserver);
+
+        // Assert
+        verify(responseObserver).onNext(reply.capture());
+        verify(responseObserver).onCompleted();
+        assertEquals(7, reply.getValue().getId());
+        assertEquals(ReplyStatus.INVALID, reply.getValue().getStatus());
+        assertEquals("AT_LEAST_8_CHARACTERS", reply.getValue().getRule());
+        assertEquals("", reply.getValue().getPassword());
+
+        verifyNoInteractions(aiPasswordApi);
+    }
+
+    @Test
+    void validate_AiBusy_ShouldFailWithUnavailable() {
+        // Arrange
+        var request = ValidatePasswordRequest.newBuilder()
+                .setPassword("SecurePass123!")
+                .setValidator(Validator.AI)
+                .build();
+        var busy = new PasswordResponse();
+        busy.setStatus(PasswordResponseStatus.ERROR);
+        busy.setMessage("busy");
+        when(aiPasswordApi.validate(any(ValidateRequest.class)))
+                .thenReturn(HttpResponse.<PasswordResponse>status(HttpStatus.SERVICE_UNAVAILABLE).body(busy));
+        var error = ArgumentCaptor.forClass(Throwable.class);
+
+        // Act
+        service.validate(request, responseObserver);
+
+        // Assert
+        verify(responseObserver).onError(error.capture());
+        verify(responseObserver, never()).onNext(any());
+        assertEquals(Status.Code.UNAVAILABLE, ((StatusRuntimeException) error.getValue()).getStatus().getCode());
+    }
+
+    @Test
+    void validateStream_ShouldReplyToEveryRequestThenComplete() throws InterruptedException {
+        // Arrange
+        var aiResponse = new PasswordResponse();
+        aiResponse.setStatus(PasswordResponseStatus.VALID);
+        aiResponse.setMessage("Awesome password, bro!");
+        aiResponse.setPassword("SecurePass123!");
+        when(aiPasswordApi.validate(any(ValidateRequest.class))).thenReturn(HttpResponse.ok(aiResponse));
+        var replies = new CollectingObserver();
+
+        // Act
+        var requests = service.validateStream(replies);
+        requests.onNext(ValidatePasswordRequest.newBuilder().setId(1).setPassword("SecurePass123!").build());
+        requests.onNext(ValidatePasswordRequest.newBuilder()
+                .setId(2)
+                .setPassword("SecurePass123!")
+                .setValidator(Validator.AI)
+                .setEcho(true)
+                .build());
+        requests.onNext(ValidatePasswordRequest.newBuilder().setId(3).setPassword("short").build());
+        requests.onCompleted();
+
+        // Assert
+        assertTrue(replies.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(3, replies.values.size());
+        var ai = replies.values.stream().filter(reply -> reply.getId() == 2).findFirst().orElseThrow();
+        assertEquals(ReplyStatus.VALID, ai.getStatus());
+        assertEquals("SecurePass123!", ai.getPassword());
+        assertEquals(0, ai.getCode());
+    }
+
+    @Test
+    void validateStream_AiError_ShouldReplyWithCodeAndCarryOn() throws InterruptedException {
+        // Arrange
+        when(aiPasswordApi.validate(any(ValidateRequest.class))).thenThrow(new RuntimeException("boom"));
+        var replies = new CollectingObserver();
+
+        // Act
+        var requests = service.validateStream(replies);
+        requests.onNext(ValidatePasswordRequest.newBuilder().setId(1).setValidator(Validator.AI).build());
+        requests.onNext(ValidatePasswordRequest.newBuilder().setId(2).setPassword("SecurePass123!").build());
+        requests.onCompleted();
+
+        // Assert
+        assertTrue(replies.completed.await(5, TimeUnit.SECONDS));
+        var failed = replies.values.stream().filter(reply -> reply.getId() == 1).findFirst().orElseThrow();
+        assertEquals(ReplyStatus.ERROR, failed.getStatus());
+        assertEquals(Status.Code.INTERNAL.value(), failed.getCode());
+        assertEquals(2, replies.values.size());
+    }
+
+    private static final class CollectingObserver implements StreamObserver<PasswordReply> {
+
+        private final List<PasswordReply> values = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onNext(PasswordReply value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        @Override
+        public void onCompleted() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.password.core;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordJsonDecoderTest {
+
+    @Test
+    void decode_PasswordField_ShouldCopyItsChars() {
+        // Arrange
+        var body = json("{\"password\": \"SecurePass123!\"}");
+        var password = new char[128];
+
+        // Act
+        var length = PasswordJsonDecoder.decode(body, password);
+
+        // Assert
+        assertEquals("SecurePass123!", new String(password, 0, length));
+        assertEquals(0, body.readerIndex());
+    }
+
+    @Test
+    void decode_OtherFields_ShouldBeSkipped() {
+        // Arrange
+        var body = json("""
+                { "id": 7, "tags": ["a", {"password": "nested"}], "note": "x\\"y",
+                  "passwordHint": "no", "password": "Abc123!@", "flag": true, "other": null }
+                """);
+        var password = new char[128];
+
+        // Act
+        var length = PasswordJsonDecoder.decode(body, password);
+
+        // Assert
+        assertEquals("Abc123!@", new String(password, 0, length));
+    }
+
+    @Test
+    void decode_PreviousPasswordHashes_ShouldOnlyAcceptNoHistory() {
+        // Arrange
+        var password = new char[128];
+
+        // Act & Assert
+        assertEquals(8, PasswordJsonDecoder.decode(
+                json("{\"previousPasswordHashes\": [ ], \"password\": \"Abc123!@\"}"), password));
+        assertEquals(8, PasswordJsonDecoder.decode(
+                json("{\"password\": \"Abc123!@\", \"previousPasswordHashes\": null}"), password));
+        var exception = assertThrows(IllegalArgumentException.class, () -> PasswordJsonDecoder.decode(
+                json("{\"password\": \"Abc123!@\", \"previousPasswordHashes\": [\"$2y$04$x\"]}"), password));
+        assertTrue(exception.getMessage().contains("/validate"));
+    }
+
+    @Test
+    void decode_EscapesAndUtf8_ShouldMatchTheStringTheMapperWouldBuild() {
+        // Arrange
+        var expected = "p\"\\/\n\u00e9\u20ac\uD83D\uDE00A1!";
+        var body = json("{\"password\":\"p\\\"\\\\\\/\\n\u00e9\\u20AC\uD83D\uDE00A1!\"}");
+        var password = new char[128];
+
+        // Act
+        var length = PasswordJsonDecoder.decode(body, password);
+
+        // Assert
+        assertEquals(expected, new String(password, 0, length));
+    }
+
+    @Test
+    void decode_MissingOrNullPassword_ShouldReturnMissing() {
+        var password = new char[128];
+
+        assertEquals(PasswordJsonDecoder.MISSING, PasswordJsonDecoder.decode(json("{}"), password));
+        assertEquals(PasswordJsonDecoder.MISSING, PasswordJsonDecoder.decode(json("{\"pass\":\"x\"}"), password));
+        assertEquals(PasswordJsonDecoder.MISSING, PasswordJsonDecoder.decode(json("{\"password\":null}"), password));
+    }
+
+    @Test
+    void decode_PasswordLongerThanBuffer_ShouldCountEveryChar() {
+        // Arrange
+        var body = json("{\"password\":\"" + "a".repeat(300) + "\"}");
+        var password = new char[128];
+
+        // Act
+        var length = PasswordJsonDecoder.decode(body, password);
+
+        // Assert
+        assertEquals(300, length);
+    }
+
+    @Test
+    void decode_MalformedBody_ShouldThrow() {
+        var password = new char[128];
+
+        for (var body : new String[] { "", "[]", "{\"password\":\"abc}", "{\"password\":12}",
+                "{\"password\":\"a\"} x", "{\"password\":\"\\x\"}", "{\"password\" \"a\"}", "{\"a\":}" }) {
+            assertThrows(IllegalArgumentException.class, () -> PasswordJsonDecoder.decode(json(body), password),
+                    body);
+        }
+    }
+
+    @Test
+    void decode_InvalidUtf8_ShouldThrow() {
+        var password = new char[128];
+
+        // Overlong '/', lone continuation byte and an encoded surrogate
+        for (var bytes : new byte[][] { { (byte) 0xC0, (byte) 0xAF }, { (byte) 0x80 },
+                { (byte) 0xED, (byte) 0xA0, (byte) 0x80 } }) {
+            var body = Unpooled.buffer();
+            body.writeCharSequence("{\"password\":\"", StandardCharsets.US_ASCII);
+            body.writeBytes(bytes);
+            body.writeCharSequence("\"}", StandardCharsets.US_ASCII);
+
+            assertThrows(IllegalArgumentException.class, () -> PasswordJsonDecoder.decode(body, password));
+        }
+    }
+
+    private static ByteBuf json(String body) {
+        return Unpooled.copiedBuffer(body, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,131 @@
+package com.password.core.audit;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import com.password.domain.expression.PasswordRules;
+import com.password.model.PasswordResponseStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    private AuditConfiguration configuration;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLog auditLog;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new AuditConfiguration();
+        configuration.setPath(directory.toString());
+        configuration.setFileSizeMb(1);
+        meterRegistry = new SimpleMeterRegistry();
+        auditLog = new AuditLog(configuration, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLog.close();
+    }
+
+    @Test
+    void publish_ShouldBeReadBackFromTheAuditFile() {
+        // Act
+        auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, PasswordResponseStatus.INVALID,
+                PasswordRules.AT_LEAST_8_CHARACTERS, 200, 42_000);
+        auditLog.publish(AuditOperation.GENERATE, AuditPath.AI, null, null, 503, 1_500_000);
+        auditLog.flush();
+
+        // Assert
+        var events = AuditFileWriter.read(auditLog.getCurrentFile());
+        assertEquals(2, events.size());
+
+        var validate = events.get(0);
+        assertEquals(0, validate.sequence());
+        assertEquals(AuditOperation.VALIDATE, validate.operation());
+        assertEquals(AuditPath.REGEX, validate.path());
+        assertEquals(PasswordResponseStatus.INVALID, validate.status());
+        assertEquals(PasswordRules.AT_LEAST_8_CHARACTERS, validate.rule());
+        assertEquals(200, validate.httpStatus());
+        assertEquals(42, validate.latencyMicros());
+        assertTrue(validate.timestampMillis() > 0);
+
+        var generate = events.get(1);
+        assertEquals(AuditOperation.GENERATE, generate.operation());
+        assertNull(generate.status());
+        assertNull(generate.rule());
+        assertEquals(503, generate.httpStatus());
+        assertEquals(1_500, generate.latencyMicros());
+    }
+
+    @Test
+    void flush_ShouldCountWrittenEvents() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            auditLog.publish(AuditOperation.VALIDATE, AuditPath.AI_CACHE, PasswordResponseStatus.VALID, null, 200, 0);
+        }
+        auditLog.flush();
+
+        // Assert
+        assertEquals(10.0, meterRegistry.get("password.audit.written").counter().count());
+        assertEquals(0.0, meterRegistry.get("password.audit.backlog").gauge().value());
+    }
+
+    @Test
+    void publish_ShouldNotStoreThePassword() throws Exception {
+        // Act
+        auditLog.publish(AuditOperation.VALIDATE, AuditPath.LOCAL_FALLBACK, PasswordResponseStatus.VALID,
+                PasswordRules.PASSWORD_IS_VALID, 200, 1_000);
+        auditLog.flush();
+
+        // Assert: records are fixed-size binary words, there is no room for any text
+        var bytes = Files.readAllBytes(auditLog.getCurrentFile());
+        assertEquals(1, AuditFileWriter.read(auditLog.getCurrentFile()).size());
+        assertFalse(new String(bytes).contains("Password"));
+    }
+
+    @Test
+    void publish_IdleWriter_ShouldBeWokenUp() throws Exception {
+        // Arrange: long enough for the writer to stop polling and wait to be woken up
+        auditLog.close();
+        configuration.setFlushInterval(Duration.ofSeconds(30));
+        auditLog = new AuditLog(configuration, meterRegistry);
+        Thread.sleep(300);
+
+        // Act
+        auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, PasswordResponseStatus.VALID,
+                PasswordRules.PASSWORD_IS_VALID, 200, 1_000);
+        var deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (meterRegistry.get("password.audit.written").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("password.audit.written").counter().count());
+    }
+
+    @Test
+    void publish_Disabled_ShouldNotWriteAnything() {
+        // Arrange
+        auditLog.close();
+        configuration.setEnabled(false);
+        auditLog = new AuditLog(configuration, new SimpleMeterRegistry());
+
+        // Act
+        var accepted = auditLog.publish(AuditOperation.VALIDATE, AuditPath.REGEX, PasswordResponseStatus.VALID,
+                PasswordRules.PASSWORD_IS_VALID, 200, 1_000);
+
+        // Assert
+        assertFalse(accepted);
+        assertTrue(AuditFileWriter.list(directory).isEmpty());
+    }
+}
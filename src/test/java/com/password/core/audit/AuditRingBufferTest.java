@@ -0,0 +1,135 @@
+package com.password.core.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRingBufferTest {
+
+    @Test
+    void capacity_ShouldRoundUpToPowerOfTwo() {
+        assertEquals(8, new AuditRingBuffer(5).capacity());
+        assertEquals(16_384, new AuditRingBuffer(16_384).capacity());
+    }
+
+    @Test
+    void drain_ShouldHandOverEventsInPublishOrder() {
+        // Arrange
+        var ring = new AuditRingBuffer(8);
+        var drained = new ArrayList<long[]>();
+
+        // Act
+        ring.tryPublish(1_000, 10);
+        ring.tryPublish(1_001, 11);
+        ring.tryPublish(1_002, 12);
+        var count = ring.drain((sequence, timestamp, event) -> drained.add(new long[] { sequence, timestamp, event }),
+                Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(3, count);
+        assertArrayEquals(new long[] { 0, 1_000, 10 }, drained.get(0));
+        assertArrayEquals(new long[] { 2, 1_002, 12 }, drained.get(2));
+        assertEquals(0, ring.backlog());
+    }
+
+    @Test
+    void drain_ShouldStopAtMax() {
+        // Arrange
+        var ring = new AuditRingBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            ring.tryPublish(1_000 + i, i);
+        }
+
+        // Act
+        var count = ring.drain((sequence, timestamp, event) -> { }, 2);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(3, ring.backlog());
+    }
+
+    @Test
+    void drain_FailingConsumer_ShouldResumeAtTheFailedEvent() {
+        // Arrange
+        var ring = new AuditRingBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            ring.tryPublish(1_000 + i, i);
+        }
+        var written = new ArrayList<Long>();
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> ring.drain((sequence, timestamp, event) -> {
+            if (event == 2) {
+                throw new IllegalStateException("disk full");
+            }
+            written.add(event);
+        }, Integer.MAX_VALUE));
+        ring.drain((sequence, timestamp, event) -> written.add(event), Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), written);
+        assertEquals(0, ring.backlog());
+    }
+
+    @Test
+    void tryPublish_FullRing_ShouldDropNewest() {
+        // Arrange
+        var ring = new AuditRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.tryPublish(1_000 + i, i));
+        }
+
+        // Act
+        var accepted = ring.tryPublish(2_000, 99);
+
+        // Assert
+        assertFalse(accepted);
+        assertEquals(1, ring.dropped());
+        var events = new ArrayList<Long>();
+        ring.drain((sequence, timestamp, event) -> events.add(event), Integer.MAX_VALUE);
+        assertEquals(List.of(0L, 1L, 2L, 3L), events);
+        assertTrue(ring.tryPublish(3_000, 100));
+    }
+
+    @Test
+    void tryPublish_ConcurrentProducers_ShouldNotLoseOrDuplicateEvents() throws InterruptedException {
+        // Arrange
+        var ring = new AuditRingBuffer(1 << 16);
+        var producers = 4;
+        var perProducer = 10_000;
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            var producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    ring.tryPublish(1, (long) producer * perProducer + i);
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+        var seen = new boolean[producers * perProducer];
+        var count = ring.drain((sequence, timestamp, event) -> seen[(int) event] = true, Integer.MAX_VALUE);
+
+        // Assert
+        assertEquals(producers * perProducer, count);
+        for (var flag : seen) {
+            assertTrue(flag);
+        }
+        assertEquals(0, ring.dropped());
+    }
+}
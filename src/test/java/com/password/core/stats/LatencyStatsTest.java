@@ -0,0 +1,78 @@
+package com.password.core.stats;
+
+import com.password.core.HttpResponseUtils;
+import com.password.core.HttpResponseUtils.ParseStatus;
+import com.password.domain.expression.PasswordRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyStatsTest {
+
+    @Test
+    void report_ShouldGroupByEndpointRuleAndParseStatus() {
+        // Arrange
+        var latencyStats = new LatencyStats(new StatsConfiguration());
+
+        // Act
+        latencyStats.recordEndpoint("/validate", 2_000_000);
+        latencyStats.recordEndpoint("/ai/validate", 900_000_000);
+        latencyStats.recordRule(PasswordRules.AT_LEAST_8_CHARACTERS, 50_000);
+        latencyStats.recordAiParse(ParseStatus.MISSING_MESSAGE, 800_000_000);
+        latencyStats.recordGenerateAttempts(2);
+        var report = latencyStats.report(false);
+
+        // Assert
+        assertEquals(2_000, report.endpoints().get("/validate").total().max(), 20);
+        assertEquals(900_000, report.endpoints().get("/ai/validate").total().max(), 9_000);
+        assertEquals(1, report.rules().get("AT_LEAST_8_CHARACTERS").total().count());
+        assertEquals(0, report.rules().get("PASSWORD_IS_VALID").total().count());
+        assertEquals(1, report.aiParse().get("MISSING_MESSAGE").total().count());
+        assertEquals(2, report.generateAttempts().total().max());
+    }
+
+    @Test
+    void report_Reset_ShouldMoveIntervalStart() throws InterruptedException {
+        // Arrange
+        var latencyStats = new LatencyStats(new StatsConfiguration());
+        latencyStats.recordRule(PasswordRules.PASSWORD_IS_VALID, 10_000);
+
+        // Act
+        var first = latencyStats.report(true);
+        Thread.sleep(5);
+        var second = latencyStats.report(false);
+
+        // Assert
+        assertEquals(1, first.rules().get("PASSWORD_IS_VALID").interval().count());
+        assertEquals(0, second.rules().get("PASSWORD_IS_VALID").interval().count());
+        assertEquals(1, second.rules().get("PASSWORD_IS_VALID").total().count());
+        assertEquals(first.takenMillis(), second.intervalStartMillis());
+    }
+
+    @Test
+    void record_Disabled_ShouldRecordNothing() {
+        // Arrange
+        var configuration = new StatsConfiguration();
+        configuration.setEnabled(false);
+        var latencyStats = new LatencyStats(configuration);
+
+        // Act
+        latencyStats.recordEndpoint("/validate", 2_000_000);
+        latencyStats.recordRule(PasswordRules.PASSWORD_IS_VALID, 10_000);
+
+        // Assert
+        var report = latencyStats.report(false);
+        assertTrue(report.endpoints().isEmpty());
+        assertEquals(0, report.rules().get("PASSWORD_IS_VALID").total().count());
+    }
+
+    @Test
+    void parseStatusOf_ShouldMatchHowAnswersAreParsed() {
+        assertEquals(ParseStatus.VALID, HttpResponseUtils.parseStatusOf("valid;Awesome password, bro!"));
+        assertEquals(ParseStatus.INVALID, HttpResponseUtils.parseStatusOf("Invalid;Too short"));
+        assertEquals(ParseStatus.UNKNOWN_STATUS, HttpResponseUtils.parseStatusOf("maybe;Hard to say"));
+        assertEquals(ParseStatus.MISSING_MESSAGE, HttpResponseUtils.parseStatusOf("valid"));
+        assertEquals(ParseStatus.EMPTY, HttpResponseUtils.parseStatusOf("  "));
+        assertEquals(ParseStatus.EMPTY, HttpResponseUtils.parseStatusOf(null));
+    }
+}
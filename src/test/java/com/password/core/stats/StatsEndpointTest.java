@@ -0,0 +1,45 @@
+package com.password.core.stats;
+
+import com.password.domain.expression.PasswordRules;
+import io.micronaut.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsEndpointTest {
+
+    @Test
+    void reset_Disabled_ShouldBeForbiddenAndKeepTheInterval() {
+        // Arrange
+        var configuration = new StatsConfiguration();
+        var latencyStats = new LatencyStats(configuration);
+        latencyStats.recordRule(PasswordRules.PASSWORD_IS_VALID, 10_000);
+        var endpoint = new StatsEndpoint(latencyStats, configuration);
+
+        // Act
+        var response = endpoint.reset();
+
+        // Assert
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatus());
+        assertEquals(1, endpoint.read().rules().get("PASSWORD_IS_VALID").interval().count());
+    }
+
+    @Test
+    void reset_Enabled_ShouldStartANewInterval() {
+        // Arrange
+        var configuration = new StatsConfiguration();
+        configuration.setResetEnabled(true);
+        var latencyStats = new LatencyStats(configuration);
+        latencyStats.recordRule(PasswordRules.PASSWORD_IS_VALID, 10_000);
+        var endpoint = new StatsEndpoint(latencyStats, configuration);
+
+        // Act
+        var response = endpoint.reset();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(1, response.body().rules().get("PASSWORD_IS_VALID").interval().count());
+        assertEquals(0, endpoint.read().rules().get("PASSWORD_IS_VALID").interval().count());
+        assertEquals(1, endpoint.read().rules().get("PASSWORD_IS_VALID").total().count());
+    }
+}
@@ -0,0 +1,93 @@
+package com.password.core.stats;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedRecorderTest {
+
+    @Test
+    void snapshot_ShouldReportPercentiles() {
+        // Arrange
+        var recorder = new StripedRecorder(4, 3);
+        for (int value = 1; value <= 1_000; value++) {
+            recorder.record(value);
+        }
+
+        // Act
+        var snapshot = recorder.snapshot(false).interval();
+
+        // Assert
+        assertEquals(1_000, snapshot.count());
+        assertEquals(1, snapshot.min());
+        assertEquals(1_000, snapshot.max());
+        assertEquals(500.5, snapshot.mean(), 1.0);
+        assertEquals(500, snapshot.p50(), 1);
+        assertEquals(990, snapshot.p99(), 1);
+    }
+
+    @Test
+    void snapshot_Reset_ShouldStartNewIntervalAndKeepTotal() {
+        // Arrange
+        var recorder = new StripedRecorder(4, 3);
+        recorder.record(10);
+        recorder.record(20);
+
+        // Act
+        var first = recorder.snapshot(true);
+        recorder.record(30);
+        var second = recorder.snapshot(false);
+
+        // Assert
+        assertEquals(2, first.interval().count());
+        assertEquals(1, second.interval().count());
+        assertEquals(30, second.interval().min());
+        assertEquals(3, second.total().count());
+        assertEquals(10, second.total().min());
+    }
+
+    @Test
+    void snapshot_WithoutReset_ShouldKeepAccumulatingInterval() {
+        // Arrange
+        var recorder = new StripedRecorder(4, 3);
+        recorder.record(10);
+
+        // Act
+        recorder.snapshot(false);
+        recorder.record(20);
+        var snapshot = recorder.snapshot(false);
+
+        // Assert
+        assertEquals(2, snapshot.interval().count());
+        assertEquals(2, snapshot.total().count());
+    }
+
+    @Test
+    void record_ConcurrentThreads_ShouldCountEveryValue() throws InterruptedException {
+        // Arrange
+        var recorder = new StripedRecorder(4, 2);
+        var threads = new ArrayList<Thread>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    recorder.record(i);
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertEquals(80_000, recorder.snapshot(false).total().count());
+    }
+
+    @Test
+    void snapshot_Empty_ShouldReportZeros() {
+        assertEquals(0, new StripedRecorder(1, 2).snapshot(false).total().count());
+    }
+}
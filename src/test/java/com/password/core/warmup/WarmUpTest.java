@@ -0,0 +1,126 @@
+package com.password.core.warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import com.password.domain.expression.PasswordResponseTemplates;
+import com.password.domain.expression.PasswordValidator;
+import com.password.model.ValidateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.core.type.Argument;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpTest {
+
+    @Mock
+    private PasswordResponseTemplates templates;
+
+    @Mock
+    private JsonMapper jsonMapper;
+
+    @Mock
+    private ExecutorService executor;
+
+    private WarmUpConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new WarmUpConfiguration();
+        configuration.setIterations(100);
+        configuration.setPreconnect(false);
+    }
+
+    @Test
+    void isReady_BeforeWarmUp_ShouldKeepReadinessDown() {
+        // Arrange
+        var warmUp = warmUp();
+
+        // Act
+        var result = new WarmUpHealthIndicator(warmUp).result();
+
+        // Assert
+        assertFalse(warmUp.isReady());
+        assertEquals(HealthStatus.DOWN, result.getStatus());
+        assertEquals("warming-up", ((Map<?, ?>) result.getDetails()).get("state"));
+    }
+
+    @Test
+    void run_ShouldExerciseSerializationAndOpenReadiness() throws Exception {
+        // Arrange
+        var request = new ValidateRequest();
+        request.setPassword("SecurePass123!");
+        when(jsonMapper.writeValueAsBytes(any(Argument.class), any())).thenReturn(new byte[0]);
+        when(jsonMapper.readValue(any(byte[].class), any(Argument.class))).thenReturn(request);
+        var warmUp = warmUp();
+
+        // Act
+        warmUp.run();
+        var result = new WarmUpHealthIndicator(warmUp).result();
+
+        // Assert
+        assertTrue(warmUp.isDone());
+        assertTrue(warmUp.getDurationMillis() >= 0);
+        assertEquals(HealthStatus.UP, result.getStatus());
+        verify(jsonMapper, times(100)).readValue(any(byte[].class), any(Argument.class));
+        verify(jsonMapper, times(200)).writeValueAsBytes(any(Argument.class), any());
+    }
+
+    @Test
+    void run_Failing_ShouldStillOpenReadiness() throws Exception {
+        // Arrange
+        when(jsonMapper.writeValueAsBytes(any(Argument.class), any())).thenThrow(new RuntimeException("boom"));
+        var warmUp = warmUp();
+
+        // Act
+        warmUp.run();
+
+        // Assert
+        assertTrue(warmUp.isReady());
+    }
+
+    @Test
+    void isReady_TimeLimitPassed_ShouldOpenReadiness() {
+        // Arrange
+        configuration.setTimeLimit(Duration.ZERO);
+        var warmUp = warmUp();
+
+        // Act
+        var result = new WarmUpHealthIndicator(warmUp).result();
+
+        // Assert
+        assertTrue(warmUp.isReady());
+        assertFalse(warmUp.isDone());
+        assertEquals(HealthStatus.UP, result.getStatus());
+        assertEquals("timed-out", ((Map<?, ?>) result.getDetails()).get("state"));
+    }
+
+    @Test
+    void isReady_Disabled_ShouldBeReadyRightAway() {
+        // Arrange
+        configuration.setEnabled(false);
+
+        // Act
+        var warmUp = warmUp();
+
+        // Assert
+        assertTrue(warmUp.isReady());
+    }
+
+    private WarmUp warmUp() {
+        return new WarmUp(configuration, new PasswordValidator(), templates, jsonMapper, List.of(), executor,
+                new SimpleMeterRegistry());
+    }
+}
@@ -1,8 +1,19 @@
 package com.password.domain.ai.creator;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import com.password.core.stats.LatencyStats;
+import com.password.core.stats.StatsConfiguration;
+import com.password.domain.ai.deadline.Deadline;
+import com.password.domain.ai.deadline.DeadlineCalls;
+import com.password.domain.ai.deadline.DeadlineExceededException;
+import com.password.domain.ai.quota.QuotaConfiguration;
+import com.password.domain.ai.quota.QuotaScheduler;
 import com.password.domain.ai.validator.AIPasswordValidator;
 import com.password.model.PasswordResponse;
 import com.password.model.PasswordResponseStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,11 +33,16 @@ class AIPasswordCreatorDecoratorTest {
     @Mock
     private AIPasswordValidator aiPasswordValidator;
 
+    private LatencyStats latencyStats;
+
     private AIPasswordCreatorDecorator decorator;
 
     @BeforeEach
     void setUp() {
-        decorator = new AIPasswordCreatorDecorator(aiPasswordCreator, aiPasswordValidator);
+        latencyStats = new LatencyStats(new StatsConfiguration());
+        decorator = new AIPasswordCreatorDecorator(aiPasswordCreator, aiPasswordValidator,
+                new DeadlineCalls(Executors.newCachedThreadPool(), new SimpleMeterRegistry()),
+                new QuotaScheduler(new QuotaConfiguration(), new SimpleMeterRegistry()), latencyStats);
     }
 
     @Test
@@ -107,6 +123,11 @@ class AIPasswordCreatorDecoratorTest {
 
         verify(aiPasswordCreator, times(3)).generate(anyString());
         verify(aiPasswordValidator, times(3)).validate(anyString());
+
+        var report = latencyStats.report(false);
+        assertEquals(3, report.generateAttempts().total().max());
+        assertEquals(2, report.aiParse().get("INVALID").total().count());
+        assertEquals(1, report.aiParse().get("VALID").total().count());
     }
 
     @Test
@@ -140,4 +161,24 @@ class AIPasswordCreatorDecoratorTest {
         verify(aiPasswordCreator, times(1)).generate(anyString());
         verify(aiPasswordValidator, never()).validate(anyString());
     }
+
+    @Test
+    void generateAndValidatePassword_DeadlineCancelled_ShouldStopRetrying() {
+        // Arrange
+        var deadline = Deadline.after(Duration.ofSeconds(10));
+
+        when(aiPasswordCreator.generate(anyString())).thenReturn("WeakPass");
+        when(aiPasswordValidator.validate("WeakPass")).thenAnswer(invocation -> {
+            deadline.cancel();
+            return "invalid;Password too weak, my friend!";
+        });
+
+        // Act
+        var exception = assertThrows(DeadlineExceededException.class,
+                () -> decorator.generateAndValidatePassword(deadline));
+
+        // Assert
+        assertTrue(exception.isCancelled());
+        verify(aiPasswordCreator, times(1)).generate(anyString());
+    }
 }
@@ -0,0 +1,114 @@
+package com.password.domain.ai.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineCallsTest {
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private DeadlineCalls deadlineCalls;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        meterRegistry = new SimpleMeterRegistry();
+        deadlineCalls = new DeadlineCalls(executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void call_NoDeadline_ShouldRunOnCallerThread() {
+        // Arrange
+        var caller = Thread.currentThread();
+
+        // Act
+        var result = deadlineCalls.call(Deadline.none(), () -> Thread.currentThread() == caller);
+
+        // Assert
+        assertTrue(result);
+    }
+
+    @Test
+    void call_AnswerInTime_ShouldReturnResult() {
+        // Act
+        var result = deadlineCalls.call(Deadline.after(Duration.ofSeconds(5)), () -> "valid;Nice");
+
+        // Assert
+        assertEquals("valid;Nice", result);
+    }
+
+    @Test
+    void call_DeadlinePasses_ShouldInterruptTheCall() throws InterruptedException {
+        // Arrange
+        var interrupted = new CountDownLatch(1);
+
+        // Act
+        var exception = assertThrows(DeadlineExceededException.class,
+                () -> deadlineCalls.call(Deadline.after(Duration.ofMillis(50)), () -> sleep(interrupted)));
+
+        // Assert
+        assertFalse(exception.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("password.ai.deadline.aborted").tag("reason", "deadline")
+                .counter().count());
+    }
+
+    @Test
+    void call_DeadlineCancelled_ShouldInterruptTheCall() throws InterruptedException {
+        // Arrange
+        var interrupted = new CountDownLatch(1);
+        var deadline = Deadline.after(Duration.ofSeconds(30));
+        executor.submit(() -> {
+            Thread.sleep(50);
+            deadline.cancel();
+            return null;
+        });
+
+        // Act
+        var exception = assertThrows(DeadlineExceededException.class,
+                () -> deadlineCalls.call(deadline, () -> sleep(interrupted)));
+
+        // Assert
+        assertTrue(exception.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("password.ai.deadline.aborted").tag("reason", "disconnect")
+                .counter().count());
+    }
+
+    @Test
+    void call_AlreadyExpired_ShouldNotStartTheCall() {
+        // Arrange
+        var deadline = Deadline.after(Duration.ofSeconds(30));
+        deadline.cancel();
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class,
+                () -> deadlineCalls.call(deadline, () -> fail("should not run")));
+        assertEquals(1.0, meterRegistry.get("password.ai.deadline.skipped").counter().count());
+    }
+
+    private static String sleep(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(30_000);
+            return "valid;Too late";
+        } catch (InterruptedException exception) {
+            interrupted.countDown();
+            throw new RuntimeException(exception);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.password.domain.ai.limit;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ConcurrencyLimitConfiguration configuration;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new ConcurrencyLimitConfiguration();
+        configuration.setInitialLimit(10);
+        configuration.setMinLimit(2);
+        configuration.setMaxLimit(50);
+        limiter = new AdaptiveConcurrencyLimiter("validate", configuration, clock::get);
+    }
+
+    @Test
+    void tryAcquire_LimitReached_ShouldRejectUntilReleased() {
+        // Arrange
+        var permits = new ArrayList<AdaptiveConcurrencyLimiter.Permit>();
+        for (int i = 0; i < 10; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+
+        // Act
+        var rejected = limiter.tryAcquire();
+        permits.get(0).ignore();
+        var afterRelease = limiter.tryAcquire();
+
+        // Assert
+        assertTrue(rejected.isEmpty());
+        assertTrue(afterRelease.isPresent());
+        assertEquals(10, limiter.getInFlight());
+    }
+
+    @Test
+    void tryAcquire_Disabled_ShouldNeverReject() {
+        // Arrange
+        configuration.setEnabled(false);
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire().isPresent());
+        }
+    }
+
+    @Test
+    void release_HealthyLatencyAtFullLoad_ShouldGrowLimit() {
+        // Act
+        for (int round = 0; round < 20; round++) {
+            runRound(limiter.getLimit(), 100);
+        }
+
+        // Assert
+        assertTrue(limiter.getLimit() > 10, "limit=" + limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void release_LatencyDoubledAndMore_ShouldShrinkLimit() {
+        // Arrange
+        runRound(10, 100);
+
+        // Act
+        runRound(10, 300);
+
+        // Assert
+        assertTrue(limiter.getLimit() < 10, "limit=" + limiter.getLimit());
+    }
+
+    @Test
+    void release_ManySlowCallsInOneRoundTrip_ShouldBackOffOnce() {
+        // Arrange
+        runRound(10, 100);
+
+        // Act
+        runRound(10, 1_000);
+
+        // Assert
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    void release_Dropped_ShouldNotGoBelowMinimum() {
+        // Act
+        for (int i = 0; i < 100; i++) {
+            var permit = limiter.tryAcquire().orElseThrow();
+            clock.addAndGet(1_000_000);
+            permit.dropped();
+        }
+
+        // Assert
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void release_Twice_ShouldOnlyCountOnce() {
+        // Arrange
+        var permit = limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire().orElseThrow();
+
+        // Act
+        permit.success();
+        permit.dropped();
+
+        // Assert
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(10, limiter.getLimit());
+    }
+
+    /**
+     * Starts the given number of calls together and completes them all after
+     * the given latency
+     */
+    private void runRound(int calls, long latencyMillis) {
+        var permits = new ArrayList<AdaptiveConcurrencyLimiter.Permit>();
+        for (int i = 0; i < calls; i++) {
+            limiter.tryAcquire().ifPresent(permits::add);
+        }
+        clock.addAndGet(latencyMillis * 1_000_000);
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::success);
+    }
+}
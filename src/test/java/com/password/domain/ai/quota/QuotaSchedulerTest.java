@@ -0,0 +1,143 @@
+package com.password.domain.ai.quota;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.password.domain.ai.deadline.Deadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuotaSchedulerTest {
+
+    private QuotaConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new QuotaConfiguration();
+        // 10 requests per second, bursts of 5
+        configuration.setRequestsPerMinute(600);
+        configuration.setTokensPerMinute(600_000);
+        configuration.setBurst(Duration.ofMillis(500));
+        configuration.setMaxWait(Duration.ofMillis(50));
+        configuration.setBackgroundReserve(0.4);
+    }
+
+    @Test
+    void acquire_WithinBurst_ShouldNotWait() {
+        // Arrange
+        var scheduler = new QuotaScheduler(configuration, new SimpleMeterRegistry());
+        var start = System.nanoTime();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            scheduler.acquire(QuotaPriority.VALIDATE, 100, Deadline.none());
+        }
+
+        // Assert
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void acquire_QuotaExhausted_ShouldRefuseAfterMaxWait() {
+        // Arrange
+        var meterRegistry = new SimpleMeterRegistry();
+        var scheduler = new QuotaScheduler(configuration, meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            scheduler.acquire(QuotaPriority.VALIDATE, 100, Deadline.none());
+        }
+        configuration.setMaxWait(Duration.ofMillis(20));
+
+        // Act & Assert
+        // The next request refills in 100 ms, more than the allowed wait
+        assertThrows(QuotaExceededException.class,
+                () -> scheduler.acquire(QuotaPriority.VALIDATE, 100, Deadline.none()));
+        assertEquals(1.0, meterRegistry.get("password.ai.quota.rejected").tag("priority", "validate")
+                .counter().count());
+    }
+
+    @Test
+    void acquire_QuotaRefills_ShouldWaitInsteadOfFailing() {
+        // Arrange
+        var scheduler = new QuotaScheduler(configuration, new SimpleMeterRegistry());
+        for (int i = 0; i < 5; i++) {
+            scheduler.acquire(QuotaPriority.VALIDATE, 100, Deadline.none());
+        }
+        configuration.setMaxWait(Duration.ofSeconds(1));
+        var start = System.nanoTime();
+
+        // Act
+        scheduler.acquire(QuotaPriority.VALIDATE, 100, Deadline.none());
+
+        // Assert
+        var waited = System.nanoTime() - start;
+        assertTrue(waited >= TimeUnit.MILLISECONDS.toNanos(50), "waited " + waited + " ns");
+    }
+
+    @Test
+    void acquire_Background_ShouldLeaveReserveForValidate() {
+        // Arrange
+        var scheduler = new QuotaScheduler(configuration, new SimpleMeterRegistry());
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            scheduler.acquire(QuotaPriority.BACKGROUND, 100, Deadline.none());
+        }
+
+        // Assert
+        assertThrows(QuotaExceededException.class,
+                () -> scheduler.acquire(QuotaPriority.BACKGROUND, 100, Deadline.none()));
+        assertDoesNotThrow(() -> scheduler.acquire(QuotaPriority.VALIDATE, 100, Deadline.none()));
+    }
+
+    @Test
+    void acquire_Waiting_ShouldServeValidateBeforeBackground() throws Exception {
+        // Arrange
+        var scheduler = new QuotaScheduler(configuration, new SimpleMeterRegistry());
+        for (int i = 0; i < 5; i++) {
+            scheduler.acquire(QuotaPriority.VALIDATE, 100, Deadline.none());
+        }
+        configuration.setMaxWait(Duration.ofSeconds(2));
+        configuration.setBackgroundReserve(0.0);
+
+        var background = CompletableFuture.runAsync(
+                () -> scheduler.acquire(QuotaPriority.BACKGROUND, 100, Deadline.none()));
+        while (scheduler.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        scheduler.acquire(QuotaPriority.VALIDATE, 100, Deadline.none());
+
+        // Assert
+        assertFalse(background.isDone());
+        background.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void acquire_Disabled_ShouldNeverWait() {
+        // Arrange
+        configuration.setEnabled(false);
+        var scheduler = new QuotaScheduler(configuration, new SimpleMeterRegistry());
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            scheduler.acquire(QuotaPriority.BACKGROUND, 1_000, Deadline.none());
+        }
+    }
+
+    @Test
+    void estimateTokens_ShouldCountOverheadMessageAndAnswer() {
+        // Arrange
+        var scheduler = new QuotaScheduler(configuration, new SimpleMeterRegistry());
+
+        // Act
+        var estimate = scheduler.estimateTokens("SecurePass123!");
+
+        // Assert
+        assertEquals(160 + 60 + 4, estimate);
+    }
+}
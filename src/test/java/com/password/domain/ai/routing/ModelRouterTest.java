@@ -0,0 +1,182 @@
+package com.password.domain.ai.routing;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.password.domain.ai.quota.QuotaConfiguration;
+import com.password.domain.ai.quota.QuotaScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelRouterTest {
+
+    private ExecutorService executor;
+    private RoutingConfiguration configuration;
+    private QuotaConfiguration quotaConfiguration;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        configuration = new RoutingConfiguration();
+        configuration.setEnabled(true);
+        configuration.setHedgingEnabled(false);
+        configuration.setMinHedgeDelay(Duration.ofMillis(20));
+        quotaConfiguration = new QuotaConfiguration();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void route_ShouldPreferTheFasterBackend() {
+        // Arrange
+        var fastCalls = new AtomicInteger();
+        var slowCalls = new AtomicInteger();
+        var fast = stubBackend("fast", 1, fastCalls, false);
+        var slow = stubBackend("slow", 30, slowCalls, false);
+        var router = new ModelRouter(List.of(fast, slow), configuration, executor, quotaScheduler());
+
+        // Act
+        for (int i = 0; i < 40; i++) {
+            assertEquals("valid;ok",
+                    router.route(backend -> backend.getValidator().validate("SecurePass123!"), "SecurePass123!"));
+        }
+
+        // Assert
+        assertTrue(fastCalls.get() > slowCalls.get() * 3,
+                "fast=" + fastCalls.get() + " slow=" + slowCalls.get());
+        assertTrue(fast.getStats().getLatencyMillis() < slow.getStats().getLatencyMillis());
+    }
+
+    @Test
+    void route_FailingBackend_ShouldFailOverAndBeAvoided() {
+        // Arrange
+        var healthyCalls = new AtomicInteger();
+        var brokenCalls = new AtomicInteger();
+        var healthy = stubBackend("healthy", 1, healthyCalls, false);
+        var broken = stubBackend("broken", 1, brokenCalls, true);
+        var router = new ModelRouter(List.of(healthy, broken), configuration, executor, quotaScheduler());
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            assertEquals("valid;ok",
+                    router.route(backend -> backend.getValidator().validate("SecurePass123!"), "SecurePass123!"));
+        }
+
+        // Assert
+        assertEquals(20, healthyCalls.get());
+        assertTrue(brokenCalls.get() < 10, "broken=" + brokenCalls.get());
+        assertTrue(broken.getStats().getErrorRate() > healthy.getStats().getErrorRate());
+    }
+
+    @Test
+    void route_SingleFailingBackend_ShouldThrow() {
+        // Arrange
+        var broken = stubBackend("broken", 1, new AtomicInteger(), true);
+        var router = new ModelRouter(List.of(broken), configuration, executor, quotaScheduler());
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> router.route(backend -> backend.getValidator().validate("SecurePass123!"),
+                        "SecurePass123!"));
+
+        assertTrue(exception.getMessage().contains("broken is down"));
+    }
+
+    @Test
+    void route_Hedging_ShouldAnswerFromTheSecondBackendWhenThePrimaryStalls() {
+        // Arrange
+        configuration.setHedgingEnabled(true);
+        var stalled = stubBackend("stalled", 2_000, new AtomicInteger(), false);
+        var fast = stubBackend("fast", 1, new AtomicInteger(), false);
+        // Make the stalled backend look best so it is picked as primary
+        fast.getStats().start();
+        fast.getStats().finish(Duration.ofMillis(50).toNanos(), false);
+        var router = new ModelRouter(List.of(stalled, fast), configuration, executor, quotaScheduler());
+
+        // Act
+        var start = System.nanoTime();
+        var result = router.route(backend -> backend.getValidator().validate("SecurePass123!"), "SecurePass123!");
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertEquals("valid;ok", result);
+        assertTrue(elapsed.toMillis() < 1_000, "elapsed=" + elapsed);
+    }
+
+    @Test
+    void route_Hedging_ShouldChargeTheHedgeOrSkipItWithoutQuota() {
+        // Arrange: the burst fits a single request
+        configuration.setHedgingEnabled(true);
+        quotaConfiguration.setRequestsPerMinute(1);
+        var scheduler = new QuotaScheduler(quotaConfiguration, new SimpleMeterRegistry());
+        var stalledCalls = new AtomicInteger();
+        var fastCalls = new AtomicInteger();
+        var stalled = stubBackend("stalled", 300, stalledCalls, false);
+        var fast = stubBackend("fast", 1, fastCalls, false);
+        fast.getStats().start();
+        fast.getStats().finish(Duration.ofMillis(50).toNanos(), false);
+        var router = new ModelRouter(List.of(stalled, fast), configuration, executor, scheduler);
+
+        // Act
+        var hedged = router.route(backend -> backend.getValidator().validate("SecurePass123!"), "SecurePass123!");
+        var requestsAfterHedge = scheduler.getAvailableRequests();
+        var start = System.nanoTime();
+        var unhedged = router.route(backend -> backend.getValidator().validate("SecurePass123!"), "SecurePass123!");
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Assert
+        assertEquals("valid;ok", hedged);
+        assertEquals("valid;ok", unhedged);
+        assertTrue(requestsAfterHedge < 0.1, "requests=" + requestsAfterHedge);
+        assertEquals(1, fastCalls.get());
+        assertEquals(2, stalledCalls.get());
+        assertTrue(elapsed.toMillis() >= 250, "elapsed=" + elapsed);
+    }
+
+    @Test
+    void constructor_NoBackends_ShouldThrow() {
+        assertThrows(IllegalStateException.class,
+                () -> new ModelRouter(List.of(), configuration, executor, quotaScheduler()));
+    }
+
+    private QuotaScheduler quotaScheduler() {
+        return new QuotaScheduler(quotaConfiguration, new SimpleMeterRegistry());
+    }
+
+    private ChatBackend stubBackend(String name, long latencyMillis, AtomicInteger calls, boolean failing) {
+        return new ChatBackend(name,
+                password -> {
+                    calls.incrementAndGet();
+                    sleep(latencyMillis);
+                    if (failing) {
+                        throw new RuntimeException(name + " is down");
+                    }
+                    return "valid;ok";
+                },
+                message -> {
+                    calls.incrementAndGet();
+                    sleep(latencyMillis);
+                    return "SecurePass123!";
+                },
+                new BackendStats(configuration.getDecay()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+    }
+}
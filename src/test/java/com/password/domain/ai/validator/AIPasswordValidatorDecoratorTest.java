@@ -0,0 +1,88 @@
+package com.password.domain.ai.validator;
+
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+import com.password.core.stats.LatencyStats;
+import com.password.core.stats.StatsConfiguration;
+import com.password.domain.ai.deadline.DeadlineCalls;
+import com.password.domain.ai.quota.QuotaConfiguration;
+import com.password.domain.ai.quota.QuotaScheduler;
+import com.password.domain.ai.verdict.VerdictCache;
+import com.password.domain.ai.verdict.VerdictCacheConfiguration;
+import com.password.model.PasswordResponse;
+import com.password.model.PasswordResponseStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AIPasswordValidatorDecoratorTest {
+
+    @Mock
+    private AIPasswordValidator aiPasswordValidator;
+
+    private AIPasswordValidatorDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        var configuration = new VerdictCacheConfiguration();
+        configuration.setKey("test-secret");
+        decorator = new AIPasswordValidatorDecorator(aiPasswordValidator,
+                new VerdictCache(configuration, Optional.empty(), Optional.empty()),
+                new DeadlineCalls(Executors.newCachedThreadPool(), new SimpleMeterRegistry()),
+                new QuotaScheduler(new QuotaConfiguration(), new SimpleMeterRegistry()),
+                new LatencyStats(new StatsConfiguration()));
+    }
+
+    @Test
+    void validatePassword_SamePasswordTwice_ShouldCallAIOnce() {
+        // Arrange
+        when(aiPasswordValidator.validate("SecurePass123!")).thenReturn("valid;Awesome password, bro!");
+
+        // Act
+        PasswordResponse first = decorator.validatePassword("SecurePass123!");
+        PasswordResponse second = decorator.validatePassword("SecurePass123!");
+
+        // Assert
+        assertEquals(PasswordResponseStatus.VALID, second.getStatus());
+        assertEquals(first.getMessage(), second.getMessage());
+        assertEquals("SecurePass123!", second.getPassword());
+
+        verify(aiPasswordValidator, times(1)).validate(anyString());
+    }
+
+    @Test
+    void validatePassword_UnparseableAnswer_ShouldNotBeCached() {
+        // Arrange
+        when(aiPasswordValidator.validate("SecurePass123!")).thenReturn("no separator here");
+
+        // Act
+        decorator.validatePassword("SecurePass123!");
+        PasswordResponse second = decorator.validatePassword("SecurePass123!");
+
+        // Assert
+        assertEquals(PasswordResponseStatus.ERROR, second.getStatus());
+
+        verify(aiPasswordValidator, times(2)).validate("SecurePass123!");
+    }
+
+    @Test
+    void validatePassword_ValidatorThrowsException_ShouldThrow() {
+        // Arrange
+        when(aiPasswordValidator.validate(anyString())).thenThrow(new RuntimeException("AI service unavailable"));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> decorator.validatePassword("SecurePass123!"));
+
+        assertTrue(exception.getMessage().contains("AI service unavailable"));
+    }
+}
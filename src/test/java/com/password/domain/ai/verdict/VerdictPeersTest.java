@@ -0,0 +1,134 @@
+package com.password.domain.ai.verdict;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs several instances' caches in one JVM, each with its own peer port on
+ * the loopback interface
+ */
+class VerdictPeersTest {
+
+    private final Map<VerdictCache, VerdictPeers> instances = new LinkedHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        instances.values().forEach(VerdictPeers::close);
+    }
+
+    @Test
+    void put_ShouldReachEveryPeer() throws InterruptedException {
+        // Arrange
+        var second = cache("test-secret", List.of());
+        var third = cache("test-secret", List.of());
+        var first = cache("test-secret", List.of(address(second), address(third)));
+        var key = first.keyOf("SecurePass123!");
+
+        // Act
+        first.put(key, "valid;Awesome password, bro!");
+
+        // Assert
+        await(() -> second.get(key) != null && third.get(key) != null);
+        assertEquals("valid;Awesome password, bro!", second.get(key));
+        assertEquals("valid;Awesome password, bro!", third.get(key));
+        assertEquals(second.keyOf("SecurePass123!"), key);
+    }
+
+    @Test
+    void put_ManyVerdicts_ShouldBeBatchedIntoDatagrams() throws InterruptedException {
+        // Arrange
+        var second = cache("test-secret", List.of());
+        var first = cache("test-secret", List.of(address(second)));
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            first.put(first.keyOf("SecurePass" + i + "!"), "valid;Awesome password number " + i);
+        }
+
+        // Assert: loopback does not drop at this rate
+        await(() -> second.size() == 500);
+        assertEquals("valid;Awesome password number 42", second.get(second.keyOf("SecurePass42!")));
+    }
+
+    @Test
+    void receive_OtherKey_ShouldRejectTheDatagram() throws InterruptedException {
+        // Arrange
+        var meterRegistry = new SimpleMeterRegistry();
+        var second = cache("test-secret", List.of(), meterRegistry);
+        var first = cache("other-secret", List.of(address(second)));
+        var key = first.keyOf("SecurePass123!");
+
+        // Act
+        first.put(key, "valid;Awesome password, bro!");
+
+        // Assert
+        await(() -> meterRegistry.counter("password.ai.verdict-cache.peers.rejected").count() == 1);
+        assertEquals(0, second.size());
+    }
+
+    @Test
+    void put_PeerDown_ShouldStillCacheLocally() throws InterruptedException {
+        // Arrange
+        var second = cache("test-secret", List.of());
+        var address = address(second);
+        instances.get(second).close();
+        var first = cache("test-secret", List.of(address));
+        var key = first.keyOf("SecurePass123!");
+
+        // Act
+        first.put(key, "valid;Awesome password, bro!");
+        Thread.sleep(200);
+
+        // Assert
+        assertEquals("valid;Awesome password, bro!", first.get(key));
+        assertNull(second.get(key));
+    }
+
+    @Test
+    void peers_WithoutKey_ShouldRefuseToStart() {
+        // Arrange
+        var configuration = new VerdictCacheConfiguration();
+        configuration.getPeers().setEnabled(true);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new VerdictPeers(configuration, new SimpleMeterRegistry()));
+    }
+
+    private VerdictCache cache(String key, List<String> addresses) {
+        return cache(key, addresses, new SimpleMeterRegistry());
+    }
+
+    private VerdictCache cache(String key, List<String> addresses, SimpleMeterRegistry meterRegistry) {
+        var configuration = new VerdictCacheConfiguration();
+        configuration.setKey(key);
+        configuration.getPeers().setEnabled(true);
+        configuration.getPeers().setPort(0);
+        configuration.getPeers().setAddresses(addresses);
+        var peers = new VerdictPeers(configuration, meterRegistry);
+        var cache = new VerdictCache(configuration, Optional.empty(), Optional.of(peers));
+        instances.put(cache, peers);
+        cache.warmUp();
+        return cache;
+    }
+
+    private String address(VerdictCache cache) {
+        return "127.0.0.1:" + instances.get(cache).getPort();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "Timed out waiting for the peers");
+    }
+}
@@ -0,0 +1,201 @@
+package com.password.domain.ai.verdict;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerdictStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private VerdictCacheConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new VerdictCacheConfiguration();
+        configuration.setKey("test-secret");
+        configuration.getStore().setPath(directory.resolve("verdicts.log").toString());
+        configuration.getStore().setCapacityMb(1);
+    }
+
+    @Test
+    void append_ShouldSurviveReopen() {
+        // Arrange
+        var cache = new VerdictCache(configuration, Optional.empty(), Optional.empty());
+        var key = cache.keyOf("SecurePass123!");
+        var store = new VerdictStore(configuration);
+
+        // Act
+        store.append(key, new Verdict("valid;Awesome password, bro!", future()));
+        store.close();
+        var reopened = new VerdictStore(configuration);
+
+        // Assert
+        var live = liveEntries(reopened);
+        assertEquals(1, live.size());
+        assertEquals("valid;Awesome password, bro!", live.get(key).result());
+    }
+
+    @Test
+    void append_SameKeyTwice_ShouldKeepLatestVerdict() {
+        // Arrange
+        var key = new VerdictCache(configuration, Optional.empty(), Optional.empty()).keyOf("SecurePass123!");
+        var store = new VerdictStore(configuration);
+
+        // Act
+        store.append(key, new Verdict("invalid;Meh", future()));
+        store.append(key, new Verdict("valid;Nice", future()));
+        var reopened = new VerdictStore(configuration);
+
+        // Assert
+        assertEquals(1, reopened.size());
+        assertEquals("valid;Nice", liveEntries(reopened).get(key).result());
+    }
+
+    @Test
+    void compact_ShouldDropExpiredAndOverwrittenRecords() throws Exception {
+        // Arrange
+        var cache = new VerdictCache(configuration, Optional.empty(), Optional.empty());
+        var store = new VerdictStore(configuration);
+        var live = cache.keyOf("SecurePass123!");
+        var expired = cache.keyOf("weak");
+        store.append(live, new Verdict("invalid;Meh", future()));
+        store.append(live, new Verdict("valid;Nice", future()));
+        store.append(expired, new Verdict("invalid;Too weak", System.currentTimeMillis() - 1));
+
+        // Act
+        store.compact();
+        var reopened = new VerdictStore(configuration);
+
+        // Assert
+        var entries = liveEntries(reopened);
+        assertEquals(1, reopened.size());
+        assertEquals("valid;Nice", entries.get(live).result());
+        assertFalse(entries.containsKey(expired));
+        assertFalse(Files.exists(directory.resolve("verdicts.log.compact")));
+    }
+
+    @Test
+    void append_FullStore_ShouldSkipUntilCompacted() {
+        // Arrange: rewrites of the same key until the one megabyte log is full
+        var cache = new VerdictCache(configuration, Optional.empty(), Optional.empty());
+        var store = new VerdictStore(configuration);
+        var key = cache.keyOf("SecurePass123!");
+        var result = "valid;" + "x".repeat(1000);
+        var appended = 0;
+        while (store.append(key, new Verdict(result + appended, future()))) {
+            appended++;
+        }
+
+        // Act
+        var skipped = store.append(key, new Verdict(result + "skipped", future()));
+        store.compact();
+        var afterCompaction = store.append(key, new Verdict(result + "compacted", future()));
+
+        // Assert
+        assertTrue(appended > 1);
+        assertFalse(skipped);
+        assertTrue(afterCompaction);
+        assertEquals(result + "compacted", liveEntries(new VerdictStore(configuration)).get(key).result());
+    }
+
+    @Test
+    void warmUp_ShouldLoadPersistedVerdictsIntoMemory() {
+        // Arrange
+        var first = new VerdictCache(configuration, Optional.of(new VerdictStore(configuration)), Optional.empty());
+        first.put(first.keyOf("SecurePass123!"), "valid;Awesome password, bro!");
+
+        // Act
+        var restarted = new VerdictCache(configuration, Optional.of(new VerdictStore(configuration)), Optional.empty());
+        restarted.warmUp();
+
+        // Assert
+        assertEquals(1, restarted.size());
+        assertEquals("valid;Awesome password, bro!", restarted.get(restarted.keyOf("SecurePass123!")));
+        assertNull(restarted.get(restarted.keyOf("OtherPass123!")));
+    }
+
+    @Test
+    void open_WrittenWithAnotherKey_ShouldStartEmpty() {
+        // Arrange
+        var store = new VerdictStore(configuration);
+        store.append(new VerdictCache(configuration, Optional.empty(), Optional.empty()).keyOf("SecurePass123!"),
+                new Verdict("valid;Nice", future()));
+        store.close();
+
+        // Act
+        configuration.setKey("rotated-secret");
+        var reopened = new VerdictStore(configuration);
+
+        // Assert
+        assertEquals(0, reopened.size());
+        assertTrue(liveEntries(reopened).isEmpty());
+    }
+
+    @Test
+    void constructor_WithoutKey_ShouldThrow() {
+        // Arrange
+        configuration.setKey("");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new VerdictStore(configuration));
+        assertFalse(Files.exists(directory.resolve("verdicts.log")));
+    }
+
+    @Test
+    void putLocal_FullCache_ShouldSkipUntilExpiredVerdictsAreEvicted() {
+        // Arrange
+        configuration.setMaxEntries(2);
+        var cache = new VerdictCache(configuration, Optional.empty(), Optional.empty());
+        cache.putLocal(cache.keyOf("expired"), new Verdict("invalid;Meh", System.currentTimeMillis() - 1));
+        cache.put(cache.keyOf("SecurePass123!"), "valid;Nice");
+
+        // Act
+        cache.put(cache.keyOf("OtherPass123!"), "valid;Nice too");
+        var skipped = cache.get(cache.keyOf("OtherPass123!"));
+        cache.evictExpired();
+        cache.put(cache.keyOf("OtherPass123!"), "valid;Nice too");
+
+        // Assert
+        assertNull(skipped);
+        assertEquals(2, cache.size());
+        assertEquals("valid;Nice too", cache.get(cache.keyOf("OtherPass123!")));
+    }
+
+    @Test
+    void put_FailingStore_ShouldStillCacheTheVerdict() {
+        // Arrange
+        var store = new VerdictStore(configuration) {
+            @Override
+            public boolean append(VerdictKey key, Verdict verdict) {
+                throw new RuntimeException("disk gone");
+            }
+        };
+        var cache = new VerdictCache(configuration, Optional.of(store), Optional.empty());
+
+        // Act
+        cache.put(cache.keyOf("SecurePass123!"), "valid;Nice");
+
+        // Assert
+        assertEquals("valid;Nice", cache.get(cache.keyOf("SecurePass123!")));
+    }
+
+    private static long future() {
+        return System.currentTimeMillis() + 60_000;
+    }
+
+    private static Map<VerdictKey, Verdict> liveEntries(VerdictStore store) {
+        var entries = new HashMap<VerdictKey, Verdict>();
+        store.forEachLive(entries::put);
+        return entries;
+    }
+}
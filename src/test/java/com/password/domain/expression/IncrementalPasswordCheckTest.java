@@ -0,0 +1,119 @@
+package com.password.domain.expression;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalPasswordCheckTest {
+
+    private IncrementalPasswordCheck check;
+    private PasswordValidator passwordValidator;
+
+    @BeforeEach
+    void setUp() {
+        check = new IncrementalPasswordCheck();
+        passwordValidator = new PasswordValidator();
+    }
+
+    @Test
+    void append_EachKeystroke_ShouldAgreeWithPasswordValidator() {
+        // Arrange
+        var password = "SecurePass123!";
+        var typed = new StringBuilder();
+
+        for (char c : password.toCharArray()) {
+            // Act
+            check.append(String.valueOf(c));
+            typed.append(c);
+
+            // Assert
+            assertEquals(passwordValidator.check(typed.toString()), check.firstBrokenRule(), typed.toString());
+        }
+    }
+
+    @Test
+    void changedRules_ShouldOnlyReportRulesThatFlipped() {
+        // Arrange
+        check.changedRules();
+
+        // Act
+        check.append("a");
+        var afterFirstCharacter = check.changedRules();
+        check.append("b");
+        var afterSecondCharacter = check.changedRules();
+        check.append("cdefgh");
+        var afterEighthCharacter = check.changedRules();
+
+        // Assert
+        assertEquals(List.of(PasswordRules.PASSWORD_IS_REQUIRED), afterFirstCharacter);
+        assertEquals(List.of(), afterSecondCharacter);
+        assertEquals(List.of(PasswordRules.AT_LEAST_8_CHARACTERS), afterEighthCharacter);
+    }
+
+    @Test
+    void delete_ShouldRevertTheRuleState() {
+        // Arrange
+        check.append("SecurePass123!");
+        check.changedRules();
+
+        // Act
+        check.delete(1);
+        var changed = check.changedRules();
+
+        // Assert
+        assertEquals(PasswordRules.AT_LEAST_RULES, check.firstBrokenRule());
+        assertEquals(List.of(PasswordRules.AT_LEAST_RULES, PasswordRules.PASSWORD_IS_VALID), changed);
+    }
+
+    @Test
+    void delete_MoreThanTyped_ShouldEmptyThePassword() {
+        // Arrange
+        check.append("abc");
+
+        // Act
+        check.delete(10);
+
+        // Assert
+        assertEquals(0, check.length());
+        assertEquals(PasswordRules.PASSWORD_IS_REQUIRED, check.firstBrokenRule());
+    }
+
+    @Test
+    void append_UnsupportedCharacter_ShouldBreakTheCharacterRule() {
+        // Act
+        check.append("SecurePass123! ");
+
+        // Assert
+        assertEquals(passwordValidator.check("SecurePass123! "), check.firstBrokenRule());
+        assertFalse(check.isSatisfied(PasswordRules.AT_LEAST_RULES));
+    }
+
+    @Test
+    void append_TooLong_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> check.append("a".repeat(IncrementalPasswordCheck.MAX_TRACKED_LENGTH + 1)));
+    }
+
+    @Test
+    void length_ShouldTrackPasswordsLongerThan128Characters() {
+        // Act
+        check.append("Aa1!".repeat(33));
+
+        // Assert
+        assertEquals(132, check.length());
+        assertEquals(PasswordRules.AT_MOST_128_CHARACTERS, check.firstBrokenRule());
+    }
+
+    @Test
+    void append_LookAlikeChars_ShouldAgreeWithPasswordValidator() {
+        // Act
+        check.append("S\u0435curePass１２３！");
+
+        // Assert
+        assertEquals(passwordValidator.check("S\u0435curePass１２３！"), check.firstBrokenRule());
+        assertEquals(PasswordRules.PASSWORD_IS_VALID, check.firstBrokenRule());
+    }
+}
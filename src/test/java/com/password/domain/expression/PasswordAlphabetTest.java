@@ -0,0 +1,56 @@
+package com.password.domain.expression;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordAlphabetTest {
+
+    @Test
+    void of_DefaultAlphabet_ShouldOnlyAcceptAsciiAndDefaultSpecials() {
+        var alphabet = PasswordAlphabet.DEFAULT;
+
+        assertEquals(CharacterClass.LOWERCASE, alphabet.of('a'));
+        assertEquals(CharacterClass.UPPERCASE, alphabet.of('Z'));
+        assertEquals(CharacterClass.DIGIT, alphabet.of('7'));
+        assertEquals(CharacterClass.SPECIAL, alphabet.of('@'));
+        assertEquals(CharacterClass.OTHER, alphabet.of('#'));
+        assertEquals(CharacterClass.OTHER, alphabet.of('é'));
+        assertEquals(CharacterClass.OTHER, alphabet.of('\uD83D'));
+    }
+
+    @Test
+    void of_ConfiguredSpecialCharacters_ShouldReplaceTheDefaults() {
+        // Arrange
+        var configuration = new AlphabetConfiguration();
+        configuration.setSpecialCharacters("#-");
+
+        // Act
+        var alphabet = new PasswordAlphabet(configuration);
+
+        // Assert
+        assertEquals(CharacterClass.SPECIAL, alphabet.of('#'));
+        assertEquals(CharacterClass.SPECIAL, alphabet.of('-'));
+        assertEquals(CharacterClass.OTHER, alphabet.of('@'));
+    }
+
+    @Test
+    void of_UnicodeAlphabet_ShouldClassifyAnyScript() {
+        // Arrange
+        var configuration = new AlphabetConfiguration();
+        configuration.setUnicode(true);
+
+        // Act
+        var alphabet = new PasswordAlphabet(configuration);
+
+        // Assert
+        assertEquals(CharacterClass.LOWERCASE, alphabet.of('é'));
+        assertEquals(CharacterClass.UPPERCASE, alphabet.of('É'));
+        assertEquals(CharacterClass.LOWERCASE, alphabet.of('密'));
+        assertEquals(CharacterClass.DIGIT, alphabet.of('٣'));
+        assertEquals(CharacterClass.SPECIAL, alphabet.of('§'));
+        assertEquals(CharacterClass.SPECIAL, alphabet.of('#'));
+        assertEquals(CharacterClass.OTHER, alphabet.of(' '));
+        assertEquals(CharacterClass.REQUIRED_MASK, alphabet.mask("MotéPasse٣§"));
+    }
+}
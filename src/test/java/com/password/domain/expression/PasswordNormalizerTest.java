@@ -0,0 +1,78 @@
+package com.password.domain.expression;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordNormalizerTest {
+
+    private final PasswordNormalizer normalizer = PasswordNormalizer.DEFAULT;
+
+    @Test
+    void normalize_AsciiPassword_ShouldReturnTheSameInstance() {
+        // Arrange
+        var password = "SecurePass123!";
+
+        // Act & Assert
+        assertSame(password, normalizer.normalize(password));
+        assertNull(normalizer.normalize(null));
+    }
+
+    @Test
+    void normalize_FullwidthAndCompatibilityChars_ShouldApplyNfkc() {
+        assertEquals("SecurePass123!", normalizer.normalize("ＳｅｃｕｒｅＰass１２３！"));
+        assertEquals("fine", normalizer.normalize("ﬁne"));
+        assertEquals("Pass", normalizer.normalize("𝐏ass"));
+    }
+
+    @Test
+    void normalize_Confusables_ShouldFoldOntoAscii() {
+        // Cyrillic а, е, о and Greek Ρ
+        assertEquals("SecurePass123!", normalizer.normalize("SеcurеΡаss123!"));
+        assertEquals("pass-word", normalizer.normalize("pass—wоrd"));
+    }
+
+    @Test
+    void normalize_CombiningSequence_ShouldCompose() {
+        assertEquals("café", normalizer.normalize("café"));
+        assertEquals("été", normalizer.normalize("été"));
+    }
+
+    @Test
+    void normalize_Buffer_ShouldMatchTheStringForm() {
+        for (var password : new String[] { "SecurePass123!", "Ｓｅｃｕｒｅ１２３！", "Sеcurе",
+                "café", "ﬁne" }) {
+            // Arrange
+            var buffer = new char[128];
+            password.getChars(0, password.length(), buffer, 0);
+
+            // Act
+            var length = normalizer.normalize(buffer, password.length());
+
+            // Assert
+            assertEquals(normalizer.normalize(password), new String(buffer, 0, length), password);
+        }
+    }
+
+    @Test
+    void fold_SingleChars_ShouldMatchNormalize() {
+        assertEquals('a', normalizer.fold('а'));
+        assertEquals('A', normalizer.fold('Ａ'));
+        assertEquals('x', normalizer.fold('x'));
+        assertEquals('ﬁ', normalizer.fold('ﬁ'));
+    }
+
+    @Test
+    void normalize_Disabled_ShouldLeaveThePasswordAlone() {
+        // Arrange
+        var configuration = new AlphabetConfiguration();
+        configuration.setNormalize(false);
+        configuration.setFoldConfusables(false);
+        var disabled = new PasswordNormalizer(configuration);
+        var password = "Ｓеcure";
+
+        // Act & Assert
+        assertSame(password, disabled.normalize(password));
+        assertEquals('а', disabled.fold('а'));
+    }
+}
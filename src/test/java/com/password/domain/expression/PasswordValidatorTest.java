@@ -191,4 +191,49 @@ class PasswordValidatorTest {
         assertEquals("Password is valid", response.getMessage());
         assertEquals("Abc123!@", response.getPassword());
     }
+
+    @Test
+    void check_ShouldReturnTheBrokenRule() {
+        assertEquals(PasswordRules.PASSWORD_IS_REQUIRED, passwordValidator.check(null));
+        assertEquals(PasswordRules.AT_LEAST_8_CHARACTERS, passwordValidator.check("Short1!"));
+        assertEquals(PasswordRules.AT_MOST_128_CHARACTERS, passwordValidator.check("a".repeat(129) + "A1!"));
+        assertEquals(PasswordRules.AT_LEAST_RULES, passwordValidator.check("securepass123!"));
+        assertEquals(PasswordRules.PASSWORD_IS_VALID, passwordValidator.check("SecurePass123!"));
+    }
+
+    @Test
+    void checkBuffer_ShouldMatchCheckOnTheSameChars() {
+        // Arrange
+        var buffer = new char[16];
+        "SecurePass123!".getChars(0, 14, buffer, 0);
+
+        // Act & Assert
+        assertEquals(PasswordRules.PASSWORD_IS_REQUIRED, passwordValidator.check(null, 0));
+        assertEquals(PasswordRules.AT_LEAST_8_CHARACTERS, passwordValidator.check(buffer, 7));
+        assertEquals(PasswordRules.PASSWORD_IS_VALID, passwordValidator.check(buffer, 14));
+        // Chars past the length are not part of the password
+        assertEquals(PasswordRules.AT_LEAST_RULES, passwordValidator.check(buffer, 15));
+        // Only the length of an oversized password is known
+        assertEquals(PasswordRules.AT_MOST_128_CHARACTERS, passwordValidator.check(buffer, 200));
+    }
+
+    @Test
+    void check_LookAlikeAndFullwidthChars_ShouldBeJudgedAsTheirAsciiForm() {
+        // Cyrillic е and fullwidth digits and exclamation mark
+        assertEquals(PasswordRules.PASSWORD_IS_VALID, passwordValidator.check("S\u0435curePass１２３！"));
+        assertEquals(PasswordRules.AT_LEAST_RULES, passwordValidator.check("S\u00E9curePass123!"));
+    }
+
+    @Test
+    void check_UnicodeAlphabet_ShouldAcceptOtherScripts() {
+        // Arrange
+        var configuration = new AlphabetConfiguration();
+        configuration.setUnicode(true);
+        var unicodeValidator = new PasswordValidator(new PasswordAlphabet(configuration),
+                new PasswordNormalizer(configuration));
+
+        // Act & Assert
+        assertEquals(PasswordRules.PASSWORD_IS_VALID, unicodeValidator.check("S\u00E9curit\u00E9123#"));
+        assertEquals(PasswordRules.AT_LEAST_RULES, unicodeValidator.check("S\u00E9curit\u00E9 123#"));
+    }
 }
@@ -0,0 +1,180 @@
+package com.password.domain.hashing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+import com.password.model.HashAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private HashingConfiguration configuration;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new HashingConfiguration();
+        configuration.setPoolSize(2);
+        configuration.setQueueCapacity(4);
+        configuration.getArgon2().setMemoryKib(1024);
+        configuration.getArgon2().setIterations(1);
+        configuration.getBcrypt().setCost(4);
+        configuration.getBcrypt().setMinCost(4);
+        configuration.getBcrypt().setMaxCost(6);
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(configuration, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.close();
+    }
+
+    @Test
+    void hash_Argon2id_ShouldVerifyOnlyTheSamePassword() {
+        // Act
+        var hash = passwordHasher.hash("SecurePass123!".toCharArray(), HashAlgorithm.ARGON2ID);
+
+        // Assert
+        assertTrue(hash.startsWith("$argon2id$v=19$m=1024,t=1,p=1$"));
+        assertTrue(passwordHasher.verify("SecurePass123!".toCharArray(), hash));
+        assertFalse(passwordHasher.verify("SecurePass123?".toCharArray(), hash));
+    }
+
+    @Test
+    void hash_BCrypt_ShouldVerifyOnlyTheSamePassword() {
+        // Act
+        var hash = passwordHasher.hash("SecurePass123!".toCharArray(), HashAlgorithm.BCRYPT);
+
+        // Assert
+        assertTrue(hash.startsWith("$2y$04$"));
+        assertTrue(passwordHasher.verify("SecurePass123!".toCharArray(), hash));
+        assertFalse(passwordHasher.verify("SecurePass123?".toCharArray(), hash));
+    }
+
+    @Test
+    void hash_ShouldZeroThePassword() {
+        // Arrange
+        var password = "SecurePass123!".toCharArray();
+
+        // Act
+        passwordHasher.hash(password, null);
+
+        // Assert
+        assertArrayEquals(new char[password.length], password);
+    }
+
+    @Test
+    void hash_TimedOut_ShouldZeroThePasswordOnlyOnceTheHashIsDone() throws InterruptedException {
+        // Arrange
+        configuration.getArgon2().setMemoryKib(16_384);
+        configuration.getArgon2().setIterations(8);
+        configuration.setMaxWait(Duration.ofMillis(1));
+        var slowHasher = new PasswordHasher(configuration, meterRegistry);
+        var password = "SecurePass123!".toCharArray();
+
+        try {
+            // Act
+            assertThrows(HashingUnavailableException.class, () -> slowHasher.hash(password, HashAlgorithm.ARGON2ID));
+            var zeroedWhileRunning = password[0] == 0;
+            var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (password[0] != 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            // Assert
+            assertFalse(zeroedWhileRunning);
+            assertArrayEquals(new char[password.length], password);
+        } finally {
+            slowHasher.close();
+        }
+    }
+
+    @Test
+    void verify_UnknownFormat_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> passwordHasher.verify("SecurePass123!".toCharArray(), "plaintext"));
+    }
+
+    @Test
+    void verify_Argon2idAboveTheConfiguredCost_ShouldThrowBeforeHashing() {
+        // Arrange
+        var hash = passwordHasher.hash("SecurePass123!".toCharArray(), HashAlgorithm.ARGON2ID);
+        var salt = hash.split("\\$")[4];
+        var output = hash.split("\\$")[5];
+
+        // Act & Assert
+        for (var parameters : new String[] {"m=1024,t=100000,p=1", "m=1024,t=1,p=64", "m=1048576,t=1,p=1"}) {
+            var costly = "$argon2id$v=19$" + parameters + "$" + salt + "$" + output;
+            assertThrows(IllegalArgumentException.class,
+                    () -> passwordHasher.verifyAsync("SecurePass123!".toCharArray(), costly), parameters);
+        }
+        var longOutput = "$argon2id$v=19$m=1024,t=1,p=1$" + salt + "$" + output.repeat(8);
+        assertThrows(IllegalArgumentException.class,
+                () -> passwordHasher.verifyAsync("SecurePass123!".toCharArray(), longOutput));
+        assertEquals(0, meterRegistry.get("password.hashing.latency").tag("operation", "verify")
+                .tag("algorithm", "ARGON2ID").timer().count());
+    }
+
+    @Test
+    void verify_BCryptAboveTheConfiguredCost_ShouldThrowBeforeHashing() {
+        // Arrange
+        var hash = passwordHasher.hash("SecurePass123!".toCharArray(), HashAlgorithm.BCRYPT);
+        var costly = "$2b$31$" + hash.substring(7);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> passwordHasher.verifyAsync("SecurePass123!".toCharArray(), costly));
+        assertThrows(IllegalArgumentException.class,
+                () -> passwordHasher.verifyAsync("SecurePass123!".toCharArray(), "$2b$05$short"));
+        assertEquals(0, meterRegistry.get("password.hashing.latency").tag("operation", "verify")
+                .tag("algorithm", "BCRYPT").timer().count());
+    }
+
+    @Test
+    void hash_SaturatedPool_ShouldRejectInsteadOfQueueingForever() {
+        // Arrange
+        configuration.getArgon2().setMemoryKib(16_384);
+        configuration.getArgon2().setIterations(8);
+        var slowHasher = new PasswordHasher(configuration, meterRegistry);
+        var password = "SecurePass123!".toCharArray();
+        var hash = slowHasher.hash(password.clone(), HashAlgorithm.ARGON2ID);
+        var futures = new ArrayList<CompletableFuture<Boolean>>();
+
+        try {
+            // Act & Assert: 2 threads + 4 queued slots, the next one is rejected. An idle
+            // thread may not have taken its task off the queue yet, so one less may fit.
+            assertThrows(HashingUnavailableException.class, () -> {
+                for (int i = 0; i < 20; i++) {
+                    futures.add(slowHasher.verifyAsync(password, hash));
+                }
+            });
+            assertTrue(futures.size() >= 5 && futures.size() <= 6, "accepted=" + futures.size());
+            assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        } finally {
+            slowHasher.close();
+        }
+    }
+
+    @Test
+    void calibrate_ShouldStayWithinTheConfiguredCostRange() {
+        // Arrange
+        configuration.setTargetLatency(Duration.ofMillis(50));
+
+        // Act
+        passwordHasher.calibrate();
+        var argon2Hash = passwordHasher.hash("SecurePass123!".toCharArray(), HashAlgorithm.ARGON2ID);
+        var bcryptHash = passwordHasher.hash("SecurePass123!".toCharArray(), HashAlgorithm.BCRYPT);
+
+        // Assert
+        assertTrue(argon2Hash.matches("\\$argon2id\\$v=19\\$m=1024,t=([1-9]|10),p=1\\$.*"), argon2Hash);
+        assertTrue(bcryptHash.matches("\\$2y\\$0[4-6]\\$.*"), bcryptHash);
+    }
+}
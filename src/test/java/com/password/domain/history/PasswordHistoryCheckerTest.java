@@ -0,0 +1,99 @@
+package com.password.domain.history;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.password.domain.hashing.HashingConfiguration;
+import com.password.domain.hashing.HashingUnavailableException;
+import com.password.domain.hashing.PasswordHasher;
+import com.password.model.HashAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHistoryCheckerTest {
+
+    private HashingConfiguration hashingConfiguration;
+    private PasswordHistoryConfiguration configuration;
+    private PasswordHasher passwordHasher;
+    private PasswordHistoryChecker checker;
+
+    @BeforeEach
+    void setUp() {
+        hashingConfiguration = new HashingConfiguration();
+        hashingConfiguration.setPoolSize(2);
+        hashingConfiguration.setQueueCapacity(16);
+        hashingConfiguration.getArgon2().setMemoryKib(1024);
+        hashingConfiguration.getArgon2().setIterations(1);
+        hashingConfiguration.getBcrypt().setCost(4);
+        passwordHasher = new PasswordHasher(hashingConfiguration, new SimpleMeterRegistry());
+        configuration = new PasswordHistoryConfiguration();
+        checker = new PasswordHistoryChecker(passwordHasher, configuration, hashingConfiguration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.close();
+    }
+
+    @Test
+    void isReused_MatchingPreviousHash_ShouldReturnTrue() {
+        // Arrange
+        var history = List.of(
+                passwordHasher.hash("OldPass111!".toCharArray(), HashAlgorithm.ARGON2ID),
+                passwordHasher.hash("SecurePass123!".toCharArray(), HashAlgorithm.BCRYPT),
+                passwordHasher.hash("OldPass222!".toCharArray(), HashAlgorithm.ARGON2ID));
+
+        // Act & Assert
+        assertTrue(checker.isReused("SecurePass123!", history));
+        assertFalse(checker.isReused("SecurePass124!", history));
+    }
+
+    @Test
+    void isReused_NoHistory_ShouldNotHash() {
+        assertFalse(checker.isReused("SecurePass123!", null));
+        assertFalse(checker.isReused("SecurePass123!", List.of()));
+    }
+
+    @Test
+    void isReused_TooManyOrUnsupportedHashes_ShouldThrow() {
+        // Arrange
+        configuration.setMaxEntries(2);
+        var tooMany = Collections.nCopies(3, "$2y$04$abcdefghijklmnopqrstuu");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> checker.isReused("SecurePass123!", tooMany));
+        assertThrows(IllegalArgumentException.class,
+                () -> checker.isReused("SecurePass123!", List.of("$1$md5crypt")));
+    }
+
+    @Test
+    void constructor_MaxEntriesBeyondTheBudget_ShouldThrow() {
+        // Arrange: 2 threads at 250 ms fit 16 hashes in 2 s
+        configuration.setMaxEntries(17);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> new PasswordHistoryChecker(passwordHasher, configuration, hashingConfiguration));
+        configuration.setMaxEntries(16);
+        assertDoesNotThrow(() -> new PasswordHistoryChecker(passwordHasher, configuration, hashingConfiguration));
+    }
+
+    @Test
+    void isReused_BudgetExceeded_ShouldThrowUnavailable() {
+        // Arrange
+        var history = new ArrayList<String>();
+        for (int i = 0; i < 8; i++) {
+            history.add(passwordHasher.hash(("OldPass" + i + "!").toCharArray(), HashAlgorithm.ARGON2ID));
+        }
+        configuration.setLatencyBudget(Duration.ofNanos(1));
+
+        // Act & Assert
+        assertThrows(HashingUnavailableException.class, () -> checker.isReused("SecurePass123!", history));
+    }
+}
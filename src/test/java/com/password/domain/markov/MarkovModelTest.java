@@ -0,0 +1,103 @@
+package com.password.domain.markov;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkovModelTest {
+
+    @TempDir
+    Path directory;
+
+    private Path model;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        model = directory.resolve("markov.bin");
+        new MarkovTrainer(3, 0.01).train(wordlist(directory), model);
+    }
+
+    @Test
+    void open_TrainedModel_ShouldReadHeader() {
+        // Act
+        var markovModel = MarkovModel.open(model);
+
+        // Assert
+        assertEquals(3, markovModel.getOrder());
+        assertTrue(markovModel.getAlphabetSize() > 20);
+    }
+
+    @Test
+    void guessesLog10_CommonPatterns_ShouldScoreBelowRandomPasswords() {
+        // Arrange
+        var markovModel = MarkovModel.open(model);
+
+        // Act
+        var common = markovModel.guessesLog10("Password77!");
+        var random = markovModel.guessesLog10("Xq7$Lm@9vR!z");
+
+        // Assert
+        assertTrue(common < 8, "common pattern scored 10^" + common);
+        assertTrue(random > 15, "random password scored 10^" + random);
+        assertTrue(markovModel.bits("password1") < markovModel.bits("drowssap1"));
+    }
+
+    @Test
+    void guessesLog10_UnknownChars_ShouldCostMoreThanKnownOnes() {
+        // Arrange
+        var markovModel = MarkovModel.open(model);
+
+        // Act & Assert
+        assertTrue(markovModel.bits("passwordé") > markovModel.bits("password"));
+        assertTrue(Double.isFinite(markovModel.bits("😀")));
+    }
+
+    @Test
+    void bits_AfterAnUnknownChar_ShouldStartOver() {
+        // Arrange
+        var markovModel = MarkovModel.open(model);
+
+        // Act
+        var prefix = markovModel.bits("passé") - markovModel.bits("");
+        var whole = markovModel.bits("passéword");
+
+        // Assert: what follows is scored as if the password started there
+        assertEquals(prefix + markovModel.bits("word"), whole, 1e-6);
+    }
+
+    @Test
+    void open_NotAModel_ShouldThrow() throws IOException {
+        // Arrange
+        var notAModel = Files.writeString(directory.resolve("not-a-model.bin"), "password123\n");
+        var truncated = directory.resolve("truncated.bin");
+        Files.write(truncated, Arrays.copyOf(Files.readAllBytes(model), 100));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> MarkovModel.open(notAModel));
+        assertThrows(IllegalStateException.class, () -> MarkovModel.open(truncated));
+    }
+
+    /**
+     * Small stand-in for a leaked password list
+     */
+    static Path wordlist(Path directory) throws IOException {
+        var passwords = new ArrayList<String>();
+        for (var word : new String[] { "password", "Password", "iloveyou", "monkey", "dragon", "qwerty", "sunshine",
+                "princess", "football", "welcome", "letmein", "shadow", "master", "abc" }) {
+            for (int i = 0; i < 300; i++) {
+                passwords.add(word + i);
+                passwords.add(word + (i % 100) + "!");
+                passwords.add(word + "@" + (1950 + i % 75));
+            }
+        }
+        return Files.write(directory.resolve("wordlist.txt"), passwords);
+    }
+}
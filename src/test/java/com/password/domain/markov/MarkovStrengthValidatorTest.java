@@ -0,0 +1,66 @@
+package com.password.domain.markov;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.password.domain.expression.PasswordRules;
+import com.password.domain.expression.PasswordValidator;
+import com.password.model.PasswordResponseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkovStrengthValidatorTest {
+
+    @TempDir
+    Path directory;
+
+    private MarkovStrengthValidator validator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        var model = directory.resolve("markov.bin");
+        new MarkovTrainer(3, 0.01).train(MarkovModelTest.wordlist(directory), model);
+
+        var configuration = new MarkovConfiguration();
+        configuration.setEnabled(true);
+        configuration.setModelPath(model.toString());
+        validator = new MarkovStrengthValidator(new PasswordValidator(), configuration);
+    }
+
+    @Test
+    void validate_BrokenRule_ShouldReportTheRule() {
+        // Act
+        var result = validator.validate("short1!");
+
+        // Assert
+        assertEquals(PasswordRules.AT_LEAST_8_CHARACTERS, result.rule());
+        assertEquals(PasswordResponseStatus.INVALID, result.response().getStatus());
+        assertTrue(Double.isNaN(result.guessesLog10()));
+    }
+
+    @Test
+    void validate_GuessablePassword_ShouldBeInvalid() {
+        // Act
+        var result = validator.validate("Password77!");
+
+        // Assert
+        assertNull(result.rule());
+        assertEquals(PasswordResponseStatus.INVALID, result.response().getStatus());
+        assertTrue(result.response().getMessage().startsWith("Too guessable"));
+        assertEquals("Password77!", result.response().getPassword());
+    }
+
+    @Test
+    void validate_UnpredictablePassword_ShouldBeValid() {
+        // Act
+        var result = validator.validate("Xq7$Lm@9vR!z");
+
+        // Assert
+        assertEquals(PasswordRules.PASSWORD_IS_VALID, result.rule());
+        assertEquals(PasswordResponseStatus.VALID, result.response().getStatus());
+        assertTrue(result.guessesLog10() >= 10);
+    }
+}
@@ -0,0 +1,101 @@
+package com.password.domain.passphrase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.password.domain.expression.AlphabetConfiguration;
+import com.password.domain.expression.PasswordAlphabet;
+import com.password.domain.expression.PasswordRules;
+import com.password.domain.expression.PasswordValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassphraseGeneratorTest {
+
+    @TempDir
+    Path directory;
+
+    private PassphraseConfiguration configuration;
+    private PassphraseGenerator generator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        var file = directory.resolve("words.bin");
+        WordlistCompiler.compile(PassphraseWordlistTest.wordlist(directory, 7776), file);
+
+        configuration = new PassphraseConfiguration();
+        configuration.setEnabled(true);
+        configuration.setWordlistPath(file.toString());
+        var alphabetConfiguration = new AlphabetConfiguration();
+        generator = new PassphraseGenerator(configuration, alphabetConfiguration,
+                new PasswordAlphabet(alphabetConfiguration));
+    }
+
+    @Test
+    void generate_Decorated_ShouldPassTheRules() {
+        // Arrange
+        var passwordValidator = new PasswordValidator();
+        var options = generator.options(null, null, null);
+
+        for (int i = 0; i < 1_000; i++) {
+            // Act
+            var passphrase = generator.generate(options);
+
+            // Assert
+            assertEquals(PasswordRules.PASSWORD_IS_VALID, passwordValidator.check(passphrase), passphrase);
+        }
+    }
+
+    @Test
+    void generate_FixedSeparator_ShouldJoinTheRequestedWords() {
+        // Arrange
+        var options = generator.options(5, "--", false);
+
+        // Act
+        var passphrase = generator.generate(options);
+
+        // Assert
+        assertEquals("-", options.separators());
+        assertEquals(5, passphrase.split("-").length);
+        assertTrue(passphrase.chars().allMatch(c -> c == '-' || c >= 'a' && c <= 'z'), passphrase);
+    }
+
+    @Test
+    void generate_ShouldPickWordsUniformly() {
+        // Arrange
+        var options = generator.options(4, "", false);
+        var secondLetters = new int[26];
+
+        // Act
+        for (int i = 0; i < 26_000; i++) {
+            secondLetters[generator.generate(options).charAt(1) - 'a']++;
+        }
+
+        // Assert: the second letter of the test words is their index modulo 26
+        for (var count : secondLetters) {
+            assertTrue(count > 500 && count < 1_500, "Skewed pick: " + count);
+        }
+    }
+
+    @Test
+    void options_OutOfBounds_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> generator.options(3, null, null));
+        assertThrows(IllegalArgumentException.class, () -> generator.options(11, null, null));
+        assertThrows(IllegalArgumentException.class, () -> generator.options(6, "-", true));
+        assertDoesNotThrow(() -> generator.options(6, "-", false));
+    }
+
+    @Test
+    void entropyBits_ShouldCountWordsSeparatorsAndDecorations() {
+        // Arrange
+        var plain = generator.options(6, "", false);
+        var decorated = generator.options(6, null, true);
+
+        // Act & Assert
+        assertEquals(6 * Math.log(7776) / Math.log(2), generator.entropyBits(plain), 1e-9);
+        assertTrue(generator.entropyBits(decorated) > generator.entropyBits(plain) + 20);
+    }
+}
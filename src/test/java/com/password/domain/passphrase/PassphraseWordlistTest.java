@@ -0,0 +1,89 @@
+package com.password.domain.passphrase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassphraseWordlistTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Writes a diceware-style wordlist of {@code size} distinct words
+     */
+    static Path wordlist(Path directory, int size) throws IOException {
+        var lines = new ArrayList<String>();
+        for (int i = 0; i < size; i++) {
+            var word = new StringBuilder("w");
+            for (int n = i; n > 0 || word.length() < 4; n /= 26) {
+                word.append((char) ('a' + n % 26));
+            }
+            lines.add((11111 + i) + "\t" + word);
+        }
+        return Files.write(directory.resolve("wordlist.txt"), lines);
+    }
+
+    @Test
+    void compile_DicewareList_ShouldKeepTheWordsInOrder() throws IOException {
+        // Arrange
+        var text = Files.write(directory.resolve("words.txt"),
+                List.of("11111\tabacus", "11112\tAbdomen", "", "11113\tabdomen", "11114\tx-ray", "11115\tzebra"));
+        var file = directory.resolve("words.bin");
+
+        // Act
+        WordlistCompiler.compile(text, file);
+        var wordlist = PassphraseWordlist.open(file);
+
+        // Assert
+        assertEquals(3, wordlist.size());
+        assertEquals("abacus", wordlist.word(0));
+        assertEquals("abdomen", wordlist.word(1));
+        assertEquals("zebra", wordlist.word(2));
+        assertEquals(7, wordlist.maxLength());
+        assertEquals(Math.log(3) / Math.log(2), wordlist.bitsPerWord(), 1e-9);
+    }
+
+    @Test
+    void appendWord_ShouldAppendWithoutSeparators() throws IOException {
+        // Arrange
+        var file = directory.resolve("words.bin");
+        WordlistCompiler.compile(wordlist(directory, 7776), file);
+        var wordlist = PassphraseWordlist.open(file);
+        var target = new StringBuilder("x");
+
+        // Act
+        wordlist.appendWord(0, target);
+        wordlist.appendWord(7775, target);
+
+        // Assert
+        assertEquals(7776, wordlist.size());
+        assertEquals("x" + wordlist.word(0) + wordlist.word(7775), target.toString());
+    }
+
+    @Test
+    void open_NotAWordlist_ShouldThrow() throws IOException {
+        // Arrange
+        var file = Files.write(directory.resolve("words.bin"), new byte[64]);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> PassphraseWordlist.open(file));
+    }
+
+    @Test
+    void compile_TooFewWords_ShouldThrow() throws IOException {
+        // Arrange
+        var text = Files.write(directory.resolve("words.txt"), List.of("abacus", "ab", "12345"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> WordlistCompiler.compile(text, directory.resolve("words.bin")));
+    }
+}